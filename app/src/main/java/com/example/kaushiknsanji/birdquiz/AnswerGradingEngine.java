@@ -0,0 +1,87 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import java.util.List;
+
+/**
+ * Class that grades the answers submitted for a Question, without any dependency on Android.
+ * The Options of a RadioButton or a CheckBox based Question are graded as bitmasks of the
+ * indices of the Options, and the answer of a Textual Question is matched through the {@link TextualAnswerMatcher}.
+ * The grade is 0 when the answer is incorrect, 1 when correct, and in between when partially correct.
+ *
+ * @author Kaushik N Sanji
+ */
+public final class AnswerGradingEngine {
+
+    //Grades of the incorrect and the correct answers
+    public static final double GRADE_INCORRECT = 0;
+    public static final double GRADE_CORRECT = 1;
+
+    /**
+     * Private Constructor to avoid instantiating the {@link AnswerGradingEngine}
+     */
+    private AnswerGradingEngine() {
+    }
+
+    /**
+     * Method that returns the bitmask of the indices of the Options that are the Answer Keys.
+     * To be computed once for a Question.
+     *
+     * @param options is the String array of the Options of the Question
+     * @param keys    is the List of the Answer Keys of the Question
+     * @return Integer bitmask where the bit of the index of an Option is set when the Option is a Key
+     */
+    public static int createKeyMask(String[] options, List<String> keys) {
+        int keyMask = 0;
+        for (int optionIndex = 0; optionIndex < options.length; optionIndex++) {
+            if (keys.contains(options[optionIndex])) {
+                keyMask |= (1 << optionIndex);
+            }
+        }
+        return keyMask;
+    }
+
+    /**
+     * Method that grades the Options selected for a RadioButton or a CheckBox based Question.
+     * The number of the correct Options selected is normalized by the number of Keys,
+     * or the number of Options selected when more than the Keys.
+     *
+     * @param keyMask      is the Integer bitmask of the indices of the Options that are the Keys
+     * @param selectedMask is the Integer bitmask of the indices of the Options selected
+     * @return Double value of the grade between 0 and 1
+     */
+    public static double gradeOptions(int keyMask, int selectedMask) {
+        int normalizingCount = Math.max(Integer.bitCount(keyMask), Integer.bitCount(selectedMask));
+        if (normalizingCount == 0) {
+            return GRADE_INCORRECT;
+        }
+        return (double) Integer.bitCount(keyMask & selectedMask) / normalizingCount;
+    }
+
+    /**
+     * Method that grades the answer of a Textual Question
+     *
+     * @param answerMatcher is the {@link TextualAnswerMatcher} prepared with the Keys of the Question
+     * @param answer        is the CharSequence containing the answer submitted
+     * @return Double value of the grade, either 0 or 1
+     */
+    public static double gradeTextualAnswer(TextualAnswerMatcher answerMatcher, CharSequence answer) {
+        return answerMatcher.matches(answer) ? GRADE_CORRECT : GRADE_INCORRECT;
+    }
+
+}
@@ -0,0 +1,752 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.util.Log;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Class that stores the encoded images downloaded, in a directory on the disk
+ * that persists across the launches of the app.
+ * <p>
+ * Each image is stored in a file named by the hash of its URL. The cache is limited to a
+ * max size in bytes, evicting the least recently used images when exceeded. All the operations
+ * are recorded in a journal file, which is replayed when the cache is reopened, so that any
+ * image left partially written by a crash gets discarded. Images are written to a temporary file
+ * first, and are renamed to their actual file only on commit.
+ *
+ * @author Kaushik N Sanji
+ */
+public final class BitmapDiskCache {
+
+    private static final String TAG = BitmapDiskCache.class.getSimpleName();
+    //Constants for the Journal file
+    private static final String JOURNAL_FILE_NAME = "journal";
+    private static final String JOURNAL_FILE_TEMP_NAME = "journal.tmp";
+    private static final String JOURNAL_FILE_BACKUP_NAME = "journal.bkp";
+    private static final String JOURNAL_MAGIC = "com.example.kaushiknsanji.birdquiz.BitmapDiskCache";
+    private static final String JOURNAL_VERSION = "1";
+    //Operations recorded in the Journal file
+    private static final String DIRTY = "DIRTY"; //When an image is being written
+    private static final String CLEAN = "CLEAN"; //When an image was written successfully
+    private static final String REMOVE = "REMOVE"; //When an image was removed
+    private static final String READ = "READ"; //When an image was read
+    //Extension of the temporary files written before commit
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+    //Number of redundant operations in the Journal after which it will be compacted
+    private static final int REDUNDANT_OP_COMPACT_THRESHOLD = 2000;
+    //Charset used for the Journal file
+    private static final Charset JOURNAL_CHARSET = Charset.forName("US-ASCII");
+    //Stores the directory of the cache
+    private final File mDirectory;
+    //Stores the max size of the cache in bytes
+    private final long mMaxSize;
+    //Stores the entries of the cache in their access order (least recently used first)
+    private final LinkedHashMap<String, Entry> mEntries = new LinkedHashMap<>(0, 0.75f, true);
+    //Stores the current size of the cache in bytes
+    private long mSize;
+    //Stores the count of operations in the Journal that are no longer required
+    private int mRedundantOpCount;
+    //Stores the Writer for appending the operations to the Journal
+    private Writer mJournalWriter;
+
+    /**
+     * Private Constructor of {@link BitmapDiskCache}. Use {@link #open(File, long)} to open the cache.
+     *
+     * @param directory is the directory of the cache
+     * @param maxSize   is the max size of the cache in bytes
+     */
+    private BitmapDiskCache(File directory, long maxSize) {
+        mDirectory = directory;
+        mMaxSize = maxSize;
+    }
+
+    /**
+     * Method that opens the cache in the directory passed, creating the directory if not present.
+     * This needs to be called from a worker thread as it reads the Journal from the disk.
+     *
+     * @param directory is the directory of the cache
+     * @param maxSize   is the max size of the cache in bytes
+     * @return Instance of the {@link BitmapDiskCache} opened
+     * @throws IOException when the directory or the Journal could not be created
+     */
+    public static BitmapDiskCache open(File directory, long maxSize) throws IOException {
+        //Restoring the backup of the Journal if the last compaction did not complete
+        File backupFile = new File(directory, JOURNAL_FILE_BACKUP_NAME);
+        if (backupFile.exists()) {
+            File journalFile = new File(directory, JOURNAL_FILE_NAME);
+            if (journalFile.exists()) {
+                //Deleting the backup when the Journal was already renamed
+                deleteIfExists(backupFile);
+            } else {
+                renameTo(backupFile, journalFile, false);
+            }
+        }
+
+        BitmapDiskCache diskCache = new BitmapDiskCache(directory, maxSize);
+
+        if (new File(directory, JOURNAL_FILE_NAME).exists()) {
+            //Replaying the Journal when present
+            try {
+                boolean journalComplete = diskCache.readJournal();
+                diskCache.processJournal();
+                if (journalComplete) {
+                    diskCache.mJournalWriter = newJournalWriter(new File(directory, JOURNAL_FILE_NAME), true);
+                } else {
+                    //Rewriting the Journal when its last line was left incomplete by a crash
+                    diskCache.rebuildJournal();
+                }
+                return diskCache;
+            } catch (IOException e) {
+                //Starting afresh when the Journal is not readable
+                Log.e(TAG, "open: Journal is corrupt, clearing the cache at " + directory, e);
+                deleteContents(directory);
+            }
+        }
+
+        //Creating the directory with a new Journal
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Failed to create the directory " + directory);
+        }
+        diskCache = new BitmapDiskCache(directory, maxSize);
+        diskCache.rebuildJournal();
+        return diskCache;
+    }
+
+    /**
+     * Method that returns the Key used for storing the image of the URL passed
+     *
+     * @param imageURLStr is the URL of the image
+     * @return String containing the hexadecimal hash of the URL
+     */
+    public static String hashKeyForURL(String imageURLStr) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+            byte[] digestBytes = messageDigest.digest(imageURLStr.getBytes(Charset.forName("UTF-8")));
+
+            //Converting to hexadecimal
+            StringBuilder keyBuilder = new StringBuilder(digestBytes.length * 2);
+            for (byte digestByte : digestBytes) {
+                String hexStr = Integer.toHexString(0xFF & digestByte);
+                if (hexStr.length() == 1) {
+                    keyBuilder.append('0');
+                }
+                keyBuilder.append(hexStr);
+            }
+            return keyBuilder.toString();
+
+        } catch (NoSuchAlgorithmException e) {
+            //Falling back to the hash code of the URL
+            return String.valueOf(imageURLStr.hashCode());
+        }
+    }
+
+    /**
+     * Method that returns a Writer for appending to the Journal file passed
+     *
+     * @param journalFile is the Journal file to be written
+     * @param append      is a boolean to append to the file (True) or to overwrite the file (False)
+     * @return Writer for the Journal file
+     * @throws FileNotFoundException when the Journal file could not be opened
+     */
+    private static Writer newJournalWriter(File journalFile, boolean append) throws FileNotFoundException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(journalFile, append), JOURNAL_CHARSET));
+    }
+
+    /**
+     * Method that deletes the file passed if present
+     *
+     * @param file is the File to be deleted
+     * @throws IOException when the file could not be deleted
+     */
+    private static void deleteIfExists(File file) throws IOException {
+        if (file.exists() && !file.delete()) {
+            throw new IOException("Failed to delete the file " + file);
+        }
+    }
+
+    /**
+     * Method that renames the file passed
+     *
+     * @param fromFile        is the File to be renamed
+     * @param toFile          is the File to be renamed to
+     * @param deleteDestFirst is a boolean to delete the File renamed to, if present (True)
+     * @throws IOException when the file could not be renamed
+     */
+    private static void renameTo(File fromFile, File toFile, boolean deleteDestFirst) throws IOException {
+        if (deleteDestFirst) {
+            deleteIfExists(toFile);
+        }
+        if (!fromFile.renameTo(toFile)) {
+            throw new IOException("Failed to rename the file " + fromFile + " to " + toFile);
+        }
+    }
+
+    /**
+     * Method that deletes all the files in the directory passed
+     *
+     * @param directory is the directory to be cleared
+     */
+    private static void deleteContents(File directory) {
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (!file.delete()) {
+                    Log.e(TAG, "deleteContents: Failed to delete the file " + file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method that reads the Journal file to restore the entries of the cache
+     *
+     * @return True when all the lines of the Journal were complete; false otherwise
+     * @throws IOException when the Journal is not readable or has an unexpected header
+     */
+    private boolean readJournal() throws IOException {
+        BufferedReader journalReader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(new File(mDirectory, JOURNAL_FILE_NAME)), JOURNAL_CHARSET));
+
+        try {
+            //Validating the header
+            String magicStr = journalReader.readLine();
+            String versionStr = journalReader.readLine();
+            String blankStr = journalReader.readLine();
+            if (!JOURNAL_MAGIC.equals(magicStr)
+                    || !JOURNAL_VERSION.equals(versionStr)
+                    || !"".equals(blankStr)) {
+                throw new IOException("Unexpected Journal header: [" + magicStr + ", " + versionStr + ", " + blankStr + "]");
+            }
+
+            //Replaying the operations
+            boolean journalComplete = true;
+            int lineCount = 0;
+            String lineStr;
+            while ((lineStr = journalReader.readLine()) != null) {
+                if (!readJournalLine(lineStr)) {
+                    //Ignoring the rest of the Journal when a line was left incomplete by a crash
+                    Log.e(TAG, "readJournal: Ignoring the incomplete Journal line: " + lineStr);
+                    journalComplete = false;
+                    break;
+                }
+                lineCount++;
+            }
+
+            mRedundantOpCount = lineCount - mEntries.size();
+
+            return journalComplete;
+
+        } finally {
+            journalReader.close();
+        }
+    }
+
+    /**
+     * Method that replays the operation of a line in the Journal
+     *
+     * @param lineStr is the line from the Journal
+     * @return True when the line was complete and valid; false otherwise
+     */
+    private boolean readJournalLine(String lineStr) {
+        String[] parts = lineStr.split(" ");
+        if (parts.length < 2) {
+            return false;
+        }
+
+        String operationStr = parts[0];
+        String key = parts[1];
+
+        if (REMOVE.equals(operationStr) && parts.length == 2) {
+            mEntries.remove(key);
+            return true;
+        }
+
+        Entry entry = mEntries.get(key);
+        if (entry == null) {
+            entry = new Entry(key);
+            mEntries.put(key, entry);
+        }
+
+        if (CLEAN.equals(operationStr) && parts.length == 3) {
+            try {
+                entry.mLength = Long.parseLong(parts[2]);
+            } catch (NumberFormatException e) {
+                return false;
+            }
+            entry.mReadable = true;
+            entry.mCurrentEditor = null;
+        } else if (DIRTY.equals(operationStr) && parts.length == 2) {
+            entry.mCurrentEditor = new Editor(entry);
+        } else if (!READ.equals(operationStr) || parts.length != 2) {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Method that computes the size of the cache from the entries restored, and discards the
+     * entries whose images were left partially written
+     *
+     * @throws IOException when the files could not be deleted
+     */
+    private void processJournal() throws IOException {
+        //Deleting any temporary files left behind
+        File[] files = mDirectory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.getName().endsWith(TEMP_FILE_EXTENSION)) {
+                    deleteIfExists(file);
+                }
+            }
+        }
+
+        Iterator<Entry> entryIterator = mEntries.values().iterator();
+        while (entryIterator.hasNext()) {
+            Entry entry = entryIterator.next();
+            if (entry.mCurrentEditor == null && entry.getCleanFile().exists()) {
+                //Accounting the images that were written successfully
+                mSize += entry.mLength;
+            } else {
+                //Discarding the images that were not written completely
+                entry.mCurrentEditor = null;
+                deleteIfExists(entry.getCleanFile());
+                entryIterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Method that writes a compact Journal containing only the current entries of the cache,
+     * replacing the current Journal
+     *
+     * @throws IOException when the Journal could not be written
+     */
+    private synchronized void rebuildJournal() throws IOException {
+        if (mJournalWriter != null) {
+            mJournalWriter.close();
+        }
+
+        //Writing the new Journal to a temporary file
+        File journalFile = new File(mDirectory, JOURNAL_FILE_NAME);
+        File journalTempFile = new File(mDirectory, JOURNAL_FILE_TEMP_NAME);
+        File journalBackupFile = new File(mDirectory, JOURNAL_FILE_BACKUP_NAME);
+        Writer writer = newJournalWriter(journalTempFile, false);
+        try {
+            writer.write(JOURNAL_MAGIC + "\n");
+            writer.write(JOURNAL_VERSION + "\n");
+            writer.write("\n");
+            for (Entry entry : mEntries.values()) {
+                if (entry.mCurrentEditor != null) {
+                    writer.write(DIRTY + " " + entry.mKey + "\n");
+                } else {
+                    writer.write(CLEAN + " " + entry.mKey + " " + entry.mLength + "\n");
+                }
+            }
+        } finally {
+            writer.close();
+        }
+
+        //Swapping the Journal with the new one, keeping a backup till the swap completes
+        if (journalFile.exists()) {
+            renameTo(journalFile, journalBackupFile, true);
+        }
+        renameTo(journalTempFile, journalFile, false);
+        deleteIfExists(journalBackupFile);
+
+        mJournalWriter = newJournalWriter(journalFile, true);
+        mRedundantOpCount = 0;
+    }
+
+    /**
+     * Method that appends an operation for the Key passed to the Journal
+     *
+     * @param operationStr is the operation being recorded
+     * @param key          is the Key of the entry
+     * @param lengthStr    is the length of the image for the CLEAN operation; null otherwise
+     * @throws IOException when the Journal could not be written
+     */
+    private void appendToJournal(String operationStr, String key, String lengthStr) throws IOException {
+        mJournalWriter.write(operationStr + " " + key + (lengthStr == null ? "" : " " + lengthStr) + "\n");
+        //Flushing every operation, so that the Journal is complete when the app crashes
+        mJournalWriter.flush();
+    }
+
+    /**
+     * Method that compacts the Journal when the redundant operations exceed the threshold
+     *
+     * @throws IOException when the Journal could not be written
+     */
+    private void compactJournalIfRequired() throws IOException {
+        if (mRedundantOpCount >= REDUNDANT_OP_COMPACT_THRESHOLD
+                && mRedundantOpCount >= mEntries.size()) {
+            rebuildJournal();
+        }
+    }
+
+    /**
+     * Method that returns the stream to read the image stored for the URL passed
+     *
+     * @param imageURLStr is the URL of the image
+     * @return FileInputStream of the image stored; null when not present. Caller needs to close the stream.
+     */
+    public synchronized FileInputStream get(String imageURLStr) {
+        String key = hashKeyForURL(imageURLStr);
+        Entry entry = mEntries.get(key);
+        if (entry == null || !entry.mReadable) {
+            return null;
+        }
+
+        FileInputStream fileInputStream;
+        try {
+            fileInputStream = new FileInputStream(entry.getCleanFile());
+        } catch (FileNotFoundException e) {
+            //Discarding the entry when its file was deleted externally
+            Log.e(TAG, "get: Image file missing for the Key " + key, e);
+            mSize -= entry.mLength;
+            mEntries.remove(key);
+            return null;
+        }
+
+        try {
+            //Recording the read for restoring the access order
+            mRedundantOpCount++;
+            appendToJournal(READ, key, null);
+            compactJournalIfRequired();
+        } catch (IOException e) {
+            Log.e(TAG, "get: Failed to update the Journal for the Key " + key, e);
+        }
+
+        return fileInputStream;
+    }
+
+    /**
+     * Method that returns an {@link Editor} to write the image for the URL passed
+     *
+     * @param imageURLStr is the URL of the image
+     * @return Editor for writing the image; null when the image is already being written
+     * @throws IOException when the Journal could not be written
+     */
+    public synchronized Editor edit(String imageURLStr) throws IOException {
+        String key = hashKeyForURL(imageURLStr);
+        Entry entry = mEntries.get(key);
+        if (entry == null) {
+            entry = new Entry(key);
+            mEntries.put(key, entry);
+        } else if (entry.mCurrentEditor != null) {
+            //Returning null when the image is being written by another Editor
+            return null;
+        }
+
+        Editor editor = new Editor(entry);
+        entry.mCurrentEditor = editor;
+
+        //Recording that the image is being written
+        appendToJournal(DIRTY, key, null);
+
+        return editor;
+    }
+
+    /**
+     * Method that completes the write done by the {@link Editor}
+     *
+     * @param editor  is the Editor that wrote the image
+     * @param success is a boolean to commit the image written (True) or to discard it (False)
+     * @throws IOException when the image file or the Journal could not be written
+     */
+    private synchronized void completeEdit(Editor editor, boolean success) throws IOException {
+        Entry entry = editor.mEntry;
+        if (entry.mCurrentEditor != editor) {
+            throw new IllegalStateException("Editor is not the current editor of the Key " + entry.mKey);
+        }
+        entry.mCurrentEditor = null;
+
+        File tempFile = entry.getTempFile();
+        if (success && tempFile.exists()) {
+            //Replacing the image file with the one written
+            File cleanFile = entry.getCleanFile();
+            renameTo(tempFile, cleanFile, true);
+
+            long oldLength = entry.mLength;
+            entry.mLength = cleanFile.length();
+            entry.mReadable = true;
+            mSize = mSize - oldLength + entry.mLength;
+
+            mRedundantOpCount++;
+            appendToJournal(CLEAN, entry.mKey, String.valueOf(entry.mLength));
+
+        } else {
+            //Discarding the image written
+            deleteIfExists(tempFile);
+
+            mRedundantOpCount++;
+            if (entry.mReadable) {
+                //Restoring the previous image
+                appendToJournal(CLEAN, entry.mKey, String.valueOf(entry.mLength));
+            } else {
+                mEntries.remove(entry.mKey);
+                appendToJournal(REMOVE, entry.mKey, null);
+            }
+        }
+
+        //Evicting the least recently used images when the cache exceeds its size
+        trimToSize();
+        compactJournalIfRequired();
+    }
+
+    /**
+     * Method that removes the image stored for the URL passed
+     *
+     * @param imageURLStr is the URL of the image
+     * @return True when the image was removed; false when not present or being written
+     * @throws IOException when the image file or the Journal could not be written
+     */
+    public synchronized boolean remove(String imageURLStr) throws IOException {
+        return removeEntry(hashKeyForURL(imageURLStr));
+    }
+
+    /**
+     * Method that removes the entry of the Key passed along with its image file
+     *
+     * @param key is the Key of the entry
+     * @return True when the entry was removed; false when not present or being written
+     * @throws IOException when the image file or the Journal could not be written
+     */
+    private boolean removeEntry(String key) throws IOException {
+        Entry entry = mEntries.get(key);
+        if (entry == null || entry.mCurrentEditor != null) {
+            return false;
+        }
+
+        deleteIfExists(entry.getCleanFile());
+        mSize -= entry.mLength;
+        mEntries.remove(key);
+
+        mRedundantOpCount++;
+        appendToJournal(REMOVE, key, null);
+
+        return true;
+    }
+
+    /**
+     * Method that evicts the least recently used images till the cache is within its max size
+     *
+     * @throws IOException when the image file or the Journal could not be written
+     */
+    private void trimToSize() throws IOException {
+        if (mSize <= mMaxSize) {
+            return;
+        }
+
+        //Collecting the Keys to evict in the access order, skipping the ones being written
+        ArrayList<String> evictKeyList = new ArrayList<>();
+        long sizeAfterEviction = mSize;
+        for (Map.Entry<String, Entry> mapEntry : mEntries.entrySet()) {
+            if (sizeAfterEviction <= mMaxSize) {
+                break;
+            }
+            Entry entry = mapEntry.getValue();
+            if (entry.mCurrentEditor == null) {
+                evictKeyList.add(mapEntry.getKey());
+                sizeAfterEviction -= entry.mLength;
+            }
+        }
+
+        for (String key : evictKeyList) {
+            removeEntry(key);
+        }
+    }
+
+    /**
+     * Method that returns the current size of the cache
+     *
+     * @return the bytes used by the images stored
+     */
+    public synchronized long size() {
+        return mSize;
+    }
+
+    /**
+     * Method that returns the max size of the cache
+     *
+     * @return the max bytes the cache can use
+     */
+    public long getMaxSize() {
+        return mMaxSize;
+    }
+
+    /**
+     * Method that closes the Journal of the cache
+     *
+     * @throws IOException when the Journal could not be closed
+     */
+    public synchronized void close() throws IOException {
+        if (mJournalWriter != null) {
+            mJournalWriter.close();
+            mJournalWriter = null;
+        }
+    }
+
+    /**
+     * Class that holds the details of an image stored in the cache
+     */
+    private final class Entry {
+        //Stores the Key of the image
+        private final String mKey;
+        //Stores the length of the image file
+        private long mLength;
+        //Stores whether the image was written successfully at least once
+        private boolean mReadable;
+        //Stores the Editor writing the image; null when the image is not being written
+        private Editor mCurrentEditor;
+
+        Entry(String key) {
+            mKey = key;
+        }
+
+        /**
+         * @return File of the image written successfully
+         */
+        File getCleanFile() {
+            return new File(mDirectory, mKey);
+        }
+
+        /**
+         * @return Temporary File of the image being written
+         */
+        File getTempFile() {
+            return new File(mDirectory, mKey + TEMP_FILE_EXTENSION);
+        }
+    }
+
+    /**
+     * Class that writes the image of an entry to a temporary file, which replaces
+     * the actual image file only on {@link #commit()}
+     */
+    public final class Editor {
+        //Stores the entry being written
+        private final Entry mEntry;
+        //Stores the stream opened for writing the image
+        private FileOutputStream mOutputStream;
+        //Stores whether the edit was completed
+        private boolean mDone;
+
+        private Editor(Entry entry) {
+            mEntry = entry;
+        }
+
+        /**
+         * Method that returns the stream to write the image to
+         *
+         * @return OutputStream to the temporary file of the image
+         * @throws IOException when the temporary file could not be opened
+         */
+        public OutputStream newOutputStream() throws IOException {
+            if (mOutputStream == null) {
+                mOutputStream = new FileOutputStream(mEntry.getTempFile());
+            }
+            return mOutputStream;
+        }
+
+        /**
+         * Method that returns the temporary file to which the image is being written
+         *
+         * @return File of the image before the commit
+         */
+        public File getTempFile() {
+            return mEntry.getTempFile();
+        }
+
+        /**
+         * Method that commits the image written, syncing it to the disk before replacing the
+         * actual image file, so that a crash never leaves a partially written image behind
+         *
+         * @throws IOException when the image file could not be written
+         */
+        public void commit() throws IOException {
+            if (mDone) {
+                return;
+            }
+            mDone = true;
+
+            if (mOutputStream != null) {
+                try {
+                    //Syncing the written bytes to the disk
+                    mOutputStream.flush();
+                    mOutputStream.getFD().sync();
+                } catch (IOException e) {
+                    closeOutputStream();
+                    completeEdit(this, false);
+                    throw e;
+                }
+                closeOutputStream();
+            }
+            completeEdit(this, true);
+        }
+
+        /**
+         * Method that discards the image written
+         */
+        public void abort() {
+            if (mDone) {
+                return;
+            }
+            mDone = true;
+
+            closeOutputStream();
+            try {
+                completeEdit(this, false);
+            } catch (IOException e) {
+                Log.e(TAG, "abort: Failed to discard the image of the Key " + mEntry.mKey, e);
+            }
+        }
+
+        /**
+         * Method that closes the stream opened for writing the image
+         */
+        private void closeOutputStream() {
+            if (mOutputStream != null) {
+                try {
+                    mOutputStream.close();
+                } catch (IOException e) {
+                    Log.e(TAG, "closeOutputStream: Failed to close the stream of the Key " + mEntry.mKey, e);
+                }
+                mOutputStream = null;
+            }
+        }
+    }
+
+}
@@ -16,25 +16,102 @@
 
 package com.example.kaushiknsanji.birdquiz;
 
+import android.app.ActivityManager;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
 import android.graphics.Bitmap;
+import android.os.Build;
+import android.util.Log;
 import android.util.LruCache;
 
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
- * Application level class that stores the Bitmaps downloaded in a cache memory
+ * Application level class that stores the Bitmaps downloaded in a cache memory.
+ * The cache is sized by the bytes held by the Bitmaps and not by the number of entries,
+ * so that the hint images of the whole quiz session can stay resident.
+ * The encoded images downloaded are also stored in a {@link BitmapDiskCache}, which is
+ * looked up before downloading the images again in the later launches of the app.
+ * Bitmaps evicted from the Memory Cache are returned to the {@link BitmapPool} for reuse,
+ * unless they are pinned by a component that is still using them.
  *
  * @author Kaushik N Sanji
  */
 public class BitmapImageCache {
 
+    private static final String TAG = BitmapImageCache.class.getSimpleName();
+    //Fraction of the app's memory class that the Memory Cache can use (one-eighth)
+    private static final int MEMORY_CACHE_FRACTION = 8;
+    //Fraction of the Memory Cache size that the Bitmap Pool can use (one-fourth)
+    private static final int BITMAP_POOL_FRACTION = 4;
+    //Default size of the Memory Cache in bytes (4MB), used till the cache is initialized with a Context
+    private static final int DEFAULT_MEMORY_CACHE_SIZE = 4 * 1024 * 1024;
+    //Name of the directory of the Disk Cache under the app's cache directory
+    private static final String DISK_CACHE_DIR_NAME = "hint_images";
+    //Max size of the Disk Cache in bytes (20MB)
+    private static final long DISK_CACHE_SIZE = 20 * 1024 * 1024;
+    //Lock for the Disk Cache, so that the Memory Cache is not blocked by the disk operations
+    private static final Object DISK_CACHE_LOCK = new Object();
     //Declaring the Memory Cache for Bitmaps
-    private static LruCache<String, Bitmap> mMemoryCache;
+    private static HintImageLruCache mMemoryCache;
+    //Stores the number of lookups that found/did not find the Bitmap in the Memory Cache
+    private static int mHitCount;
+    private static int mMissCount;
+    //Stores the directory of the Disk Cache
+    private static File mDiskCacheDir;
+    //Declaring the Disk Cache for the encoded images, opened lazily on the first access
+    private static BitmapDiskCache mDiskCache;
+    //Stores whether the Disk Cache failed to open, so that it is not attempted again
+    private static boolean mDiskCacheDisabled;
+    //Stores the pins of the Bitmaps in use. Weakly keyed, so that a pin which was
+    //never released does not hold on to its Bitmap
+    private static final WeakHashMap<Bitmap, PinState> mPinnedBitmaps = new WeakHashMap<>();
 
     static {
         //Static Constructor invoked only for the first time when loaded
 
-        //Initializing the Memory Cache to have a max of two entries
-        //one for the current question and the other for the following question
-        mMemoryCache = new LruCache<>(2);
+        //Initializing the Memory Cache with the default size
+        //till it is resized according to the memory class of the device
+        mMemoryCache = new HintImageLruCache(DEFAULT_MEMORY_CACHE_SIZE);
+    }
+
+    /**
+     * Method that sizes the Memory Cache according to the memory class of the device.
+     * Needs to be called once before the images are downloaded, and will retain the images
+     * already cached when the size remains the same.
+     *
+     * @param context is the Context used for retrieving the memory class of the device
+     */
+    public static synchronized void init(Context context) {
+        //Saving the directory for the Disk Cache, which is opened later on a worker thread
+        synchronized (DISK_CACHE_LOCK) {
+            if (mDiskCacheDir == null) {
+                mDiskCacheDir = new File(context.getCacheDir(), DISK_CACHE_DIR_NAME);
+            }
+        }
+
+        ActivityManager activityManager = (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+        //Deriving the budget in bytes from the memory class (in MB) of the app
+        int memoryCacheSize = activityManager.getMemoryClass() * 1024 * 1024 / MEMORY_CACHE_FRACTION;
+
+        if (mMemoryCache.maxSize() != memoryCacheSize) {
+            //Recreating the Memory Cache when the budget differs
+            HintImageLruCache memoryCache = new HintImageLruCache(memoryCacheSize);
+            //Carrying over the images cached so far
+            for (Map.Entry<String, Bitmap> entry : mMemoryCache.snapshot().entrySet()) {
+                memoryCache.put(entry.getKey(), entry.getValue());
+            }
+            mMemoryCache = memoryCache;
+
+            //Sizing the Bitmap Pool along with the Memory Cache
+            BitmapPool.setMaxSize(memoryCacheSize / BITMAP_POOL_FRACTION);
+
+            Log.i(TAG, "init: Memory Cache size in bytes: " + memoryCacheSize);
+        }
     }
 
     /**
@@ -43,8 +120,31 @@ public class BitmapImageCache {
      * @param imageURLStr The Image URL string whose Bitmap needs to be retrieved from Memory Cache
      * @return Bitmap containing the Image for the Image URL mentioned
      */
-    public static Bitmap getBitmapFromCache(String imageURLStr) {
-        return mMemoryCache.get(imageURLStr);
+    public static synchronized Bitmap getBitmapFromCache(String imageURLStr) {
+        Bitmap bitmap = mMemoryCache.get(imageURLStr);
+
+        //Updating the counters
+        if (bitmap != null) {
+            mHitCount++;
+        } else {
+            mMissCount++;
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Method to retrieve the Bitmap Image from the Memory Cache for the given Image URL, pinning it
+     * so that it is not reused before it is taken up by the caller.
+     * The pin needs to be released with {@link #unpinBitmap(Bitmap)}.
+     *
+     * @param imageURLStr The Image URL string whose Bitmap needs to be retrieved from Memory Cache
+     * @return Bitmap containing the Image for the Image URL mentioned; null when not present
+     */
+    public static synchronized Bitmap acquireBitmapFromCache(String imageURLStr) {
+        Bitmap bitmap = getBitmapFromCache(imageURLStr);
+        pinBitmap(bitmap);
+        return bitmap;
     }
 
     /**
@@ -54,18 +154,302 @@ public class BitmapImageCache {
      *                    Key to store in the Memory Cache
      * @param bitmap      Bitmap containing the Image downloaded from the URL passed
      */
-    public static void addBitmapToCache(String imageURLStr, Bitmap bitmap) {
-        if (getBitmapFromCache(imageURLStr) == null
-                && bitmap != null) {
+    public static synchronized void addBitmapToCache(String imageURLStr, Bitmap bitmap) {
+        if (bitmap != null
+                && mMemoryCache.get(imageURLStr) == null) {
             mMemoryCache.put(imageURLStr, bitmap);
         }
     }
 
+    /**
+     * Method that returns the bytes of the Bitmap present in the Memory Cache for the given Image URL,
+     * without counting the lookup in the cache hits/misses
+     *
+     * @param imageURLStr The Image URL string whose Bitmap needs to be looked up in the Memory Cache
+     * @return Integer value of the bytes used by the Bitmap; 0 when not present
+     */
+    public static synchronized int getCachedBitmapByteCount(String imageURLStr) {
+        Bitmap bitmap = mMemoryCache.get(imageURLStr);
+        return bitmap != null ? getBitmapByteCount(bitmap) : 0;
+    }
+
     /**
      * Method that clears the entire Memory Cache
      */
-    public static void clearCache() {
+    public static synchronized void clearCache() {
         mMemoryCache.evictAll();
+        //Releasing the Bitmaps returned to the pool as well
+        BitmapPool.clear();
+    }
+
+    /**
+     * Method that pins the Bitmap while it is being used, so that it is not returned
+     * to the {@link BitmapPool} when evicted from the Memory Cache.
+     * Every call needs to be balanced by a call to {@link #unpinBitmap(Bitmap)}.
+     *
+     * @param bitmap is the Bitmap being used
+     */
+    public static synchronized void pinBitmap(Bitmap bitmap) {
+        if (bitmap == null) {
+            return;
+        }
+
+        PinState pinState = mPinnedBitmaps.get(bitmap);
+        if (pinState == null) {
+            pinState = new PinState();
+            mPinnedBitmaps.put(bitmap, pinState);
+        }
+        pinState.mPinCount++;
+    }
+
+    /**
+     * Method that releases a pin of the Bitmap no longer being used. The Bitmap is returned
+     * to the {@link BitmapPool} when this was its last pin and it was evicted from the Memory Cache.
+     *
+     * @param bitmap is the Bitmap no longer being used
+     */
+    public static synchronized void unpinBitmap(Bitmap bitmap) {
+        if (bitmap == null) {
+            return;
+        }
+
+        PinState pinState = mPinnedBitmaps.get(bitmap);
+        if (pinState != null && --pinState.mPinCount <= 0) {
+            mPinnedBitmaps.remove(bitmap);
+            if (pinState.mEvicted) {
+                //Reusing the Bitmap that was evicted while it was being used
+                BitmapPool.put(bitmap);
+            }
+        }
+    }
+
+    /**
+     * Method that releases the Memory Cache when the system is running low on memory
+     * or when the app is no longer visible
+     *
+     * @param level is the Integer level of the memory trim passed to
+     *              {@link ComponentCallbacks2#onTrimMemory(int)}
+     */
+    public static synchronized void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL) {
+            Log.i(TAG, "trimMemory: Clearing the Memory Cache for the level " + level);
+            clearCache();
+        }
+    }
+
+    /**
+     * Method that returns the number of lookups that found the Bitmap in the Memory Cache
+     *
+     * @return Integer count of the cache hits
+     */
+    public static synchronized int getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * Method that returns the number of lookups that did not find the Bitmap in the Memory Cache
+     *
+     * @return Integer count of the cache misses
+     */
+    public static synchronized int getMissCount() {
+        return mMissCount;
+    }
+
+    /**
+     * Method that returns the number of Bitmaps evicted from the Memory Cache to stay within its size
+     *
+     * @return Integer count of the cache evictions
+     */
+    public static synchronized int getEvictionCount() {
+        return mMemoryCache.evictionCount();
+    }
+
+    /**
+     * Method that returns the current size of the Memory Cache
+     *
+     * @return Integer value of the bytes held by the Bitmaps in the Memory Cache
+     */
+    public static synchronized int getSize() {
+        return mMemoryCache.size();
+    }
+
+    /**
+     * Method that returns the max size of the Memory Cache
+     *
+     * @return Integer value of the max bytes that the Memory Cache can hold
+     */
+    public static synchronized int getMaxSize() {
+        return mMemoryCache.maxSize();
+    }
+
+    /**
+     * Method that returns the statistics of the Memory Cache for logging
+     *
+     * @return String describing the size, hits, misses and evictions of the Memory Cache
+     */
+    public static synchronized String getStats() {
+        return "Size=" + mMemoryCache.size() + "/" + mMemoryCache.maxSize()
+                + ", Hits=" + mHitCount
+                + ", Misses=" + mMissCount
+                + ", Evictions=" + mMemoryCache.evictionCount();
+    }
+
+    /**
+     * Method that returns the Disk Cache, opening it when accessed for the first time.
+     * Needs to be called from a worker thread.
+     *
+     * @return Instance of the {@link BitmapDiskCache}; null when the Disk Cache is not available
+     */
+    private static BitmapDiskCache getDiskCache() {
+        synchronized (DISK_CACHE_LOCK) {
+            if (mDiskCache == null && !mDiskCacheDisabled && mDiskCacheDir != null) {
+                try {
+                    mDiskCache = BitmapDiskCache.open(mDiskCacheDir, DISK_CACHE_SIZE);
+                    Log.i(TAG, "getDiskCache: Disk Cache opened with size in bytes: " + mDiskCache.size());
+                } catch (IOException e) {
+                    //Downloading the images without the Disk Cache when it cannot be opened
+                    Log.e(TAG, "getDiskCache: Failed to open the Disk Cache", e);
+                    mDiskCacheDisabled = true;
+                }
+            }
+            return mDiskCache;
+        }
+    }
+
+    /**
+     * Method to retrieve the stream of the encoded Image stored in the Disk Cache for the given Image URL.
+     * Needs to be called from a worker thread.
+     *
+     * @param imageURLStr The Image URL string whose Image needs to be retrieved from the Disk Cache
+     * @return FileInputStream of the encoded Image; null when not present.
+     * Caller needs to close the stream.
+     */
+    public static FileInputStream getImageStreamFromDiskCache(String imageURLStr) {
+        BitmapDiskCache diskCache = getDiskCache();
+        if (diskCache == null) {
+            return null;
+        }
+        return diskCache.get(imageURLStr);
+    }
+
+    /**
+     * Method that returns the {@link BitmapDiskCache.Editor} for writing the encoded Image to the
+     * Disk Cache with the Image URL string as the Key. The Image is written to a temporary file,
+     * which replaces any previous Image only when the Editor is committed.
+     * Needs to be called from a worker thread.
+     *
+     * @param imageURLStr The Image URL string source of the Image used as a Key to store in the Disk Cache
+     * @return {@link BitmapDiskCache.Editor} of the Image; null when the Disk Cache is not available
+     * or when the Image is already being written
+     */
+    public static BitmapDiskCache.Editor editImageInDiskCache(String imageURLStr) {
+        BitmapDiskCache diskCache = getDiskCache();
+        if (diskCache == null) {
+            return null;
+        }
+
+        try {
+            return diskCache.edit(imageURLStr);
+        } catch (IOException e) {
+            Log.e(TAG, "editImageInDiskCache: Failed to edit the Image of " + imageURLStr, e);
+            return null;
+        }
+    }
+
+    /**
+     * Method that removes the encoded Image stored in the Disk Cache for the given Image URL.
+     * Needs to be called from a worker thread.
+     *
+     * @param imageURLStr The Image URL string whose Image needs to be removed from the Disk Cache
+     */
+    public static void removeImageFromDiskCache(String imageURLStr) {
+        BitmapDiskCache diskCache = getDiskCache();
+        if (diskCache == null) {
+            return;
+        }
+
+        try {
+            diskCache.remove(imageURLStr);
+        } catch (IOException e) {
+            Log.e(TAG, "removeImageFromDiskCache: Failed to remove the Image of " + imageURLStr, e);
+        }
+    }
+
+    /**
+     * Method that returns the number of bytes used by the Bitmap
+     *
+     * @param bitmap is the Bitmap whose size is required
+     * @return Integer value of the bytes allocated for the pixels of the Bitmap
+     */
+    static int getBitmapByteCount(Bitmap bitmap) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            //Allocation can be larger than the pixels when the Bitmap is reused
+            return bitmap.getAllocationByteCount();
+        }
+        return bitmap.getByteCount();
+    }
+
+    /**
+     * {@link LruCache} for the Bitmaps that is sized by the bytes held by each Bitmap
+     */
+    private static class HintImageLruCache extends LruCache<String, Bitmap> {
+
+        /**
+         * @param maxSize is the max number of bytes the cache can hold
+         */
+        HintImageLruCache(int maxSize) {
+            super(maxSize);
+        }
+
+        /**
+         * Returns the size of the entry for {@code key} and {@code value} in
+         * user-defined units.
+         *
+         * @param key   The Image URL string of the Bitmap
+         * @param value The Bitmap stored
+         * @return the number of bytes used by the Bitmap
+         */
+        @Override
+        protected int sizeOf(String key, Bitmap value) {
+            return getBitmapByteCount(value);
+        }
+
+        /**
+         * Called for entries that have been evicted or removed.
+         * Returns the Bitmap evicted to the {@link BitmapPool}, or defers it till
+         * the Bitmap is unpinned when it is still being used.
+         *
+         * @param evicted  true if the entry is being removed to make space, false
+         *                 if the removal was caused by a put or remove.
+         * @param key      The Image URL string of the Bitmap
+         * @param oldValue The Bitmap removed
+         * @param newValue the new value for {@code key}, if it exists.
+         */
+        @Override
+        protected void entryRemoved(boolean evicted, String key, Bitmap oldValue, Bitmap newValue) {
+            if (oldValue == newValue) {
+                return;
+            }
+
+            PinState pinState = mPinnedBitmaps.get(oldValue);
+            if (pinState != null) {
+                //Deferring till the Bitmap is no longer used
+                pinState.mEvicted = true;
+            } else {
+                BitmapPool.put(oldValue);
+            }
+        }
+    }
+
+    /**
+     * Class that holds the pin count of a Bitmap in use
+     */
+    private static class PinState {
+        //Stores the number of pins of the Bitmap
+        int mPinCount;
+        //Stores whether the Bitmap was evicted from the Memory Cache while pinned
+        boolean mEvicted;
     }
 
 }
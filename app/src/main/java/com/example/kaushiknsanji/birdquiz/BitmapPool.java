@@ -0,0 +1,239 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+import android.util.Log;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Application level class that holds the Bitmaps no longer in use, for reusing their memory
+ * through {@link android.graphics.BitmapFactory.Options#inBitmap} when decoding the next Images.
+ * The Bitmaps are bucketed by their size in bytes. From KitKat, a Bitmap can be reused for
+ * any Image that fits in its allocation; prior to that, only for an Image of the same dimensions.
+ *
+ * @author Kaushik N Sanji
+ */
+public class BitmapPool {
+
+    private static final String TAG = BitmapPool.class.getSimpleName();
+    //Default size of the pool in bytes (2MB), used till the pool is sized along with the Bitmap Cache
+    private static final int DEFAULT_POOL_SIZE = 2 * 1024 * 1024;
+    //Max factor by which a reused Bitmap can be larger than the Image to be decoded
+    private static final int MAX_SIZE_MULTIPLE = 2;
+
+    //Stores the Bitmaps by their size in bytes
+    private static final TreeMap<Integer, LinkedList<Bitmap>> mBuckets = new TreeMap<>();
+    //Stores the Bitmaps in the order they were added, for releasing the oldest when the pool is full
+    private static final ArrayDeque<Bitmap> mInsertionOrder = new ArrayDeque<>();
+    //Stores the max size and the current size of the pool in bytes
+    private static int mMaxSize = DEFAULT_POOL_SIZE;
+    private static int mSize;
+    //Stores the number of requests for a Bitmap, and those that were served from the pool
+    private static int mRequestCount;
+    private static int mHitCount;
+    //Stores the number of Bitmaps released from the pool to stay within its size
+    private static int mEvictionCount;
+
+    /**
+     * Private Constructor to avoid instantiating the {@link BitmapPool}
+     */
+    private BitmapPool() {
+    }
+
+    /**
+     * Method that sets the max size of the pool, releasing the Bitmaps that do not fit
+     *
+     * @param maxSize is the Integer value of the max bytes that the pool can hold
+     */
+    public static synchronized void setMaxSize(int maxSize) {
+        mMaxSize = maxSize;
+        trimToSize(mMaxSize);
+    }
+
+    /**
+     * Method that adds the Bitmap no longer in use to the pool. The Bitmap passed
+     * should not be referenced anywhere else once added.
+     *
+     * @param bitmap is the Bitmap to be reused
+     */
+    public static synchronized void put(Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled() || !bitmap.isMutable()) {
+            //Only the mutable Bitmaps can be reused
+            return;
+        }
+
+        int byteCount = BitmapImageCache.getBitmapByteCount(bitmap);
+        if (byteCount > mMaxSize) {
+            return;
+        }
+
+        LinkedList<Bitmap> bucket = mBuckets.get(byteCount);
+        if (bucket == null) {
+            bucket = new LinkedList<>();
+            mBuckets.put(byteCount, bucket);
+        } else if (bucket.contains(bitmap)) {
+            //Ignoring the Bitmap already in the pool
+            return;
+        }
+        bucket.addLast(bitmap);
+        mInsertionOrder.addLast(bitmap);
+        mSize += byteCount;
+
+        trimToSize(mMaxSize);
+    }
+
+    /**
+     * Method that removes and returns a Bitmap from the pool that can be reused for decoding
+     * an Image of the dimensions and the config passed
+     *
+     * @param width  is the Integer width of the Image to be decoded
+     * @param height is the Integer height of the Image to be decoded
+     * @param config is the Bitmap.Config of the Image to be decoded
+     * @return Bitmap to be passed as the {@link android.graphics.BitmapFactory.Options#inBitmap};
+     * null when there is no Bitmap that can be reused
+     */
+    public static synchronized Bitmap get(int width, int height, Bitmap.Config config) {
+        mRequestCount++;
+
+        int requiredByteCount = width * height * getBytesPerPixel(config);
+        Bitmap bitmap = null;
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            //Looking for the smallest Bitmap that fits the Image, within the max size multiple
+            Map.Entry<Integer, LinkedList<Bitmap>> bucketEntry = mBuckets.ceilingEntry(requiredByteCount);
+            if (bucketEntry != null && bucketEntry.getKey() <= requiredByteCount * MAX_SIZE_MULTIPLE) {
+                bitmap = bucketEntry.getValue().getFirst();
+            }
+        } else {
+            //Looking for a Bitmap of the same dimensions and config
+            LinkedList<Bitmap> bucket = mBuckets.get(requiredByteCount);
+            if (bucket != null) {
+                for (Bitmap pooledBitmap : bucket) {
+                    if (pooledBitmap.getWidth() == width && pooledBitmap.getHeight() == height
+                            && pooledBitmap.getConfig() == config) {
+                        bitmap = pooledBitmap;
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (bitmap != null) {
+            remove(bitmap);
+            mHitCount++;
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+                //Clearing the previous Image, as the Bitmap may be larger than the Image decoded
+                bitmap.eraseColor(0);
+            }
+        }
+
+        return bitmap;
+    }
+
+    /**
+     * Method that releases all the Bitmaps in the pool
+     */
+    public static synchronized void clear() {
+        mBuckets.clear();
+        mInsertionOrder.clear();
+        mSize = 0;
+    }
+
+    /**
+     * Method that returns the ratio of the requests served from the pool
+     *
+     * @return Float value of the hit rate between 0 and 1
+     */
+    public static synchronized float getHitRate() {
+        return mRequestCount > 0 ? (float) mHitCount / mRequestCount : 0f;
+    }
+
+    /**
+     * Method that returns the statistics of the pool for logging
+     *
+     * @return String describing the size, requests, hits and evictions of the pool
+     */
+    public static synchronized String getStats() {
+        return "Size=" + mSize + "/" + mMaxSize
+                + ", Requests=" + mRequestCount
+                + ", Hits=" + mHitCount
+                + ", HitRate=" + getHitRate()
+                + ", Evictions=" + mEvictionCount;
+    }
+
+    /**
+     * Method that releases the oldest Bitmaps till the pool is within the size passed
+     *
+     * @param maxSize is the Integer value of the max bytes that the pool can hold
+     */
+    private static void trimToSize(int maxSize) {
+        while (mSize > maxSize && !mInsertionOrder.isEmpty()) {
+            Bitmap bitmap = mInsertionOrder.peekFirst();
+            remove(bitmap);
+            mEvictionCount++;
+            Log.i(TAG, "trimToSize: Released a Bitmap of " + BitmapImageCache.getBitmapByteCount(bitmap) + " bytes");
+        }
+    }
+
+    /**
+     * Method that removes the Bitmap from its bucket
+     *
+     * @param bitmap is the Bitmap in the pool to be removed
+     */
+    private static void remove(Bitmap bitmap) {
+        int byteCount = BitmapImageCache.getBitmapByteCount(bitmap);
+        LinkedList<Bitmap> bucket = mBuckets.get(byteCount);
+        if (bucket != null) {
+            bucket.remove(bitmap);
+            if (bucket.isEmpty()) {
+                mBuckets.remove(byteCount);
+            }
+        }
+
+        Iterator<Bitmap> iterator = mInsertionOrder.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == bitmap) {
+                iterator.remove();
+                break;
+            }
+        }
+        mSize -= byteCount;
+    }
+
+    /**
+     * Method that returns the number of bytes used by a pixel of the config passed
+     *
+     * @param config is the Bitmap.Config of the Image
+     * @return Integer number of bytes per pixel
+     */
+    private static int getBytesPerPixel(Bitmap.Config config) {
+        if (config == Bitmap.Config.RGB_565 || config == Bitmap.Config.ARGB_4444) {
+            return 2;
+        } else if (config == Bitmap.Config.ALPHA_8) {
+            return 1;
+        }
+        return 4;
+    }
+
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.annotation.TargetApi;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.net.ConnectivityManager;
+import android.net.Network;
+import android.net.NetworkCapabilities;
+import android.net.NetworkInfo;
+import android.net.NetworkRequest;
+import android.os.Build;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.support.annotation.MainThread;
+import android.util.Log;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+
+/**
+ * Application level class that monitors the Network Connectivity in the background.
+ * The state of the active network is tracked through the callbacks of the {@link ConnectivityManager},
+ * and the reachability of the Internet is verified by a probe on a background thread,
+ * whose result is cached for a while. The state can hence be read from the main thread
+ * without blocking. Listeners are notified on the main thread when the Internet becomes
+ * reachable again after it was lost.
+ *
+ * @author Kaushik N Sanji
+ */
+public class ConnectivityMonitor {
+
+    private static final String TAG = ConnectivityMonitor.class.getSimpleName();
+    //Host and Port probed for verifying the reachability (Google DNS)
+    private static final String PROBE_HOST = "8.8.8.8";
+    private static final int PROBE_PORT = 53;
+    //Timeout of the probe in millis
+    private static final int PROBE_TIMEOUT_MILLIS = 1500;
+    //Time in millis for which the result of the probe is valid
+    private static final long PROBE_RESULT_TTL_MILLIS = 30000;
+
+    //Singleton instance of the ConnectivityMonitor
+    private static ConnectivityMonitor mInstance;
+
+    //ConnectivityManager for retrieving the state of the active network
+    private final ConnectivityManager mConnectivityManager;
+    //Application Context for registering the receiver on the devices prior to Lollipop
+    private final Context mAppContext;
+    //Handler of the background thread that runs the probe
+    private Handler mProbeHandler;
+    //Callback of the network changes from Lollipop
+    private ConnectivityManager.NetworkCallback mNetworkCallback;
+    //Receiver of the network changes prior to Lollipop
+    private BroadcastReceiver mConnectivityReceiver;
+    //Handler for delivering the events on the main thread
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    //Stores the listeners to be notified when the Internet is reachable again, accessed on the main thread
+    private final ArrayList<OnNetworkConnectedListener> mConnectedListeners = new ArrayList<>();
+    //Stores the state of the connectivity last seen on the main thread
+    private boolean mWasConnected = true;
+
+    //Stores whether there is an active network connected
+    private volatile boolean mIsNetworkAvailable;
+    //Stores the result of the last probe, and the time at which it was recorded.
+    //Reachability is assumed till the first probe completes
+    private volatile boolean mIsReachable = true;
+    private volatile long mProbeTimeMillis;
+    //Stores whether a probe is pending on the background thread
+    private volatile boolean mIsProbePending;
+
+    //Runnable that probes the reachability of the Internet
+    private final Runnable mProbeRunnable = new Runnable() {
+        @Override
+        public void run() {
+            mIsReachable = probeReachability();
+            mProbeTimeMillis = SystemClock.elapsedRealtime();
+            mIsProbePending = false;
+
+            Log.i(TAG, "run: Reachability probed: " + mIsReachable);
+
+            //Notifying the listeners when the Internet is reachable again
+            mMainHandler.post(mDispatchRunnable);
+        }
+    };
+
+    //Runnable that notifies the listeners on the main thread, when the Internet is reachable again
+    private final Runnable mDispatchRunnable = new Runnable() {
+        @Override
+        public void run() {
+            boolean isConnected = mIsNetworkAvailable && mIsReachable;
+            if (isConnected && !mWasConnected) {
+                Log.i(TAG, "run: Internet is reachable again");
+
+                //Copying the listeners, as they can be removed while notifying
+                ArrayList<OnNetworkConnectedListener> connectedListeners = new ArrayList<>(mConnectedListeners);
+                for (OnNetworkConnectedListener connectedListener : connectedListeners) {
+                    connectedListener.onNetworkConnected();
+                }
+            }
+            mWasConnected = isConnected;
+        }
+    };
+
+    /**
+     * Private Constructor of the Singleton {@link ConnectivityMonitor}
+     *
+     * @param context is the Context of the app
+     */
+    private ConnectivityMonitor(Context context) {
+        mAppContext = context.getApplicationContext();
+        mConnectivityManager = (ConnectivityManager) mAppContext.getSystemService(Context.CONNECTIVITY_SERVICE);
+    }
+
+    /**
+     * Method that returns the Singleton instance of the {@link ConnectivityMonitor}
+     *
+     * @param context is the Context of the app
+     * @return Instance of the {@link ConnectivityMonitor}
+     */
+    public static synchronized ConnectivityMonitor getInstance(Context context) {
+        if (mInstance == null) {
+            mInstance = new ConnectivityMonitor(context);
+        }
+        return mInstance;
+    }
+
+    /**
+     * Method that starts monitoring the network changes, and probes the reachability.
+     * Has no effect when already started.
+     */
+    public synchronized void start() {
+        if (mProbeHandler != null) {
+            return;
+        }
+
+        //Starting the background thread for the probe
+        HandlerThread probeThread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        probeThread.start();
+        mProbeHandler = new Handler(probeThread.getLooper());
+
+        //Reading the current state of the active network
+        updateNetworkState();
+
+        //Registering for the network changes
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            registerNetworkCallback();
+        } else {
+            mConnectivityReceiver = new BroadcastReceiver() {
+                @Override
+                public void onReceive(Context context, Intent intent) {
+                    updateNetworkState();
+                }
+            };
+            mAppContext.registerReceiver(mConnectivityReceiver, new IntentFilter(ConnectivityManager.CONNECTIVITY_ACTION));
+        }
+    }
+
+    /**
+     * Method that stops monitoring the network changes. Has no effect when not started.
+     */
+    public synchronized void stop() {
+        if (mProbeHandler == null) {
+            return;
+        }
+
+        //Unregistering from the network changes
+        if (mNetworkCallback != null) {
+            unregisterNetworkCallback();
+        }
+        if (mConnectivityReceiver != null) {
+            mAppContext.unregisterReceiver(mConnectivityReceiver);
+            mConnectivityReceiver = null;
+        }
+
+        //Stopping the background thread of the probe
+        mProbeHandler.getLooper().quit();
+        mProbeHandler = null;
+        mIsProbePending = false;
+    }
+
+    /**
+     * Method that registers the listener to be notified when the Internet is reachable again
+     *
+     * @param listener is the {@link OnNetworkConnectedListener} to be notified
+     */
+    @MainThread
+    public void addOnNetworkConnectedListener(OnNetworkConnectedListener listener) {
+        if (!mConnectedListeners.contains(listener)) {
+            mConnectedListeners.add(listener);
+        }
+    }
+
+    /**
+     * Method that unregisters the listener, when it is being destroyed
+     *
+     * @param listener is the {@link OnNetworkConnectedListener} to be removed
+     */
+    @MainThread
+    public void removeOnNetworkConnectedListener(OnNetworkConnectedListener listener) {
+        mConnectedListeners.remove(listener);
+    }
+
+    /**
+     * Method that returns the last known state of the Network Connectivity without blocking.
+     * Refreshes the reachability in the background when its result has expired.
+     *
+     * @return True when there is an active network and the Internet was reachable; false otherwise
+     */
+    public boolean isNetworkConnected() {
+        if (!mIsNetworkAvailable) {
+            //Returning false without probing when there is no active network
+            return false;
+        }
+
+        if (SystemClock.elapsedRealtime() - mProbeTimeMillis > PROBE_RESULT_TTL_MILLIS) {
+            //Refreshing the expired result for the later calls
+            requestProbe();
+        }
+
+        return mIsReachable;
+    }
+
+    /**
+     * Method that reads the state of the active network, and probes the reachability again
+     * as the network may have changed
+     */
+    private void updateNetworkState() {
+        NetworkInfo activeNetworkInfo = mConnectivityManager.getActiveNetworkInfo();
+        mIsNetworkAvailable = (activeNetworkInfo != null && activeNetworkInfo.isConnected());
+
+        Log.i(TAG, "updateNetworkState: Network available: " + mIsNetworkAvailable);
+
+        if (mIsNetworkAvailable) {
+            //Expiring the previous result and probing the new network,
+            //which notifies the listeners when reachable
+            mProbeTimeMillis = 0;
+            requestProbe();
+        } else {
+            //Recording the loss of the network on the main thread
+            mMainHandler.post(mDispatchRunnable);
+        }
+    }
+
+    /**
+     * Method that schedules the probe on the background thread, if not already pending
+     */
+    private synchronized void requestProbe() {
+        if (mProbeHandler != null && !mIsProbePending) {
+            mIsProbePending = true;
+            mProbeHandler.post(mProbeRunnable);
+        }
+    }
+
+    /**
+     * Method that verifies the reachability of the Internet by connecting to the Google DNS.
+     * Runs on the background thread.
+     *
+     * @return True when the connection was established within the timeout; false otherwise
+     */
+    private boolean probeReachability() {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(PROBE_HOST, PROBE_PORT), PROBE_TIMEOUT_MILLIS);
+            return true;
+        } catch (IOException e) {
+            Log.e(TAG, "probeReachability: IOException: ", e);
+            return false;
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                Log.e(TAG, "probeReachability: Failed to close the socket", e);
+            }
+        }
+    }
+
+    /**
+     * Method that registers the {@link ConnectivityManager.NetworkCallback} for the changes
+     * of the networks that provide the Internet
+     */
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    private void registerNetworkCallback() {
+        mNetworkCallback = new ConnectivityManager.NetworkCallback() {
+            @Override
+            public void onAvailable(Network network) {
+                updateNetworkState();
+            }
+
+            @Override
+            public void onLost(Network network) {
+                updateNetworkState();
+            }
+        };
+        mConnectivityManager.registerNetworkCallback(
+                new NetworkRequest.Builder()
+                        .addCapability(NetworkCapabilities.NET_CAPABILITY_INTERNET)
+                        .build(),
+                mNetworkCallback
+        );
+    }
+
+    /**
+     * Method that unregisters the {@link ConnectivityManager.NetworkCallback}
+     */
+    @TargetApi(Build.VERSION_CODES.LOLLIPOP)
+    private void unregisterNetworkCallback() {
+        mConnectivityManager.unregisterNetworkCallback(mNetworkCallback);
+        mNetworkCallback = null;
+    }
+
+    /**
+     * Listener to be notified on the main thread when the Internet is reachable again
+     */
+    interface OnNetworkConnectedListener {
+
+        /**
+         * Callback Method of {@link ConnectivityMonitor} invoked when the Internet
+         * is reachable again after it was lost
+         */
+        void onNetworkConnected();
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.support.annotation.MainThread;
+import android.view.Choreographer;
+import android.widget.TextView;
+
+/**
+ * Class that shows the time remaining of the quiz as "mm:ss" on the Timer text field
+ * "R.id.count_down_text_id". The time remaining set is rendered on the next frame through
+ * the {@link Choreographer}, coalescing the updates within a frame, and the text is updated
+ * only when the minutes or the seconds shown change. The text is formatted into a reused
+ * char buffer, hence the updates while the quiz runs do not allocate.
+ *
+ * @author Kaushik N Sanji
+ */
+public class CountDownTextDisplay implements Choreographer.FrameCallback {
+
+    //Length of the text shown, "mm:ss"
+    private static final int TEXT_LENGTH = 5;
+
+    //Stores the Timer text field
+    private final TextView mCountDownTextView;
+    //Buffer of the text shown
+    private final char[] mTextBuffer = new char[TEXT_LENGTH];
+    //Stores the time remaining in seconds to be rendered on the next frame
+    private long mPendingSeconds;
+    //Stores the time remaining in seconds shown, -1 when nothing is shown yet
+    private long mShownSeconds = -1;
+    //Stores whether a frame callback is pending
+    private boolean mFramePending;
+
+    /**
+     * @param countDownTextView is the Timer text field "R.id.count_down_text_id"
+     */
+    public CountDownTextDisplay(TextView countDownTextView) {
+        mCountDownTextView = countDownTextView;
+        mTextBuffer[2] = ':';
+    }
+
+    /**
+     * Method that sets the time remaining to be shown on the next frame
+     *
+     * @param millisUntilFinished is the remaining Millis of the timer
+     */
+    @MainThread
+    public void setMillisRemaining(long millisUntilFinished) {
+        mPendingSeconds = millisUntilFinished / 1000;
+        if (mPendingSeconds != mShownSeconds && !mFramePending) {
+            mFramePending = true;
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Method that cancels the frame callback if pending. The time remaining needs to be set again
+     * for the display to be updated, after this call.
+     */
+    @MainThread
+    public void cancel() {
+        if (mFramePending) {
+            mFramePending = false;
+            Choreographer.getInstance().removeFrameCallback(this);
+        }
+    }
+
+    /**
+     * Called when a new display frame is being rendered. Updates the text shown
+     * when the time remaining in seconds has changed.
+     *
+     * @param frameTimeNanos The time in nanoseconds when the frame started being rendered
+     */
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        mFramePending = false;
+        if (mPendingSeconds == mShownSeconds) {
+            return;
+        }
+        mShownSeconds = mPendingSeconds;
+
+        //Formatting the minutes and seconds as two digits each
+        int minutes = (int) ((mShownSeconds / 60) % 60);
+        int seconds = (int) (mShownSeconds % 60);
+        mTextBuffer[0] = (char) ('0' + minutes / 10);
+        mTextBuffer[1] = (char) ('0' + minutes % 10);
+        mTextBuffer[3] = (char) ('0' + seconds / 10);
+        mTextBuffer[4] = (char) ('0' + seconds % 10);
+
+        mCountDownTextView.setText(mTextBuffer, 0, TEXT_LENGTH);
+    }
+
+}
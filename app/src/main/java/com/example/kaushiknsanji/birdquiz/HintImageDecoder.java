@@ -0,0 +1,434 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.os.Build;
+import android.support.annotation.WorkerThread;
+import android.util.DisplayMetrics;
+import android.util.Log;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Class that decodes the downsampled Bitmaps of the Hint Images.
+ * The Images are decoded from the files they are spooled to, or from the buffer they are read into,
+ * reading only the header of the Image for its bounds, so that the encoded Image is never copied
+ * again on the heap. The Bitmaps are decoded into the memory of the Bitmaps in the {@link BitmapPool}
+ * when available. The Images are downsized to the size of the view showing them, by sampling
+ * in powers of two and by scaling the sampled Image down to the size of the view, in a single decode
+ * that also applies to the HARDWARE Bitmaps.
+ * Opaque (JPEG) Images are decoded to RGB_565, or to HARDWARE Bitmaps when preferred and supported,
+ * and only the Images that can have alpha are decoded to ARGB_8888.
+ *
+ * @author Kaushik N Sanji
+ */
+public final class HintImageDecoder {
+
+    private static final String TAG = HintImageDecoder.class.getSimpleName();
+    //Default dimensions of the Image, used till the size of the view showing the Image is known
+    private static final int DEFAULT_TARGET_WIDTH = 576;
+    private static final int DEFAULT_TARGET_HEIGHT = 432;
+
+    //Stores the dimensions of the view showing the Image in pixels, and the density of its screen
+    private static volatile int mTargetWidth = DEFAULT_TARGET_WIDTH;
+    private static volatile int mTargetHeight = DEFAULT_TARGET_HEIGHT;
+    private static volatile int mTargetDensity = DisplayMetrics.DENSITY_DEFAULT;
+    //Stores whether the opaque Images are decoded to HARDWARE Bitmaps where supported
+    private static volatile boolean mPreferHardwareBitmaps;
+
+    /**
+     * Private Constructor to avoid instantiating the {@link HintImageDecoder}
+     */
+    private HintImageDecoder() {
+    }
+
+    /**
+     * Method that sets the size of the view showing the Images, to which the Images are downsized.
+     * Applies to the Images decoded thereafter.
+     *
+     * @param width      is the Integer width of the view in pixels
+     * @param height     is the Integer height of the view in pixels
+     * @param densityDpi is the Integer density of the screen of the view in dots-per-inch
+     */
+    public static void setTargetSize(int width, int height, int densityDpi) {
+        if (width > 0 && height > 0
+                && (width != mTargetWidth || height != mTargetHeight || densityDpi != mTargetDensity)) {
+            mTargetWidth = width;
+            mTargetHeight = height;
+            mTargetDensity = densityDpi;
+
+            Log.i(TAG, "setTargetSize: Images will be downsized to " + width + "x" + height);
+        }
+    }
+
+    /**
+     * Method that sets whether the opaque Images are decoded to HARDWARE Bitmaps on Android O and above.
+     * HARDWARE Bitmaps are immutable and hence are never reused through the {@link BitmapPool}.
+     *
+     * @param preferHardwareBitmaps is a Boolean which when True decodes the opaque Images
+     *                              to HARDWARE Bitmaps; to RGB_565 otherwise
+     */
+    public static void setPreferHardwareBitmaps(boolean preferHardwareBitmaps) {
+        mPreferHardwareBitmaps = preferHardwareBitmaps;
+    }
+
+    /**
+     * Method that decodes the downsampled Bitmap from the Image file passed
+     *
+     * @param imageFile is the File of the encoded Image
+     * @return Bitmap containing the image decoded; null when the Image could not be decoded
+     */
+    @WorkerThread
+    public static Bitmap decodeSampledBitmap(File imageFile) {
+        final String imagePath = imageFile.getAbsolutePath();
+        try {
+            return decodeSampledBitmap(new ImageSource() {
+                @Override
+                Bitmap decode(BitmapFactory.Options bitmapOptions) {
+                    return BitmapFactory.decodeFile(imagePath, bitmapOptions);
+                }
+            });
+        } catch (IOException e) {
+            //Not thrown while decoding from the path
+            return null;
+        }
+    }
+
+    /**
+     * Method that decodes the downsampled Bitmap from the stream of the Image file passed
+     *
+     * @param imageInputStream is the FileInputStream of the encoded Image
+     * @return Bitmap containing the image decoded; null when the Image could not be decoded
+     * @throws IOException when the Image file could not be read
+     */
+    @WorkerThread
+    public static Bitmap decodeSampledBitmap(final FileInputStream imageInputStream) throws IOException {
+        return decodeSampledBitmap(new ImageSource() {
+            @Override
+            Bitmap decode(BitmapFactory.Options bitmapOptions) throws IOException {
+                //Rewinding the file to its start, as it is moved by every decode
+                imageInputStream.getChannel().position(0);
+                return BitmapFactory.decodeFileDescriptor(imageInputStream.getFD(), null, bitmapOptions);
+            }
+        });
+    }
+
+    /**
+     * Method that decodes the downsampled Bitmap from the part of the byte array passed
+     *
+     * @param imageData is the byte array containing the encoded Image
+     * @param offset    is the Integer offset of the encoded Image in the array
+     * @param length    is the Integer number of bytes of the encoded Image
+     * @return Bitmap containing the image decoded; null when the Image could not be decoded
+     */
+    @WorkerThread
+    public static Bitmap decodeSampledBitmap(final byte[] imageData, final int offset, final int length) {
+        try {
+            return decodeSampledBitmap(new ImageSource() {
+                @Override
+                Bitmap decode(BitmapFactory.Options bitmapOptions) {
+                    return BitmapFactory.decodeByteArray(imageData, offset, length, bitmapOptions);
+                }
+            });
+        } catch (IOException e) {
+            //Not thrown while decoding from the array
+            return null;
+        }
+    }
+
+    /**
+     * Method that decodes the Bitmap of the drawable resource passed, reusing a Bitmap
+     * from the {@link BitmapPool} when possible. The Bitmap can be returned to the pool
+     * when no longer in use.
+     *
+     * @param resources  is the Resources of the app
+     * @param resourceId is the Integer identifier of the drawable resource
+     * @return Bitmap containing the image decoded; null when the Image could not be decoded
+     */
+    public static Bitmap decodeResource(final Resources resources, final int resourceId) {
+        //Retrieving the bounds, scaled to the density of the screen, along with the type of the Image
+        BitmapFactory.Options bitmapOptions = new BitmapFactory.Options();
+        bitmapOptions.inJustDecodeBounds = true;
+        BitmapFactory.decodeResource(resources, resourceId, bitmapOptions);
+        bitmapOptions.inJustDecodeBounds = false;
+
+        //Choosing the config from the type of the Image
+        setDecodeConfig(bitmapOptions);
+
+        if (!isHardwareConfig(bitmapOptions)) {
+            //Decoding mutable Bitmaps, so that they can be reused later
+            bitmapOptions.inMutable = true;
+
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT
+                    && bitmapOptions.outWidth > 0 && bitmapOptions.outHeight > 0) {
+                //Looking up the pool for a Bitmap that fits the scaled Image
+                bitmapOptions.inBitmap = BitmapPool.get(bitmapOptions.outWidth, bitmapOptions.outHeight,
+                        bitmapOptions.inPreferredConfig);
+            }
+        }
+
+        try {
+            return decodeReusingBitmap(new ImageSource() {
+                @Override
+                Bitmap decode(BitmapFactory.Options bitmapOptions) {
+                    return BitmapFactory.decodeResource(resources, resourceId, bitmapOptions);
+                }
+            }, bitmapOptions);
+        } catch (IOException e) {
+            //Not thrown while decoding from the resources
+            return null;
+        }
+    }
+
+    /**
+     * Method that decodes the downsampled Bitmap from the source passed, reading its bounds first
+     *
+     * @param imageSource is the {@link ImageSource} of the encoded Image
+     * @return Bitmap containing the image decoded; null when the Image could not be decoded
+     * @throws IOException when the source could not be read
+     */
+    private static Bitmap decodeSampledBitmap(ImageSource imageSource) throws IOException {
+        //Retrieving only the bounds for the first time through BitmapFactory.Options
+        BitmapFactory.Options bitmapOptions = newBoundsOptions();
+        imageSource.decode(bitmapOptions);
+
+        if (!setSampledOptions(bitmapOptions)) {
+            return null;
+        }
+
+        //Choosing the config from the type of the Image
+        setDecodeConfig(bitmapOptions);
+
+        //Reusing the memory of a Bitmap no longer in use when available
+        setReusableBitmap(bitmapOptions);
+
+        Bitmap bitmap = decodeReusingBitmap(imageSource, bitmapOptions);
+        if (bitmap != null && isScaled(bitmapOptions)) {
+            //Marking the scaled Image with the density of the screen,
+            //so that it is drawn without being scaled again
+            bitmap.setDensity(mTargetDensity);
+        }
+
+        //Returning the downsized version
+        return bitmap;
+    }
+
+    /**
+     * Method that decodes the Bitmap from the source passed into the
+     * {@link BitmapFactory.Options#inBitmap} if set, falling back to a new Bitmap
+     * when the Bitmap could not be reused
+     *
+     * @param imageSource   is the {@link ImageSource} of the encoded Image
+     * @param bitmapOptions is the BitmapFactory.Options for decoding the Image
+     * @return Bitmap containing the image decoded; null when the Image could not be decoded
+     * @throws IOException when the source could not be read
+     */
+    private static Bitmap decodeReusingBitmap(ImageSource imageSource, BitmapFactory.Options bitmapOptions)
+            throws IOException {
+        try {
+            return imageSource.decode(bitmapOptions);
+        } catch (IllegalArgumentException e) {
+            if (bitmapOptions.inBitmap == null) {
+                throw e;
+            }
+            //Decoding to a new Bitmap when the Bitmap from the pool does not fit the Image
+            Log.w(TAG, "decodeReusingBitmap: Bitmap from the pool could not be reused", e);
+            bitmapOptions.inBitmap = null;
+            return imageSource.decode(bitmapOptions);
+        }
+    }
+
+    /**
+     * Method that sets a Bitmap from the {@link BitmapPool} as the {@link BitmapFactory.Options#inBitmap},
+     * for decoding the downsized Image of the bounds decoded
+     *
+     * @param bitmapOptions is the BitmapFactory.Options containing the bounds of the Image and its sample size
+     */
+    private static void setReusableBitmap(BitmapFactory.Options bitmapOptions) {
+        if (isHardwareConfig(bitmapOptions)) {
+            //HARDWARE Bitmaps can neither be mutable nor be decoded into a reused Bitmap
+            return;
+        }
+
+        //Decoding mutable Bitmaps, so that they can be reused later
+        bitmapOptions.inMutable = true;
+
+        boolean isScaled = isScaled(bitmapOptions);
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.KITKAT
+                && (bitmapOptions.inSampleSize > 1 || isScaled)) {
+            //Bitmaps cannot be reused for the downsampled or scaled Images prior to KitKat
+            return;
+        }
+
+        //Dimensions of the downsized Image, rounded up so that the Bitmap reused is never short
+        int sampleSize = bitmapOptions.inSampleSize;
+        int width = (bitmapOptions.outWidth + sampleSize - 1) / sampleSize;
+        int height = (bitmapOptions.outHeight + sampleSize - 1) / sampleSize;
+        if (isScaled) {
+            float scale = (float) bitmapOptions.inTargetDensity / bitmapOptions.inDensity;
+            width = (int) Math.ceil(width * scale);
+            height = (int) Math.ceil(height * scale);
+        }
+
+        bitmapOptions.inBitmap = BitmapPool.get(width, height, bitmapOptions.inPreferredConfig);
+    }
+
+    /**
+     * Method that returns the BitmapFactory.Options for decoding only the bounds of the Image
+     *
+     * @return BitmapFactory.Options to decode the bounds
+     */
+    private static BitmapFactory.Options newBoundsOptions() {
+        BitmapFactory.Options bitmapOptions = new BitmapFactory.Options();
+        bitmapOptions.inJustDecodeBounds = true;
+        bitmapOptions.inPreferQualityOverSpeed = false;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            bitmapOptions.inScaled = false;
+        }
+        return bitmapOptions;
+    }
+
+    /**
+     * Method that chooses the Bitmap.Config for decoding the Image from the type of the Image
+     * decoded along with its bounds. JPEG Images are always opaque and hence are decoded to RGB_565,
+     * or to HARDWARE Bitmaps when preferred and supported. The rest are decoded to ARGB_8888,
+     * as they can have alpha.
+     *
+     * @param bitmapOptions is the BitmapFactory.Options containing the type of the Image
+     */
+    private static void setDecodeConfig(BitmapFactory.Options bitmapOptions) {
+        if (!"image/jpeg".equals(bitmapOptions.outMimeType)) {
+            //Retaining the alpha of the Images that can have it
+            bitmapOptions.inPreferredConfig = Bitmap.Config.ARGB_8888;
+        } else if (mPreferHardwareBitmaps && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            //Decoding the opaque Image directly to the graphics memory
+            bitmapOptions.inPreferredConfig = Bitmap.Config.HARDWARE;
+        } else {
+            //Decoding the opaque Image at half the memory
+            bitmapOptions.inPreferredConfig = Bitmap.Config.RGB_565;
+        }
+    }
+
+    /**
+     * Method that checks whether the BitmapFactory.Options decode to a HARDWARE Bitmap
+     *
+     * @param bitmapOptions is the BitmapFactory.Options for decoding the Image
+     * @return True when decoding to a HARDWARE Bitmap; false otherwise
+     */
+    private static boolean isHardwareConfig(BitmapFactory.Options bitmapOptions) {
+        return Build.VERSION.SDK_INT >= Build.VERSION_CODES.O
+                && bitmapOptions.inPreferredConfig == Bitmap.Config.HARDWARE;
+    }
+
+    /**
+     * Method that updates the BitmapFactory.Options with the bounds decoded,
+     * for decoding the Image downsized to the size of the view showing it
+     *
+     * @param bitmapOptions is the BitmapFactory.Options containing the bounds of the Image
+     * @return True when the bounds of the Image were decoded; false otherwise
+     */
+    private static boolean setSampledOptions(BitmapFactory.Options bitmapOptions) {
+
+        //Retrieving the raw image dimensions decoded through Bitmap options
+        int rawWidth = bitmapOptions.outWidth;
+        int rawHeight = bitmapOptions.outHeight;
+
+        if (rawWidth <= 0 || rawHeight <= 0) {
+            //Returning false when the header of the Image could not be decoded
+            return false;
+        }
+
+        //Reading the target dimensions once, as they can be updated meanwhile
+        int targetWidth = mTargetWidth;
+        int targetHeight = mTargetHeight;
+
+        //Deriving the scaling factor to downsize the image: START
+        //Starting with the down scaling factor of 1
+        int downScalingFactorSize = 1;
+
+        if (rawWidth > targetWidth || rawHeight > targetHeight) {
+            //Calculating Half raw dimensions
+            int halfWidth = rawWidth / 2;
+            int halfHeight = rawHeight / 2;
+
+            //Calculating the down-scaling factor, which keeps the sampled image
+            //at least as large as the view in both dimensions
+            while ((halfWidth / downScalingFactorSize) >= targetWidth
+                    && (halfHeight / downScalingFactorSize) >= targetHeight) {
+                downScalingFactorSize *= 2;
+            }
+
+        }
+        //Deriving the scaling factor to downsize the image: END
+
+        //Retrieving the actual downsized image using the options derived
+        bitmapOptions.inJustDecodeBounds = false;
+        bitmapOptions.inSampleSize = downScalingFactorSize;
+
+        //Deriving the scale from the sampled image to the size of the view: START
+        int sampledWidth = rawWidth / downScalingFactorSize;
+        int sampledHeight = rawHeight / downScalingFactorSize;
+
+        //The view stretches the image to fill it, hence scaling by the larger of the two ratios,
+        //so that neither dimension is scaled below the view
+        boolean isWidthBound = (long) targetWidth * sampledHeight >= (long) targetHeight * sampledWidth;
+        int sampledSize = isWidthBound ? sampledWidth : sampledHeight;
+        int targetSize = isWidthBound ? targetWidth : targetHeight;
+
+        if (targetSize < sampledSize) {
+            //Scaling down the sampled image through the densities, as the ratio of the sizes
+            bitmapOptions.inScaled = true;
+            bitmapOptions.inDensity = sampledSize;
+            bitmapOptions.inTargetDensity = targetSize;
+        }
+        //Deriving the scale from the sampled image to the size of the view: END
+
+        return true;
+    }
+
+    /**
+     * Method that checks whether the BitmapFactory.Options scale the sampled Image
+     *
+     * @param bitmapOptions is the BitmapFactory.Options for decoding the Image
+     * @return True when the Image is scaled; false otherwise
+     */
+    private static boolean isScaled(BitmapFactory.Options bitmapOptions) {
+        return bitmapOptions.inScaled && bitmapOptions.inDensity > 0 && bitmapOptions.inTargetDensity > 0
+                && bitmapOptions.inDensity != bitmapOptions.inTargetDensity;
+    }
+
+    /**
+     * Source of an encoded Image, decoded with the BitmapFactory.Options passed
+     */
+    private static abstract class ImageSource {
+
+        /**
+         * Method that decodes the Image with the BitmapFactory.Options passed
+         *
+         * @param bitmapOptions is the BitmapFactory.Options for decoding the Image
+         * @return Bitmap decoded; null when decoding only the bounds or when the Image could not be decoded
+         * @throws IOException when the source could not be read
+         */
+        abstract Bitmap decode(BitmapFactory.Options bitmapOptions) throws IOException;
+    }
+
+}
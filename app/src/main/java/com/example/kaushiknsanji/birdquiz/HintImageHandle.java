@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.graphics.Bitmap;
+import android.support.annotation.MainThread;
+import android.support.annotation.Nullable;
+
+/**
+ * Reference counted handle of a Hint Image, that is shared as is between the download tasks,
+ * the {@link QuizSession} and the view showing it, without copying or looking up the Image again.
+ * <p>
+ * The Image stays pinned while any of them holds a reference. When the last reference is released,
+ * a downloaded Image is unpinned in the {@link BitmapImageCache}, which returns it to the
+ * {@link BitmapPool} if it was evicted meanwhile, and an Image decoded from the resources is
+ * returned to the {@link BitmapPool} right away. A handle is created with a reference held by
+ * its creator; a handle passed to a method is borrowed, and needs to be retained for keeping it.
+ *
+ * @author Kaushik N Sanji
+ */
+public final class HintImageHandle {
+
+    //Stores the Image of the handle
+    private final Bitmap mBitmap;
+    //Stores whether the Image is shared through the Bitmap Cache (True), or owned by the handle (False)
+    private final boolean mIsCached;
+    //Stores the number of references held
+    private int mRefCount = 1;
+
+    /**
+     * Private Constructor of {@link HintImageHandle}
+     *
+     * @param bitmap   is the Image of the handle
+     * @param isCached is a Boolean that indicates whether the Image is shared through the Bitmap Cache
+     */
+    private HintImageHandle(Bitmap bitmap, boolean isCached) {
+        mBitmap = bitmap;
+        mIsCached = isCached;
+    }
+
+    /**
+     * Method that creates a handle of the Image downloaded, pinning it in the {@link BitmapImageCache}
+     *
+     * @param bitmap is the Image downloaded
+     * @return Instance of the {@link HintImageHandle} with a reference held by the caller;
+     * null when the Image is null
+     */
+    @Nullable
+    public static HintImageHandle wrapCachedImage(@Nullable Bitmap bitmap) {
+        if (bitmap == null) {
+            return null;
+        }
+        BitmapImageCache.pinBitmap(bitmap);
+        return new HintImageHandle(bitmap, true);
+    }
+
+    /**
+     * Method that creates a handle of the Image decoded from the resources,
+     * which is returned to the {@link BitmapPool} when released
+     *
+     * @param bitmap is the Image decoded from the resources
+     * @return Instance of the {@link HintImageHandle} with a reference held by the caller;
+     * null when the Image is null
+     */
+    @Nullable
+    public static HintImageHandle wrapLocalImage(@Nullable Bitmap bitmap) {
+        if (bitmap == null) {
+            return null;
+        }
+        return new HintImageHandle(bitmap, false);
+    }
+
+    /**
+     * Method that creates a handle of the Image present in the {@link BitmapImageCache}
+     * for the Image URL passed
+     *
+     * @param imageURLStr The Image URL string whose Image needs to be retrieved from the Memory Cache
+     * @return Instance of the {@link HintImageHandle} with a reference held by the caller;
+     * null when the Image is not present
+     */
+    @Nullable
+    public static HintImageHandle acquireFromCache(String imageURLStr) {
+        Bitmap bitmap = BitmapImageCache.acquireBitmapFromCache(imageURLStr);
+        if (bitmap == null) {
+            return null;
+        }
+        //Taking over the pin of the acquire
+        return new HintImageHandle(bitmap, true);
+    }
+
+    /**
+     * @return The Image of the handle, which is valid only while a reference is held
+     */
+    public Bitmap getBitmap() {
+        return mBitmap;
+    }
+
+    /**
+     * Method that adds a reference to the handle
+     *
+     * @return This handle
+     */
+    @MainThread
+    public HintImageHandle retain() {
+        mRefCount++;
+        return this;
+    }
+
+    /**
+     * Method that releases a reference to the handle, releasing the Image when it was the last reference
+     */
+    @MainThread
+    public void release() {
+        if (mRefCount <= 0) {
+            return;
+        }
+
+        if (--mRefCount == 0) {
+            if (mIsCached) {
+                //Releasing the pin, which returns the Image to the pool if evicted from the cache meanwhile
+                BitmapImageCache.unpinBitmap(mBitmap);
+            } else {
+                //Returning the Image decoded to the pool for reuse
+                BitmapPool.put(mBitmap);
+            }
+        }
+    }
+
+    /**
+     * Method that replaces the handle held with the new handle passed,
+     * retaining the new handle and releasing the handle held
+     *
+     * @param heldHandle is the handle held currently; can be null
+     * @param newHandle  is the handle to be held; can be null
+     * @return The new handle passed, retained
+     */
+    @MainThread
+    public static HintImageHandle replace(@Nullable HintImageHandle heldHandle, @Nullable HintImageHandle newHandle) {
+        if (heldHandle != newHandle) {
+            if (newHandle != null) {
+                newHandle.retain();
+            }
+            if (heldHandle != null) {
+                heldHandle.release();
+            }
+        }
+        return newHandle;
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.graphics.Bitmap;
+import android.support.annotation.MainThread;
+import android.util.Log;
+import android.util.SparseArray;
+import android.util.SparseBooleanArray;
+
+/**
+ * Class that keeps the Hint Images of the upcoming questions warm in the {@link BitmapImageCache}.
+ * It walks the order of the questions of the quiz, and downloads the Images of a window
+ * of the next questions through the {@link ImageFetchEngine} at the prefetch priority.
+ * The window is cut short when the Images would exceed the share of the Bitmap Cache
+ * budgeted for prefetching, and downloads that fall outside the window are cancelled.
+ * While the network is not available, the Images are only read from the Disk Cache,
+ * and the window is prefetched over the network again when the network is back.
+ *
+ * @author Kaushik N Sanji
+ */
+public class HintImagePrefetcher {
+
+    private static final String TAG = HintImagePrefetcher.class.getSimpleName();
+    //Fraction of the Bitmap Cache that the prefetched Images can use (one-half),
+    //leaving the rest for the Images of the Current and the Future Questions
+    private static final int CACHE_BUDGET_FRACTION = 2;
+    //Estimated bytes of a downloaded Image (576x432 in RGB_565),
+    //used till the size of an Image prefetched is known
+    private static final int DEFAULT_IMAGE_BYTE_COUNT = 576 * 432 * 2;
+
+    //Stores the number of the next questions whose Images are kept warm
+    private final int mWindowSize;
+    //Stores the question indices in the order of the quiz
+    private int[] mQuestionIndexOrder;
+    //Stores the Image URLs resolved for the positions in the order,
+    //with an empty string for the questions that do not have an Image URL
+    private final SparseArray<String> mImageURLs = new SparseArray<>();
+    //Stores the handles of the downloads in progress for the positions in the order
+    private final SparseArray<ImageFetchEngine.FetchHandle> mFetchHandles = new SparseArray<>();
+    //Stores the positions whose downloads in progress are restricted to the Disk Cache
+    private final SparseBooleanArray mDiskCacheOnlyPositions = new SparseBooleanArray();
+    //Stores the total bytes and the number of the Images prefetched, for estimating the size of an Image
+    private long mPrefetchedByteCount;
+    private int mPrefetchedCount;
+
+    /**
+     * @param windowSize is the Integer number of the next questions whose Images need to be kept warm
+     */
+    public HintImagePrefetcher(int windowSize) {
+        mWindowSize = windowSize;
+    }
+
+    /**
+     * Method that sets the order of the questions of the quiz, cancelling the downloads
+     * of the previous order if any
+     *
+     * @param questionIndexOrder is the Integer array of the question indices in the order of the quiz
+     */
+    @MainThread
+    public void setQuestionOrder(int[] questionIndexOrder) {
+        if (mQuestionIndexOrder != questionIndexOrder) {
+            cancelAll();
+            mImageURLs.clear();
+            mQuestionIndexOrder = questionIndexOrder;
+        }
+    }
+
+    /**
+     * Method that prefetches the Images of the window of questions starting at the position passed,
+     * and cancels the downloads of the positions outside the window. The Images are only read
+     * from the Disk Cache while the network is not available, hence this needs to be called again
+     * when the network is back.
+     *
+     * @param startPosition   is the Integer position in the order from which the Images are required
+     * @param hintImageSource is the {@link HintImageSource} that provides the Image URL of a question
+     */
+    @MainThread
+    public void prefetch(int startPosition, HintImageSource hintImageSource) {
+        if (mQuestionIndexOrder == null) {
+            return;
+        }
+
+        //Budget in bytes for the Images of the window
+        long budgetByteCount = BitmapImageCache.getMaxSize() / CACHE_BUDGET_FRACTION;
+        //Estimated bytes of an Image yet to be downloaded
+        long estimatedByteCount = mPrefetchedCount > 0 ? mPrefetchedByteCount / mPrefetchedCount : DEFAULT_IMAGE_BYTE_COUNT;
+        //Bytes of the window accounted so far
+        long windowByteCount = 0;
+        //Restricting the downloads to the Disk Cache while the network is not available
+        boolean diskCacheOnly = !hintImageSource.isNetworkConnected();
+
+        int endPosition = Math.min(startPosition + mWindowSize, mQuestionIndexOrder.length);
+        int position = startPosition;
+        for (; position < endPosition; position++) {
+            String imageURLStr = getImageURL(position, hintImageSource);
+            if (imageURLStr.isEmpty()) {
+                //Skipping the questions whose Images are not downloaded
+                continue;
+            }
+
+            int cachedByteCount = BitmapImageCache.getCachedBitmapByteCount(imageURLStr);
+            if (cachedByteCount > 0) {
+                //Accounting the Image already present in the Bitmap Cache
+                windowByteCount += cachedByteCount;
+                continue;
+            }
+
+            if (windowByteCount + estimatedByteCount > budgetByteCount) {
+                //Cutting the window short when the Image would exceed the budget
+                Log.i(TAG, "prefetch: Window cut short at the position " + position + " due to memory budget");
+                break;
+            }
+            windowByteCount += estimatedByteCount;
+
+            ImageFetchEngine.FetchHandle fetchHandle = mFetchHandles.get(position);
+            if (fetchHandle != null && !diskCacheOnly && mDiskCacheOnlyPositions.get(position)) {
+                //Replacing the read of the Disk Cache with the download, as the network is back
+                fetchHandle.cancel();
+                fetchHandle = null;
+            }
+            if (fetchHandle == null) {
+                //Starting the download when not yet in progress
+                mFetchHandles.put(position, ImageFetchEngine.getInstance().fetch(imageURLStr,
+                        ImageFetchEngine.PRIORITY_PREFETCH, diskCacheOnly, new PrefetchListener(position)));
+                mDiskCacheOnlyPositions.put(position, diskCacheOnly);
+            }
+        }
+
+        //Cancelling the downloads outside the window
+        cancelOutside(startPosition, position);
+    }
+
+    /**
+     * Method that cancels all the downloads in progress
+     */
+    @MainThread
+    public void cancelAll() {
+        cancelOutside(0, 0);
+    }
+
+    /**
+     * Method that cancels the downloads whose positions are outside the range passed
+     *
+     * @param startPosition is the Integer position at which the range starts (inclusive)
+     * @param endPosition   is the Integer position at which the range ends (exclusive)
+     */
+    private void cancelOutside(int startPosition, int endPosition) {
+        for (int index = mFetchHandles.size() - 1; index >= 0; index--) {
+            int position = mFetchHandles.keyAt(index);
+            if (position < startPosition || position >= endPosition) {
+                mFetchHandles.valueAt(index).cancel();
+                mFetchHandles.removeAt(index);
+                mDiskCacheOnlyPositions.delete(position);
+            }
+        }
+    }
+
+    /**
+     * Method that returns the Image URL of the question at the position passed,
+     * resolving it only once for the order, when the question is loaded
+     *
+     * @param position        is the Integer position of the question in the order
+     * @param hintImageSource is the {@link HintImageSource} that provides the Image URL of a question
+     * @return String containing the Image URL; empty when the question does not have an Image URL
+     */
+    private String getImageURL(int position, HintImageSource hintImageSource) {
+        String imageURLStr = mImageURLs.get(position);
+        if (imageURLStr == null) {
+            imageURLStr = hintImageSource.getHintImageURL(mQuestionIndexOrder[position]);
+            if (imageURLStr == null) {
+                //Skipping the question yet to be loaded, which is resolved on the next prefetch
+                return "";
+            }
+            mImageURLs.put(position, imageURLStr);
+        }
+        return imageURLStr;
+    }
+
+    /**
+     * Interface to be implemented by the provider of the Image URLs of the questions
+     */
+    interface HintImageSource {
+
+        /**
+         * Method that returns the Image URL of the Hint Image of the question
+         *
+         * @param questionIndex is the Integer identifier of the Question
+         * @return String containing the Image URL; empty when the Hint Image is not downloaded from a URL,
+         * and null when the Question is yet to be loaded
+         */
+        String getHintImageURL(int questionIndex);
+
+        /**
+         * Method that returns the last known state of the Network Connectivity without blocking
+         *
+         * @return True when the Images can be downloaded over the network; false when only
+         * the Disk Cache can be read
+         */
+        boolean isNetworkConnected();
+    }
+
+    /**
+     * {@link ImageFetchEngine.FetchListener} of a prefetch, that records the size of the Image downloaded
+     */
+    private class PrefetchListener implements ImageFetchEngine.FetchListener {
+
+        //Stores the position of the question in the order
+        private final int mPosition;
+
+        /**
+         * @param position is the Integer position of the question in the order
+         */
+        PrefetchListener(int position) {
+            mPosition = position;
+        }
+
+        //Invoked on the main thread when a part of the Image has been downloaded
+        @Override
+        public void onFetchProgress(int progressValue, int contentLength) {
+            //Progress is not shown for the prefetches
+        }
+
+        //Invoked on the main thread when the download has completed
+        @Override
+        public void onFetchComplete(Bitmap bitmap) {
+            //Removing the handle of the completed download
+            mFetchHandles.remove(mPosition);
+            mDiskCacheOnlyPositions.delete(mPosition);
+
+            if (bitmap != null) {
+                //Recording the size for estimating the size of the next Images
+                mPrefetchedByteCount += BitmapImageCache.getBitmapByteCount(bitmap);
+                mPrefetchedCount++;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,616 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.graphics.Bitmap;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.MainThread;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Task that manages the download of an Image from the specified URL
+ * through the {@link ImageFetchEngine}. The task is owned by the {@link QuizSession},
+ * hence the download in progress continues across the config changes, while the results
+ * are buffered till the recreated Activity attaches as the listener.
+ *
+ * @author Kaushik N Sanji
+ */
+public class ImageDownloadTask {
+
+    private static final String TAG = ImageDownloadTask.class.getSimpleName();
+    //Bundle Key Constants for saving/restoring
+    private static final String TASK_STATE_STR_KEY = "TaskState";
+    private static final String QUESTION_INDEX_INT_KEY = "QuestionIndex";
+    private static final String IMAGE_URL_STR_KEY = "ImageURL";
+    private static final String CURRENT_TASK_BOOL_KEY = "IsCurrentTask";
+    //Stores the states for the download task (Defaulted to STOPPED)
+    private String mTaskStateStr = TaskState.TASK_STATE_STOPPED.toString();
+    //Stores the Question Index of the download task
+    private int mQuestionIndex;
+    //Stores the Image URL of the download task
+    private String mImageURLStr;
+    //Stores the handle of the Image downloaded by the task
+    private HintImageHandle mImageHandle;
+    //Instance of the interface to deliver action events
+    private ImageDownloaderListener mDownloaderListener;
+    //Handle of the download request made to the ImageFetchEngine
+    private ImageFetchEngine.FetchHandle mFetchHandle;
+    //Stores whether the download is for the Current Question or the Future Question
+    private boolean mIsCurrentTask;
+    //Handler for delivering the events on the main thread
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    //Stores the results of the downloads that completed while the listener was detached,
+    //which are delivered in order when the listener attaches
+    private final ArrayList<DownloadResult> mPendingResults = new ArrayList<>();
+
+    /**
+     * Method that attaches the listener to receive the events of the task,
+     * and delivers the results buffered while detached
+     *
+     * @param downloaderListener is the {@link ImageDownloaderListener} to receive the events
+     */
+    @MainThread
+    public void attachListener(ImageDownloaderListener downloaderListener) {
+        mDownloaderListener = downloaderListener;
+
+        //Delivering the results buffered while detached
+        deliverPendingResults();
+    }
+
+    /**
+     * Method that detaches the listener when the Activity is destroyed.
+     * The results of the task are buffered till the next listener attaches.
+     */
+    @MainThread
+    public void detachListener() {
+        //Clearing the reference to the Activity to avoid leaking
+        mDownloaderListener = null;
+    }
+
+    /**
+     * Method that returns the Task State value for the provided Question Index
+     *
+     * @param questionIndex is the Integer identifier of the Question for which the task state is required
+     * @return String containing the state(STARTED/COMPLETED/FAILED/STOPPED) of the Download Task
+     */
+    public String getDownloadTaskState(int questionIndex) {
+        if (questionIndex == mQuestionIndex) {
+            //Returning the value when the task is of the index passed
+            return mTaskStateStr;
+        }
+
+        //Returning the value of stopped when the question index
+        //does not match with the task
+        return TaskState.TASK_STATE_STOPPED.toString();
+    }
+
+    /**
+     * Method that returns the handle of the Image of the provided Question Index on the task.
+     * The handle is borrowed from the task, and needs to be retained for keeping it.
+     *
+     * @param questionIndex is the Integer identifier of the Question for which the
+     *                      Image downloaded by the task is required
+     * @return {@link HintImageHandle} of the Image downloaded by the task
+     */
+    public HintImageHandle getImageHandle(int questionIndex) {
+        if (questionIndex == mQuestionIndex) {
+            //Returning the Image when the Task is of the Index passed
+            return mImageHandle;
+        }
+        //Returning null when the question index does not match with the task
+        return null;
+    }
+
+    /**
+     * Method that Cancels the download task if still in progress
+     *
+     * @param questionIndex is the Integer identifier of the Question for which the
+     *                      Image is being downloaded and needs to be cancelled if not completed
+     */
+    public void cancelTaskInProgress(int questionIndex) {
+        if (questionIndex == mQuestionIndex
+                && mTaskStateStr.equals(TaskState.TASK_STATE_STARTED.toString())) {
+            //Cancelling the Task only when it is for the same Index passed
+            //and the task has not yet completed/failed/stopped
+            releaseFetchHandle();
+
+            //Updating the Task state to STOPPED
+            mTaskStateStr = TaskState.TASK_STATE_STOPPED.toString();
+        }
+    }
+
+    /**
+     * Method that executes/starts the Image download task for the Current or the Future Question.
+     * The Image of the Current Question is downloaded ahead of the Images being prefetched,
+     * while that of the Future Question is downloaded along with them.
+     *
+     * @param questionIndex is the Integer identifier of the Question for which the
+     *                      Image is going to be downloaded
+     * @param imageURLStr   is the source URL of the Image to be downloaded
+     * @param isCurrentTask is a Boolean which when True downloads the Image for the Current Question
+     *                      at {@link ImageFetchEngine#PRIORITY_CURRENT}; for the Future Question
+     *                      at {@link ImageFetchEngine#PRIORITY_PREFETCH} otherwise
+     */
+    public void executeTask(int questionIndex, String imageURLStr, boolean isCurrentTask) {
+        //Releasing the previous download request if any
+        releaseFetchHandle();
+
+        //Marking the Task as the Current or the Future Task
+        mIsCurrentTask = isCurrentTask;
+
+        //loading the values
+        mQuestionIndex = questionIndex;
+        mImageURLStr = imageURLStr;
+
+        //Setting the Image to null initially
+        setImageHandle(null);
+
+        //Setting the Task state to STARTED
+        mTaskStateStr = TaskState.TASK_STATE_STARTED.toString();
+
+        if (deliverCachedBitmap()) {
+            //Exiting when the Image was already present in the Bitmap Cache
+            return;
+        }
+
+        //Evaluating the Internet Connectivity, which is left to the download
+        //when the Listener is yet to attach after a restart
+        boolean isNetworkConnected = (mDownloaderListener == null || mDownloaderListener.isNetworkConnected());
+        if (!isNetworkConnected) {
+            Log.i(TAG, "executeTask: Network is inactive, looking up the Disk Cache only");
+        }
+
+        //Starting the download, which is served from the Disk Cache when present,
+        //and fails when not present in the Disk Cache while the Network is inactive
+        int priority = mIsCurrentTask ? ImageFetchEngine.PRIORITY_CURRENT : ImageFetchEngine.PRIORITY_PREFETCH;
+        mFetchHandle = ImageFetchEngine.getInstance().fetch(mImageURLStr,
+                priority, !isNetworkConnected, new TaskFetchListener(mQuestionIndex));
+
+    }
+
+    /**
+     * Method that cancels the download request made to the {@link ImageFetchEngine} if any.
+     * The download continues when it is also requested by the other task.
+     */
+    private void releaseFetchHandle() {
+        if (mFetchHandle != null) {
+            mFetchHandle.cancel();
+            mFetchHandle = null;
+        }
+    }
+
+    /**
+     * Method that delivers the result of a download to the listener, or buffers it
+     * till the listener attaches when the Activity is being recreated
+     *
+     * @param downloadResult is the {@link DownloadResult} to be delivered
+     */
+    private void deliverResult(DownloadResult downloadResult) {
+        if (mDownloaderListener == null) {
+            //Buffering the result while detached
+            mPendingResults.add(downloadResult);
+            return;
+        }
+
+        if (downloadResult.mImageHandle != null) {
+            //Handing over the Image downloaded, and releasing the reference held by the result
+            mDownloaderListener.onDownloadFinish(downloadResult.mImageHandle, downloadResult.mQuestionIndex);
+            downloadResult.mImageHandle.release();
+        } else {
+            //When the image was not downloaded due to some error
+            mDownloaderListener.onDownloadError(downloadResult.mImageURLStr, downloadResult.mQuestionIndex);
+        }
+    }
+
+    /**
+     * Method that delivers the results buffered while the listener was detached, in their order
+     */
+    private void deliverPendingResults() {
+        if (mPendingResults.isEmpty()) {
+            return;
+        }
+
+        //Copying the results, as the listener can start new downloads while delivering
+        ArrayList<DownloadResult> pendingResults = new ArrayList<>(mPendingResults);
+        mPendingResults.clear();
+        for (DownloadResult downloadResult : pendingResults) {
+            deliverResult(downloadResult);
+        }
+    }
+
+    /**
+     * Method that releases the references held by the results buffered while detached
+     */
+    private void clearPendingResults() {
+        for (DownloadResult downloadResult : mPendingResults) {
+            if (downloadResult.mImageHandle != null) {
+                downloadResult.mImageHandle.release();
+            }
+        }
+        mPendingResults.clear();
+    }
+
+    /**
+     * Method that updates the handle of the Image held by the task, retaining it
+     * so that the memory of the Image is not reused while the task holds it
+     *
+     * @param imageHandle is the {@link HintImageHandle} of the Image of the task; can be null
+     */
+    private void setImageHandle(HintImageHandle imageHandle) {
+        mImageHandle = HintImageHandle.replace(mImageHandle, imageHandle);
+    }
+
+    /**
+     * Method that looks up the Bitmap Cache for the Image of the task, and when found,
+     * completes the task without downloading the Image again
+     *
+     * @return True when the Image was found in the Bitmap Cache; false otherwise
+     */
+    private boolean deliverCachedBitmap() {
+        //Looking up the Bitmap Cache for the Image
+        final HintImageHandle cachedImageHandle = HintImageHandle.acquireFromCache(mImageURLStr);
+
+        if (cachedImageHandle == null) {
+            //Returning false when the Image needs to be downloaded
+            return false;
+        }
+
+        //Updating the Image in task, releasing the reference of the acquire
+        setImageHandle(cachedImageHandle);
+        cachedImageHandle.release();
+
+        //Updating the Task state to COMPLETED
+        mTaskStateStr = TaskState.TASK_STATE_COMPLETED.toString();
+
+        //Delivering the Image to the listener on the next loop of the main thread,
+        //similar to the delivery of a completed download
+        final int questionIndex = mQuestionIndex;
+        mMainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (questionIndex == mQuestionIndex
+                        && cachedImageHandle == mImageHandle) {
+                    //Delivering only when the task was not restarted for a different Image
+                    deliverResult(new DownloadResult(cachedImageHandle.retain(), mImageURLStr, questionIndex));
+                }
+            }
+        });
+
+        Log.i(TAG, "deliverCachedBitmap: Image found in the Bitmap Cache for the Question Index " + questionIndex);
+
+        return true;
+    }
+
+    /**
+     * Method that retrieves and returns the image if successfully downloaded within
+     * the timeout specified; else the task gets cancelled. The task is completed with the image
+     * retrieved, hence the result of the download is not delivered again to the listener.
+     *
+     * @param questionIndex   is the Integer identifier of the Question for which the
+     *                        Image is being downloaded
+     * @param timeoutInMillis is the timeout in Millis within which the Image needs to be
+     *                        downloaded; else the task gets cancelled
+     * @return {@link HintImageHandle} of the image if downloaded successfully within time; else will be null.
+     * It can be Null even when the Question Index is not matching with that of the present task.
+     * The handle is borrowed from the task, and needs to be retained for keeping it.
+     */
+    public HintImageHandle getImageOnDemand(int questionIndex, long timeoutInMillis) {
+
+        if (mQuestionIndex == questionIndex && mFetchHandle != null) {
+            //When the Task is of the same index passed and the download is in progress
+
+            try {
+                //Trying to retrieve the Image within the timeout specified
+                HintImageHandle downloadedImageHandle = HintImageHandle.wrapCachedImage(mFetchHandle.get(timeoutInMillis));
+
+                //Detaching from the completed download, as its result is taken here
+                //and hence is not to be delivered again to the listener
+                releaseFetchHandle();
+
+                setImageHandle(downloadedImageHandle);
+                if (downloadedImageHandle != null) {
+                    //Releasing the reference of the wrap, as the task holds it
+                    downloadedImageHandle.release();
+
+                    //Adding the successfully downloaded image to Bitmap Cache
+                    BitmapImageCache.addBitmapToCache(mImageURLStr, downloadedImageHandle.getBitmap());
+
+                    //Updating the Task state to COMPLETED
+                    mTaskStateStr = TaskState.TASK_STATE_COMPLETED.toString();
+                } else {
+                    //Updating the Task state to FAILED
+                    mTaskStateStr = TaskState.TASK_STATE_FAILED.toString();
+                }
+
+                return mImageHandle; //Returning the handle of the Downloaded Image
+
+            } catch (InterruptedException | ExecutionException | TimeoutException | CancellationException e) {
+                //Cancelling the long running task on error, or when the download was cancelled meanwhile
+                cancelTaskInProgress(mQuestionIndex);
+                //Ensuring the Image is Null
+                setImageHandle(null);
+            }
+
+        }
+
+        //Returning Null when the Task is of different question index from the one passed
+        return null;
+    }
+
+    /**
+     * Method that cancels the download in progress and releases the Image held by the task,
+     * when the quiz is being closed
+     */
+    @MainThread
+    public void release() {
+        releaseFetchHandle();
+        clearPendingResults();
+        setImageHandle(null);
+
+        //Updating the Task state to STOPPED
+        mTaskStateStr = TaskState.TASK_STATE_STOPPED.toString();
+    }
+
+    /**
+     * Method that saves the state of the task to the Bundle, for restoring after the process is killed
+     *
+     * @param outState  is the Bundle to save the state to
+     * @param keyPrefix is the String prefix of the keys, that distinguishes the tasks saved to the same Bundle
+     */
+    public void saveState(Bundle outState, String keyPrefix) {
+        outState.putString(keyPrefix + TASK_STATE_STR_KEY, mTaskStateStr);
+        outState.putInt(keyPrefix + QUESTION_INDEX_INT_KEY, mQuestionIndex);
+        outState.putString(keyPrefix + IMAGE_URL_STR_KEY, mImageURLStr);
+        outState.putBoolean(keyPrefix + CURRENT_TASK_BOOL_KEY, mIsCurrentTask);
+    }
+
+    /**
+     * Method that restores the state of the task from the Bundle, after the process was killed.
+     * The Image of a completed download is restored from the Bitmap Cache. The download that was
+     * in progress, or whose Image is no longer in memory, is started again, which finds the Image
+     * in the Disk Cache when it was downloaded completely.
+     *
+     * @param savedInstanceState is the Bundle to restore the state from
+     * @param keyPrefix          is the String prefix of the keys used while saving
+     */
+    public void restoreState(Bundle savedInstanceState, String keyPrefix) {
+        mTaskStateStr = savedInstanceState.getString(keyPrefix + TASK_STATE_STR_KEY, TaskState.TASK_STATE_STOPPED.toString());
+        mQuestionIndex = savedInstanceState.getInt(keyPrefix + QUESTION_INDEX_INT_KEY);
+        mImageURLStr = savedInstanceState.getString(keyPrefix + IMAGE_URL_STR_KEY);
+        mIsCurrentTask = savedInstanceState.getBoolean(keyPrefix + CURRENT_TASK_BOOL_KEY);
+
+        if (mTaskStateStr.equals(TaskState.TASK_STATE_COMPLETED.toString())) {
+            //Restoring Bitmap from the Bitmap Cache when the download task had completed
+            HintImageHandle cachedImageHandle = HintImageHandle.acquireFromCache(mImageURLStr);
+            setImageHandle(cachedImageHandle);
+            if (cachedImageHandle != null) {
+                cachedImageHandle.release();
+            }
+        } else {
+            //Setting to null when the download task had not completed
+            setImageHandle(null);
+        }
+
+        if (mImageURLStr != null && mImageHandle == null
+                && !mTaskStateStr.equals(TaskState.TASK_STATE_STOPPED.toString())) {
+            //Starting the download again when it was interrupted, or when its Image is no longer in memory.
+            //The result is buffered till the listener attaches
+            executeTask(mQuestionIndex, mImageURLStr, mIsCurrentTask);
+        }
+    }
+
+    /**
+     * Method that copies the content of a completed task to another task of the same type.
+     * The handle of the Image is shared with the source as is, hence the Image is neither
+     * looked up in the Bitmap Cache nor downloaded again, even if evicted from the cache meanwhile.
+     *
+     * @param downloadTask is the task of the same type which is the source for copy
+     */
+    public void copy(ImageDownloadTask downloadTask) {
+
+        if (downloadTask.mTaskStateStr.equals(TaskState.TASK_STATE_COMPLETED.toString())) {
+            //Copying only when the source task had completed
+
+            //Releasing the download request of this task if any
+            releaseFetchHandle();
+
+            mTaskStateStr = downloadTask.mTaskStateStr;
+            mQuestionIndex = downloadTask.mQuestionIndex;
+            mImageURLStr = downloadTask.mImageURLStr;
+            //Sharing the handle of the Image of the source
+            setImageHandle(downloadTask.mImageHandle);
+
+        }
+
+    }
+
+    //Enum for managing/updating the different states of the download tasks
+    public enum TaskState {
+        TASK_STATE_STARTED, TASK_STATE_COMPLETED, TASK_STATE_FAILED, TASK_STATE_STOPPED
+    }
+
+    /**
+     * Activity that attaches to this {@link ImageDownloadTask}
+     * needs to implement the interface to receive event callbacks
+     */
+    interface ImageDownloaderListener {
+
+        /**
+         * Callback Method of {@link ImageDownloadTask}
+         * invoked when the download task is starting to download the image.
+         * Method evaluates the Network Connectivity prior to downloading the image, which
+         * restricts the download to the Disk Cache when not connected.
+         * Called on the main thread, hence needs to return without blocking.
+         *
+         * @return True when the Network Connectivity is established; false otherwise
+         */
+        boolean isNetworkConnected();
+
+        /**
+         * Callback Method of {@link ImageDownloadTask}
+         * invoked when the download task has successfully downloaded the image.
+         * This method is used to save the Image downloaded, by retaining its handle.
+         *
+         * @param imageHandle   is the {@link HintImageHandle} of the image that was downloaded,
+         *                      which is borrowed and needs to be retained for keeping it
+         * @param questionIndex is the Integer identifier of the Question for which the
+         *                      image was downloaded
+         */
+        void onDownloadFinish(HintImageHandle imageHandle, int questionIndex);
+
+        /**
+         * Callback Method of {@link ImageDownloadTask}
+         * invoked when the download task has failed to download the image due
+         * to some intermittent issues. This method is used to log the failure
+         * and to set the local bitmap variable to null.
+         *
+         * @param imageURLStr   is the URL of the image that failed to download
+         * @param questionIndex is the Integer identifier of the Question for which the
+         *                      image failed to download
+         */
+        void onDownloadError(String imageURLStr, int questionIndex);
+
+        /**
+         * Callback Method of {@link ImageDownloadTask}
+         * invoked when the download task is publishing
+         * the Current download task progress to the main thread
+         *
+         * @param primaryProgress   is the Integer value of the Primary Progress
+         * @param secondaryProgress is the Integer value of the Secondary buffer Progress
+         */
+        void syncProgress(int primaryProgress, int secondaryProgress);
+    }
+
+    /**
+     * Class that holds the result of a download for delivering to the listener
+     */
+    private static class DownloadResult {
+        //Stores the handle of the Image downloaded, referenced by the result; null when the download failed
+        final HintImageHandle mImageHandle;
+        //Stores the Image URL of the download
+        final String mImageURLStr;
+        //Stores the Question Index of the download
+        final int mQuestionIndex;
+
+        /**
+         * @param imageHandle   is the retained {@link HintImageHandle} of the image downloaded;
+         *                      null when the download failed
+         * @param imageURLStr   is the URL of the image downloaded
+         * @param questionIndex is the Integer identifier of the Question of the image
+         */
+        DownloadResult(HintImageHandle imageHandle, String imageURLStr, int questionIndex) {
+            mImageHandle = imageHandle;
+            mImageURLStr = imageURLStr;
+            mQuestionIndex = questionIndex;
+        }
+    }
+
+    /**
+     * {@link ImageFetchEngine.FetchListener} of a download task, that updates the
+     * task and its listener with the events of the download
+     */
+    private class TaskFetchListener implements ImageFetchEngine.FetchListener {
+
+        //Stores the Question Index of the download task
+        private final int mTaskQuestionIndex;
+
+        /**
+         * @param questionIndex is the Integer identifier of the Question for which the
+         *                      Image is being downloaded
+         */
+        TaskFetchListener(int questionIndex) {
+            mTaskQuestionIndex = questionIndex;
+        }
+
+        /**
+         * Method that checks whether the events of the download are still relevant to the task
+         *
+         * @return True when the task has not been restarted for a different Image; false otherwise
+         */
+        private boolean isActive() {
+            return mTaskQuestionIndex == mQuestionIndex
+                    && mTaskStateStr.equals(TaskState.TASK_STATE_STARTED.toString());
+        }
+
+        //Invoked on the main thread when a part of the Image has been downloaded
+        @Override
+        public void onFetchProgress(int progressValue, int contentLength) {
+
+            if (mIsCurrentTask && isActive() && mDownloaderListener != null) {
+                //Publishing only for the Current download task
+
+                if (progressValue == 100) {
+                    //When completed, show 100% done!
+                    mDownloaderListener.syncProgress(progressValue, progressValue);
+                } else {
+                    //When partially done, show the proper value
+
+                    //Calculating Secondary Progress Value
+                    int secondaryProgressValue = (int) ((float) progressValue / (float) contentLength);
+                    //Sending the progress values to the listener to update the ProgressBar
+                    mDownloaderListener.syncProgress((secondaryProgressValue - 10) * 100, secondaryProgressValue * 100);
+                }
+
+            }
+
+        }
+
+        //Invoked on the main thread when the download has completed
+        @Override
+        public void onFetchComplete(Bitmap bitmap) {
+
+            if (!isActive()) {
+                //Ignoring the result when the task was cancelled or restarted for a different Image
+                return;
+            }
+
+            //Clearing the handle of the completed download
+            mFetchHandle = null;
+
+            //Wrapping the Image downloaded into a handle, with the reference held by the result
+            HintImageHandle downloadedImageHandle = HintImageHandle.wrapCachedImage(bitmap);
+
+            if (downloadedImageHandle != null) {
+                //Updating the Image in task, before it is handed over to the listener
+                setImageHandle(downloadedImageHandle);
+
+                //Updating the Task state to COMPLETED
+                mTaskStateStr = TaskState.TASK_STATE_COMPLETED.toString();
+
+            } else {
+                //Updating the Task state to FAILED
+                mTaskStateStr = TaskState.TASK_STATE_FAILED.toString();
+
+                //Updating the Image in task to null
+                setImageHandle(null);
+            }
+
+            //Storing the Image downloaded, or reporting the error
+            //when the image was not downloaded due to some error
+            deliverResult(new DownloadResult(downloadedImageHandle, mImageURLStr, mQuestionIndex));
+
+        }
+    }
+
+}
@@ -0,0 +1,745 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.support.annotation.MainThread;
+import android.util.Log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Application level class that downloads the Images from the URLs on a bounded pool of threads.
+ * Requests are queued by their priority, so that the Image of the Current Question
+ * is always downloaded ahead of the Images being prefetched.
+ * Requests for the same URL are served by a single download, and a download is cancelled
+ * when all of its requests are cancelled. When the network is not available, the Images
+ * can still be served from the Disk Cache through the requests that do not go to the network.
+ *
+ * @author Kaushik N Sanji
+ */
+public class ImageFetchEngine {
+
+    //Priority of the request for the Image of the Current Question
+    public static final int PRIORITY_CURRENT = 0;
+    //Priority of the request for the Image being prefetched
+    public static final int PRIORITY_PREFETCH = 1;
+
+    private static final String TAG = ImageFetchEngine.class.getSimpleName();
+    //Number of threads for downloading the Images
+    private static final int POOL_SIZE = 3;
+    //Time in seconds after which the idle threads are released
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    //Constant used as the Progress value when the Image is downloaded
+    private static final int PROGRESS_DONE = 100;
+    //Minimum time in millis between the progress published, when the Content Length is not known
+    private static final long MIN_PROGRESS_INTERVAL_MILLIS = 100;
+
+    //Singleton instance of the ImageFetchEngine
+    private static ImageFetchEngine mInstance;
+
+    //Executor that runs the requests in the order of their priority
+    private final ThreadPoolExecutor mExecutor;
+    //Handler for delivering the events on the main thread
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    //Stores the requests in progress with the Image URL string as the Key
+    private final Map<String, FetchRequest> mRequestsInProgress = new HashMap<>();
+    //Sequence number of the requests, for running the requests of the same priority in their order
+    private final AtomicInteger mSequenceGenerator = new AtomicInteger();
+
+    /**
+     * Private Constructor of the Singleton {@link ImageFetchEngine}
+     */
+    private ImageFetchEngine() {
+        mExecutor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE,
+                KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    //Stores the number of threads created
+                    private final AtomicInteger mThreadCount = new AtomicInteger(1);
+
+                    @Override
+                    public Thread newThread(final Runnable runnable) {
+                        return new Thread(new Runnable() {
+                            @Override
+                            public void run() {
+                                //Running the downloads below the priority of the main thread
+                                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                                runnable.run();
+                            }
+                        }, TAG + " #" + mThreadCount.getAndIncrement());
+                    }
+                });
+        //Releasing all the threads when there are no downloads for a while
+        mExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Method that returns the Singleton instance of the {@link ImageFetchEngine}
+     *
+     * @return Instance of the {@link ImageFetchEngine}
+     */
+    public static synchronized ImageFetchEngine getInstance() {
+        if (mInstance == null) {
+            mInstance = new ImageFetchEngine();
+        }
+        return mInstance;
+    }
+
+    /**
+     * Method that requests the download of the Image from the URL passed.
+     * When the Image of the same URL is already being downloaded, the request
+     * is attached to that download, raising its priority if required.
+     *
+     * @param imageURLStr is the source URL of the Image to be downloaded
+     * @param priority    is the Integer priority of the request, one of
+     *                    {@link #PRIORITY_CURRENT} or {@link #PRIORITY_PREFETCH}
+     * @param listener    is the {@link FetchListener} to receive the events of the download
+     *                    on the main thread
+     * @return {@link FetchHandle} of the request, which can be used for cancelling the request
+     * or for waiting on the Image
+     */
+    @MainThread
+    public FetchHandle fetch(String imageURLStr, int priority, FetchListener listener) {
+        return fetch(imageURLStr, priority, false, listener);
+    }
+
+    /**
+     * Method that requests the Image of the URL passed, which is read from the Disk Cache when present,
+     * and downloaded from the URL otherwise unless restricted to the Disk Cache.
+     * When the Image of the same URL is already being downloaded, the request
+     * is attached to that download, raising its priority if required.
+     *
+     * @param imageURLStr   is the source URL of the Image to be downloaded
+     * @param priority      is the Integer priority of the request, one of
+     *                      {@link #PRIORITY_CURRENT} or {@link #PRIORITY_PREFETCH}
+     * @param diskCacheOnly is a Boolean that restricts the request to the Disk Cache when True,
+     *                      such that the request fails when the Image is not present in the Disk Cache.
+     *                      Used when the network is not available.
+     * @param listener      is the {@link FetchListener} to receive the events of the download
+     *                      on the main thread
+     * @return {@link FetchHandle} of the request, which can be used for cancelling the request
+     * or for waiting on the Image
+     */
+    @MainThread
+    public FetchHandle fetch(String imageURLStr, int priority, boolean diskCacheOnly, FetchListener listener) {
+        FetchHandle fetchHandle;
+        synchronized (mRequestsInProgress) {
+            FetchRequest fetchRequest = mRequestsInProgress.get(imageURLStr);
+
+            if (fetchRequest == null || (fetchRequest.mDiskCacheOnly && !diskCacheOnly)) {
+                //Starting a new download when the URL is not being downloaded, or when it is being
+                //read only from the Disk Cache while the network can be used now. The download
+                //replaced continues for the requests attached to it
+                fetchRequest = new FetchRequest(imageURLStr, priority, diskCacheOnly, mSequenceGenerator.getAndIncrement());
+                fetchHandle = fetchRequest.addHandle(listener);
+                mRequestsInProgress.put(imageURLStr, fetchRequest);
+                mExecutor.execute(fetchRequest);
+
+            } else {
+                //Attaching to the download in progress for the same URL
+                fetchHandle = fetchRequest.addHandle(listener);
+
+                if (priority < fetchRequest.mPriority && mExecutor.remove(fetchRequest)) {
+                    //Requeuing with the raised priority when the download is yet to start
+                    fetchRequest.mPriority = priority;
+                    mExecutor.execute(fetchRequest);
+                }
+
+                Log.i(TAG, "fetch: Attached to the download in progress for " + imageURLStr);
+            }
+        }
+
+        return fetchHandle;
+    }
+
+    /**
+     * Method that removes the handle from its request, and cancels the download
+     * when there are no more handles attached to the request
+     *
+     * @param fetchHandle is the {@link FetchHandle} to be removed
+     */
+    private void cancel(FetchHandle fetchHandle) {
+        FetchRequest fetchRequest = fetchHandle.mFetchRequest;
+        synchronized (mRequestsInProgress) {
+            if (fetchRequest.mHandles.remove(fetchHandle) && fetchRequest.mHandles.isEmpty()) {
+                //Cancelling the download when no longer required by any of the requests
+                if (mRequestsInProgress.get(fetchRequest.mImageURLStr) == fetchRequest) {
+                    mRequestsInProgress.remove(fetchRequest.mImageURLStr);
+                }
+                mExecutor.remove(fetchRequest);
+                fetchRequest.cancel(true);
+
+                Log.i(TAG, "cancel: Cancelled the download of " + fetchRequest.mImageURLStr);
+            }
+        }
+    }
+
+    /**
+     * Listener to receive the events of a download on the main thread
+     */
+    interface FetchListener {
+
+        /**
+         * Callback Method of {@link ImageFetchEngine} invoked when a part of the Image
+         * has been downloaded
+         *
+         * @param progressValue is the Integer number of bytes read in the last part,
+         *                      or 100 when the Image has been downloaded
+         * @param contentLength is the Integer value of the total bytes of the Image
+         */
+        void onFetchProgress(int progressValue, int contentLength);
+
+        /**
+         * Callback Method of {@link ImageFetchEngine} invoked when the download has completed
+         *
+         * @param bitmap is the Bitmap image that was downloaded; null when the download failed
+         */
+        void onFetchComplete(Bitmap bitmap);
+    }
+
+    /**
+     * Handle of a request made through {@link #fetch(String, int, FetchListener)}
+     */
+    public class FetchHandle {
+
+        //Request to which the handle is attached
+        private final FetchRequest mFetchRequest;
+        //Listener that receives the events of the request
+        private final FetchListener mFetchListener;
+
+        /**
+         * @param fetchRequest  is the {@link FetchRequest} to which the handle is attached
+         * @param fetchListener is the {@link FetchListener} that receives the events of the request
+         */
+        private FetchHandle(FetchRequest fetchRequest, FetchListener fetchListener) {
+            mFetchRequest = fetchRequest;
+            mFetchListener = fetchListener;
+        }
+
+        /**
+         * Method that cancels the request. The download is cancelled only when
+         * there are no other requests for the same URL.
+         */
+        public void cancel() {
+            ImageFetchEngine.this.cancel(this);
+        }
+
+        /**
+         * Method that waits for the Image to be downloaded within the timeout specified
+         *
+         * @param timeoutInMillis is the timeout in Millis within which the Image needs to be downloaded
+         * @return Bitmap containing the image downloaded; null when the download failed
+         * @throws InterruptedException when interrupted while waiting
+         * @throws ExecutionException   when the download failed with an exception
+         * @throws TimeoutException     when the Image was not downloaded within the timeout
+         */
+        public Bitmap get(long timeoutInMillis) throws InterruptedException, ExecutionException, TimeoutException {
+            return mFetchRequest.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * {@link FutureTask} of the download of an Image, that is ordered by its priority
+     * and then by its sequence in the queue of the Executor
+     */
+    private class FetchRequest extends FutureTask<Bitmap> implements Comparable<FetchRequest> {
+
+        //Stores the Image URL of the download
+        private final String mImageURLStr;
+        //Stores the sequence number of the request
+        private final int mSequence;
+        //Stores whether the request is restricted to the Disk Cache
+        private final boolean mDiskCacheOnly;
+        //Stores the handles attached to the download, guarded by the lock on mRequestsInProgress
+        private final List<FetchHandle> mHandles = new ArrayList<>();
+        //Stores the priority of the download, which is changed only when not in the queue
+        private volatile int mPriority;
+        //Delivers the progress to the listeners on the main thread, reused for every progress published
+        private final ProgressPublisher mProgressPublisher = new ProgressPublisher();
+
+        /**
+         * @param imageURLStr   is the source URL of the Image to be downloaded
+         * @param priority      is the Integer priority of the download
+         * @param diskCacheOnly is a Boolean that restricts the request to the Disk Cache when True
+         * @param sequence      is the Integer sequence number of the request
+         */
+        FetchRequest(String imageURLStr, int priority, boolean diskCacheOnly, int sequence) {
+            this(new ImageLoader(imageURLStr, diskCacheOnly), imageURLStr, priority, diskCacheOnly, sequence);
+        }
+
+        /**
+         * @param imageLoader   is the {@link ImageLoader} that downloads the Image
+         * @param imageURLStr   is the source URL of the Image to be downloaded
+         * @param priority      is the Integer priority of the download
+         * @param diskCacheOnly is a Boolean that restricts the request to the Disk Cache when True
+         * @param sequence      is the Integer sequence number of the request
+         */
+        private FetchRequest(ImageLoader imageLoader, String imageURLStr, int priority, boolean diskCacheOnly, int sequence) {
+            super(imageLoader);
+            imageLoader.mFetchRequest = this;
+            mImageURLStr = imageURLStr;
+            mPriority = priority;
+            mDiskCacheOnly = diskCacheOnly;
+            mSequence = sequence;
+        }
+
+        /**
+         * Method that attaches a new handle to the download
+         *
+         * @param fetchListener is the {@link FetchListener} that receives the events of the download
+         * @return the {@link FetchHandle} attached
+         */
+        FetchHandle addHandle(FetchListener fetchListener) {
+            FetchHandle fetchHandle = new FetchHandle(this, fetchListener);
+            mHandles.add(fetchHandle);
+            return fetchHandle;
+        }
+
+        /**
+         * Method that returns the listeners of the handles attached to the download
+         *
+         * @return List of {@link FetchListener} to deliver the events to
+         */
+        private List<FetchListener> getListeners() {
+            List<FetchListener> fetchListeners = new ArrayList<>();
+            synchronized (mRequestsInProgress) {
+                for (FetchHandle fetchHandle : mHandles) {
+                    fetchListeners.add(fetchHandle.mFetchListener);
+                }
+            }
+            return fetchListeners;
+        }
+
+        /**
+         * Method that publishes the progress of the download to the listeners on the main thread.
+         * The bytes read are added to the progress yet to be delivered if any.
+         *
+         * @param bytesRead     is the Integer number of bytes read since the progress last published
+         * @param contentLength is the Integer value of the total bytes of the Image
+         */
+        void publishProgress(int bytesRead, int contentLength) {
+            mProgressPublisher.publish(bytesRead, false, contentLength);
+        }
+
+        /**
+         * Method that publishes the final progress of the download to the listeners on the main thread
+         *
+         * @param contentLength is the Integer value of the total bytes of the Image
+         */
+        void publishProgressDone(int contentLength) {
+            mProgressPublisher.publish(0, true, contentLength);
+        }
+
+        //Invoked on the thread of the Executor with the image downloaded
+        @Override
+        protected void set(Bitmap bitmap) {
+            super.set(bitmap);
+
+            if (isCancelled()) {
+                //Releasing the pin taken by the download, as the result of a cancelled download
+                //is neither stored nor delivered
+                BitmapImageCache.unpinBitmap(bitmap);
+            }
+        }
+
+        //Invoked when the download completes or is cancelled
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                //Not delivering the result of a cancelled download
+                return;
+            }
+
+            Bitmap bitmap = null;
+            try {
+                bitmap = get();
+            } catch (InterruptedException | ExecutionException e) {
+                Log.e(TAG, "done: Failed to download " + mImageURLStr, e);
+            }
+
+            //Delivering the result to the listeners on the main thread
+            final Bitmap downloadedBitmap = bitmap;
+            mMainHandler.post(new Runnable() {
+                @Override
+                public void run() {
+                    List<FetchListener> fetchListeners = getListeners();
+                    synchronized (mRequestsInProgress) {
+                        //Removing the completed download, with all its handles
+                        if (mRequestsInProgress.get(mImageURLStr) == FetchRequest.this) {
+                            mRequestsInProgress.remove(mImageURLStr);
+                        }
+                        mHandles.clear();
+                    }
+
+                    for (FetchListener fetchListener : fetchListeners) {
+                        fetchListener.onFetchComplete(downloadedBitmap);
+                    }
+
+                    //Releasing the pin of the image delivered
+                    BitmapImageCache.unpinBitmap(downloadedBitmap);
+                }
+            });
+        }
+
+        /**
+         * {@link Runnable} that delivers the progress of the download to the listeners on the main thread.
+         * It is posted only when not already pending, so that the progress published meanwhile
+         * is delivered along with it.
+         */
+        private class ProgressPublisher implements Runnable {
+
+            //Stores the progress yet to be delivered, guarded by the lock on this instance
+            private int mBytesRead;
+            private int mContentLength;
+            private boolean mIsDone;
+            //Stores whether the Runnable is pending on the main thread, guarded by the lock on this instance
+            private boolean mIsPosted;
+
+            /**
+             * Method that adds the progress passed to the progress yet to be delivered,
+             * and posts the Runnable when not already pending
+             *
+             * @param bytesRead     is the Integer number of bytes read since the progress last published
+             * @param isDone        is a Boolean that indicates whether the Image has been downloaded
+             * @param contentLength is the Integer value of the total bytes of the Image
+             */
+            void publish(int bytesRead, boolean isDone, int contentLength) {
+                synchronized (this) {
+                    mBytesRead += bytesRead;
+                    mIsDone |= isDone;
+                    mContentLength = contentLength;
+                    if (mIsPosted) {
+                        return;
+                    }
+                    mIsPosted = true;
+                }
+                mMainHandler.post(this);
+            }
+
+            //Invoked on the main thread to deliver the progress
+            @Override
+            public void run() {
+                int progressValue;
+                int contentLength;
+                synchronized (this) {
+                    progressValue = mIsDone ? PROGRESS_DONE : mBytesRead;
+                    contentLength = mContentLength;
+                    mBytesRead = 0;
+                    mIsDone = false;
+                    mIsPosted = false;
+                }
+
+                if (isCancelled()) {
+                    return;
+                }
+                for (FetchListener fetchListener : getListeners()) {
+                    fetchListener.onFetchProgress(progressValue, contentLength);
+                }
+            }
+        }
+
+        /**
+         * Compares the requests by their priority, and then by their sequence
+         *
+         * @param other the {@link FetchRequest} to be compared.
+         * @return a negative integer, zero, or a positive integer as this request
+         * is to be run before, along with, or after the other request.
+         */
+        @Override
+        public int compareTo(FetchRequest other) {
+            if (mPriority != other.mPriority) {
+                return mPriority < other.mPriority ? -1 : 1;
+            }
+            return mSequence < other.mSequence ? -1 : (mSequence == other.mSequence ? 0 : 1);
+        }
+    }
+
+    /**
+     * {@link Callable} that downloads the Image from the specified URL on the thread of the Executor
+     */
+    private static class ImageLoader implements Callable<Bitmap> {
+
+        //Max size of the spool buffer in bytes (1MB) that is retained for the next download
+        private static final int MAX_RETAINED_SPOOL_BUFFER_SIZE = 1024 * 1024;
+        //Reusable buffer of each thread, for spooling the Images when the Disk Cache is not available
+        private static final ThreadLocal<SpoolBuffer> SPOOL_BUFFER = new ThreadLocal<SpoolBuffer>() {
+            @Override
+            protected SpoolBuffer initialValue() {
+                return new SpoolBuffer();
+            }
+        };
+
+        //Stores the Image URL of the download
+        private final String mImageURLStr;
+        //Stores whether the Image is only read from the Disk Cache, when the network is not available
+        private final boolean mDiskCacheOnly;
+        //Request of the download, for publishing the progress and for checking the cancellation
+        private FetchRequest mFetchRequest;
+        //Stores the Content Length of the image being downloaded
+        private int mContentLength;
+
+        /**
+         * @param imageURLStr   is the source URL of the Image to be downloaded
+         * @param diskCacheOnly is a Boolean that restricts the download to the Disk Cache when True
+         */
+        ImageLoader(String imageURLStr, boolean diskCacheOnly) {
+            mImageURLStr = imageURLStr;
+            mDiskCacheOnly = diskCacheOnly;
+        }
+
+        /**
+         * Downloads the Image from the Disk Cache or the URL, and adds it to the Bitmap Cache
+         *
+         * @return Bitmap containing the image downloaded; null when the download failed or was cancelled
+         */
+        @Override
+        public Bitmap call() {
+            Bitmap bitmap = null;
+            InputStream bitmapInputStream = null;
+            HttpURLConnection urlConnection = null;
+
+            try {
+
+                //Looking up the Disk Cache before going to the network
+                FileInputStream diskCacheInputStream = BitmapImageCache.getImageStreamFromDiskCache(mImageURLStr);
+
+                if (diskCacheInputStream != null) {
+                    //Decoding the image from the file in the Disk Cache when present
+                    bitmapInputStream = diskCacheInputStream;
+
+                    //Retrieving the content length from the file size
+                    mContentLength = (int) diskCacheInputStream.getChannel().size();
+
+                    //Publishing final progress
+                    mFetchRequest.publishProgressDone(mContentLength);
+
+                    bitmap = HintImageDecoder.decodeSampledBitmap(diskCacheInputStream);
+
+                    if (bitmap == null) {
+                        //Removing the image that could not be decoded, to download it again later
+                        BitmapImageCache.removeImageFromDiskCache(mImageURLStr);
+                    }
+
+                } else if (mDiskCacheOnly) {
+                    //Failing when the image is not present in the Disk Cache and the network is not available
+                    Log.i(TAG, "call: Image not present in the Disk Cache while offline, for " + mImageURLStr);
+
+                } else {
+                    //Downloading the image when not present in the Disk Cache
+
+                    URL imageURL = new URL(mImageURLStr);
+                    urlConnection = (HttpURLConnection) imageURL.openConnection();
+                    urlConnection.setConnectTimeout(10000); //Setting timeout to 10 sec
+                    urlConnection.connect(); //Opening connection to the resource
+
+                    //Retrieving the content length
+                    mContentLength = urlConnection.getContentLength();
+
+                    if (urlConnection.getResponseCode() == HttpURLConnection.HTTP_OK) {
+                        //Downloading the image on Response OK
+                        bitmapInputStream = urlConnection.getInputStream();
+
+                        BitmapDiskCache.Editor editor = BitmapImageCache.editImageInDiskCache(mImageURLStr);
+                        if (editor != null) {
+                            //Spooling the image to the file of the Disk Cache, and decoding from the file
+                            bitmap = downloadToDiskCache(bitmapInputStream, editor);
+                        } else {
+                            //Spooling the image to the reusable buffer when the Disk Cache is not available
+                            bitmap = downloadToBuffer(bitmapInputStream);
+                        }
+                    }
+
+                }
+
+                //Pinning the image till it is delivered, so that it is not reused
+                //when evicted from the Bitmap Cache in the meantime
+                BitmapImageCache.pinBitmap(bitmap);
+                //Adding the successfully downloaded image to Bitmap Cache
+                BitmapImageCache.addBitmapToCache(mImageURLStr, bitmap);
+
+            } catch (MalformedURLException e) {
+                e.printStackTrace();
+            } catch (IOException e) {
+                e.printStackTrace();
+            } finally {
+                //Closing the stream in the end
+                if (bitmapInputStream != null) {
+                    try {
+                        bitmapInputStream.close();
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                }
+
+                //Releasing the connection, which is left open on the failed responses too
+                if (urlConnection != null) {
+                    urlConnection.disconnect();
+                }
+            }
+
+            return bitmap; //Returning the bitmap retrieved
+        }
+
+        /**
+         * Method that writes the image downloaded to the temporary file of the Disk Cache,
+         * and decodes the downsampled image from the file. The image is committed to the
+         * Disk Cache only when it was decoded successfully.
+         *
+         * @param inputStream is the stream of the URL
+         * @param editor      is the {@link BitmapDiskCache.Editor} of the image in the Disk Cache
+         * @return Bitmap containing the image downloaded; null when the download failed or was cancelled
+         * @throws IOException
+         */
+        private Bitmap downloadToDiskCache(InputStream inputStream, BitmapDiskCache.Editor editor) throws IOException {
+            Bitmap bitmap = null;
+            try {
+                if (spoolImageData(inputStream, editor.newOutputStream())) {
+                    bitmap = HintImageDecoder.decodeSampledBitmap(editor.getTempFile());
+                    if (bitmap != null) {
+                        //Adding the successfully downloaded image to Disk Cache for the later launches
+                        editor.commit();
+                    }
+                }
+            } finally {
+                //Discarding the image when it was not committed
+                editor.abort();
+            }
+            return bitmap;
+        }
+
+        /**
+         * Method that reads the image downloaded into the reusable buffer of the thread,
+         * and decodes the downsampled image from the buffer
+         *
+         * @param inputStream is the stream of the URL
+         * @return Bitmap containing the image downloaded; null when the download failed or was cancelled
+         * @throws IOException
+         */
+        private Bitmap downloadToBuffer(InputStream inputStream) throws IOException {
+            SpoolBuffer spoolBuffer = SPOOL_BUFFER.get();
+            spoolBuffer.reset();
+            try {
+                if (spoolImageData(inputStream, spoolBuffer)) {
+                    return HintImageDecoder.decodeSampledBitmap(spoolBuffer.getBuffer(), 0, spoolBuffer.size());
+                }
+                return null;
+            } finally {
+                if (spoolBuffer.getBuffer().length > MAX_RETAINED_SPOOL_BUFFER_SIZE) {
+                    //Releasing the buffer that grew too large to be retained
+                    SPOOL_BUFFER.remove();
+                }
+            }
+        }
+
+        /**
+         * Method that copies the encoded image from the stream of the URL to the stream passed
+         *
+         * @param inputStream  is the stream of the URL
+         * @param outputStream is the stream to which the image is spooled
+         * @return True when the image was copied completely; false when the download was cancelled
+         * @throws IOException
+         */
+        private boolean spoolImageData(InputStream inputStream, OutputStream outputStream) throws IOException {
+
+            //Initializing the byte array
+            byte[] buf = new byte[4096];
+            int bytesRead;
+            //Stores the bytes read in all, and the bytes read since the progress last published
+            long totalBytesRead = 0;
+            int unpublishedBytesRead = 0;
+            //Stores the whole percent and the time of the progress last published
+            int lastPublishedPercent = 0;
+            long lastPublishedMillis = SystemClock.uptimeMillis();
+
+            //Reading and writing the bytes to the stream
+            while ((bytesRead = inputStream.read(buf)) > 0) {
+                if (mFetchRequest.isCancelled()) {
+                    //Stopping the download when cancelled
+                    return false;
+                }
+                outputStream.write(buf, 0, bytesRead);
+                totalBytesRead += bytesRead;
+                unpublishedBytesRead += bytesRead;
+
+                //Publishing progress only when its whole percent changes, or after a minimum interval
+                //when the Content Length is not known
+                boolean isProgressDue;
+                if (mContentLength > 0) {
+                    int percent = (int) (totalBytesRead * 100 / mContentLength);
+                    isProgressDue = percent != lastPublishedPercent;
+                    lastPublishedPercent = percent;
+                } else {
+                    long nowMillis = SystemClock.uptimeMillis();
+                    isProgressDue = nowMillis - lastPublishedMillis >= MIN_PROGRESS_INTERVAL_MILLIS;
+                    if (isProgressDue) {
+                        lastPublishedMillis = nowMillis;
+                    }
+                }
+                if (isProgressDue) {
+                    mFetchRequest.publishProgress(unpublishedBytesRead, mContentLength);
+                    unpublishedBytesRead = 0;
+                }
+            }
+
+            //Publishing final progress
+            mFetchRequest.publishProgressDone(mContentLength);
+
+            return true;
+        }
+    }
+
+    /**
+     * {@link ByteArrayOutputStream} whose buffer is read in place, for decoding the image without copying it
+     */
+    private static class SpoolBuffer extends ByteArrayOutputStream {
+
+        /**
+         * Method that returns the buffer holding the bytes written, which are valid up to {@link #size()}
+         *
+         * @return byte array of the buffer
+         */
+        byte[] getBuffer() {
+            return buf;
+        }
+    }
+
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.graphics.Typeface;
+import android.support.annotation.MainThread;
+import android.util.DisplayMetrics;
+import android.view.ViewGroup;
+import android.widget.RadioGroup;
+import android.widget.RelativeLayout;
+import android.widget.TableLayout;
+import android.widget.TableRow;
+
+/**
+ * Class that holds the dimensions, the text properties and the LayoutParams templates
+ * of the Option Views, resolved once from the resources for a configuration.
+ * The resolved spec is shared across the Activity instances and resolved again only when
+ * the orientation, the density or the font scale of the configuration changes.
+ * The LayoutParams handed out are copies of the templates, as a LayoutParams cannot be shared by Views.
+ *
+ * @author Kaushik N Sanji
+ */
+public class OptionLayoutSpec {
+
+    //Stores the spec resolved for the last configuration
+    private static OptionLayoutSpec mInstance;
+
+    //Stores the properties of the configuration for which the spec was resolved
+    private final int mOrientation;
+    private final float mDensity;
+    private final float mScaledDensity;
+
+    //Stores whether the Option buttons are laid out in a Table (landscape), or in a column (portrait)
+    private final boolean mIsTableLayout;
+    //Stores the text size in pixels and the Typeface of the Options
+    private final float mOptionTextSize;
+    private final Typeface mOptionTypeface;
+    //Stores the bottom margins in pixels for the last RadioButton and CheckBox Option
+    private final int mRadioButtonBottomMargin;
+    private final int mCheckBoxBottomMargin;
+
+    //LayoutParams templates of the containers and the EditText Option
+    private final ViewGroup.MarginLayoutParams mRadioGroupLayoutParams;
+    private final ViewGroup.MarginLayoutParams mTableLayoutParams;
+    private final ViewGroup.MarginLayoutParams mTableRowLayoutParams;
+    private final ViewGroup.MarginLayoutParams mTextOptionLayoutParams;
+    //LayoutParams templates of the RadioButton and CheckBox Options for each position
+    private final ViewGroup.MarginLayoutParams[] mRadioButtonLayoutParams;
+    private final ViewGroup.MarginLayoutParams[] mCheckBoxLayoutParams;
+
+    /**
+     * Private Constructor that resolves the spec from the resources of the configuration
+     *
+     * @param resources     is the Resources of the current configuration
+     * @param noOfPositions is the Integer number of the positions of the Option buttons
+     */
+    private OptionLayoutSpec(Resources resources, int noOfPositions) {
+        DisplayMetrics displayMetrics = resources.getDisplayMetrics();
+        mOrientation = resources.getConfiguration().orientation;
+        mDensity = displayMetrics.density;
+        mScaledDensity = displayMetrics.scaledDensity;
+        mIsTableLayout = (mOrientation == Configuration.ORIENTATION_LANDSCAPE);
+
+        mOptionTextSize = resources.getDimensionPixelSize(R.dimen.question_option_text_size);
+        mOptionTypeface = Typeface.create("sans-serif", Typeface.NORMAL);
+        mRadioButtonBottomMargin = mIsTableLayout ? resources.getDimensionPixelSize(R.dimen.rad_btn_bottom_margin) : 0;
+        mCheckBoxBottomMargin = resources.getDimensionPixelSize(R.dimen.chk_box_bottom_margin);
+
+        int radBtnTopMargin = resources.getDimensionPixelSize(R.dimen.rad_btn_top_margin);
+        int chkBoxTopMargin1 = resources.getDimensionPixelSize(R.dimen.chk_box_top_margin_1);
+        int chkBoxTopMargin2 = resources.getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
+        int chkBoxLeftMargin = resources.getDimensionPixelSize(R.dimen.chk_box_left_margin);
+        int chkBoxRightMargin = resources.getDimensionPixelSize(R.dimen.chk_box_right_margin);
+
+        //Templates of the RadioGroup and the TableLayout containers
+        mRadioGroupLayoutParams = new ViewGroup.MarginLayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
+        mRadioGroupLayoutParams.leftMargin = resources.getDimensionPixelSize(R.dimen.rad_grp_left_margin);
+        mRadioGroupLayoutParams.rightMargin = resources.getDimensionPixelSize(R.dimen.rad_grp_right_margin);
+        mRadioGroupLayoutParams.topMargin = resources.getDimensionPixelSize(R.dimen.rad_grp_top_margin);
+        mRadioGroupLayoutParams.bottomMargin = resources.getDimensionPixelSize(R.dimen.rad_grp_bottom_margin);
+        mTableLayoutParams = new ViewGroup.MarginLayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
+        mTableRowLayoutParams = new ViewGroup.MarginLayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT);
+
+        //Template of the EditText Option
+        mTextOptionLayoutParams = new ViewGroup.MarginLayoutParams(ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT);
+        mTextOptionLayoutParams.topMargin = resources.getDimensionPixelSize(R.dimen.text_option_top_margin);
+        mTextOptionLayoutParams.bottomMargin = resources.getDimensionPixelSize(R.dimen.text_option_bottom_margin);
+        mTextOptionLayoutParams.leftMargin = resources.getDimensionPixelSize(R.dimen.text_option_left_margin);
+        mTextOptionLayoutParams.rightMargin = resources.getDimensionPixelSize(R.dimen.text_option_right_margin);
+
+        //Templates of the Option buttons for each position: START
+        mRadioButtonLayoutParams = new ViewGroup.MarginLayoutParams[noOfPositions];
+        mCheckBoxLayoutParams = new ViewGroup.MarginLayoutParams[noOfPositions];
+        if (mIsTableLayout) {
+            //Buttons in a Table of two columns, with a zero width to share the columns equally
+            int radBtnLeftMargin = resources.getDimensionPixelSize(R.dimen.rad_btn_left_margin);
+            int radBtnRightMargin = resources.getDimensionPixelSize(R.dimen.rad_btn_right_margin);
+            for (int position = 0; position < noOfPositions; position++) {
+                boolean firstColumn = (position % 2) == 0;
+
+                mRadioButtonLayoutParams[position] = new ViewGroup.MarginLayoutParams(0, ViewGroup.LayoutParams.MATCH_PARENT);
+                mRadioButtonLayoutParams[position].topMargin = radBtnTopMargin;
+                mRadioButtonLayoutParams[position].leftMargin = firstColumn ? radBtnLeftMargin : 0;
+                mRadioButtonLayoutParams[position].rightMargin = radBtnRightMargin;
+
+                mCheckBoxLayoutParams[position] = new ViewGroup.MarginLayoutParams(0, ViewGroup.LayoutParams.MATCH_PARENT);
+                mCheckBoxLayoutParams[position].topMargin = (position < 2) ? chkBoxTopMargin1 : chkBoxTopMargin2;
+                mCheckBoxLayoutParams[position].leftMargin = firstColumn ? chkBoxLeftMargin : 0;
+                mCheckBoxLayoutParams[position].rightMargin = chkBoxRightMargin;
+            }
+        } else {
+            //Buttons one below the other
+            for (int position = 0; position < noOfPositions; position++) {
+                mRadioButtonLayoutParams[position] = new ViewGroup.MarginLayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
+                mRadioButtonLayoutParams[position].topMargin = (position > 0) ? radBtnTopMargin : 0;
+
+                mCheckBoxLayoutParams[position] = new ViewGroup.MarginLayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT);
+                mCheckBoxLayoutParams[position].topMargin = (position > 0) ? chkBoxTopMargin2 : chkBoxTopMargin1;
+                mCheckBoxLayoutParams[position].leftMargin = chkBoxLeftMargin;
+                mCheckBoxLayoutParams[position].rightMargin = chkBoxRightMargin;
+            }
+        }
+        //Templates of the Option buttons for each position: END
+    }
+
+    /**
+     * Singleton Constructor that returns the spec resolved for the current configuration,
+     * resolving it again only when the configuration differs from the one last resolved for
+     *
+     * @param context       is the Context of the Activity
+     * @param noOfPositions is the Integer number of the positions of the Option buttons
+     * @return Instance of {@link OptionLayoutSpec} for the current configuration
+     */
+    @MainThread
+    public static OptionLayoutSpec getInstance(Context context, int noOfPositions) {
+        Resources resources = context.getResources();
+        if (mInstance == null || !mInstance.isResolvedFor(resources, noOfPositions)) {
+            mInstance = new OptionLayoutSpec(resources, noOfPositions);
+        }
+        return mInstance;
+    }
+
+    /**
+     * Method that returns whether the spec was resolved for the configuration of the resources passed
+     *
+     * @param resources     is the Resources of the current configuration
+     * @param noOfPositions is the Integer number of the positions of the Option buttons
+     * @return True when the spec holds good for the configuration; false otherwise
+     */
+    private boolean isResolvedFor(Resources resources, int noOfPositions) {
+        DisplayMetrics displayMetrics = resources.getDisplayMetrics();
+        return mOrientation == resources.getConfiguration().orientation
+                && mDensity == displayMetrics.density
+                && mScaledDensity == displayMetrics.scaledDensity
+                && mRadioButtonLayoutParams.length == noOfPositions;
+    }
+
+    /**
+     * @return Boolean that indicates whether the Option buttons are laid out in a Table (landscape)
+     */
+    public boolean isTableLayout() {
+        return mIsTableLayout;
+    }
+
+    /**
+     * @return Float value of the text size of the Options in pixels
+     */
+    public float getOptionTextSize() {
+        return mOptionTextSize;
+    }
+
+    /**
+     * @return Typeface of the text of the Options
+     */
+    public Typeface getOptionTypeface() {
+        return mOptionTypeface;
+    }
+
+    /**
+     * Method that returns the bottom margin of the last Option button shown,
+     * which is set on the last TableRow in landscape
+     *
+     * @param multipleSelection is a Boolean that indicates whether the Options are CheckBoxes; else RadioButtons
+     * @return Integer bottom margin in pixels
+     */
+    public int getLastOptionBottomMargin(boolean multipleSelection) {
+        return multipleSelection ? mCheckBoxBottomMargin : mRadioButtonBottomMargin;
+    }
+
+    /**
+     * @return New LayoutParams of the RadioGroup container in portrait
+     */
+    public RelativeLayout.LayoutParams createRadioGroupLayoutParams() {
+        return new RelativeLayout.LayoutParams(mRadioGroupLayoutParams);
+    }
+
+    /**
+     * @return New LayoutParams of the TableLayout container in landscape
+     */
+    public RelativeLayout.LayoutParams createTableLayoutParams() {
+        return new RelativeLayout.LayoutParams(mTableLayoutParams);
+    }
+
+    /**
+     * @return New LayoutParams of a TableRow in the TableLayout container
+     */
+    public TableLayout.LayoutParams createTableRowLayoutParams() {
+        return new TableLayout.LayoutParams(mTableRowLayoutParams);
+    }
+
+    /**
+     * @return New LayoutParams of the EditText Option
+     */
+    public RelativeLayout.LayoutParams createTextOptionLayoutParams() {
+        return new RelativeLayout.LayoutParams(mTextOptionLayoutParams);
+    }
+
+    /**
+     * Method that returns new LayoutParams of the RadioButton Option at the position passed,
+     * for its container in the current orientation
+     *
+     * @param position is the Integer position of the button on the screen, starting from 0
+     * @return New LayoutParams of the RadioButton
+     */
+    public ViewGroup.LayoutParams createRadioButtonLayoutParams(int position) {
+        if (mIsTableLayout) {
+            return new TableRow.LayoutParams(mRadioButtonLayoutParams[position]);
+        }
+        return new RadioGroup.LayoutParams(mRadioButtonLayoutParams[position]);
+    }
+
+    /**
+     * Method that returns new LayoutParams of the CheckBox Option at the position passed,
+     * for its container in the current orientation
+     *
+     * @param position         is the Integer position of the button on the screen, starting from 0
+     * @param previousOptionId is the Integer id of the CheckBox at the previous position,
+     *                         below which the CheckBox is placed in portrait
+     * @return New LayoutParams of the CheckBox
+     */
+    public ViewGroup.LayoutParams createCheckBoxLayoutParams(int position, int previousOptionId) {
+        if (mIsTableLayout) {
+            return new TableRow.LayoutParams(mCheckBoxLayoutParams[position]);
+        }
+        RelativeLayout.LayoutParams chkBoxLayoutParams = new RelativeLayout.LayoutParams(mCheckBoxLayoutParams[position]);
+        if (position > 0) {
+            chkBoxLayoutParams.addRule(RelativeLayout.BELOW, previousOptionId);
+        }
+        return chkBoxLayoutParams;
+    }
+
+}
@@ -0,0 +1,480 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.content.Context;
+import android.graphics.Color;
+import android.graphics.drawable.LevelListDrawable;
+import android.support.annotation.Nullable;
+import android.support.v4.content.ContextCompat;
+import android.text.InputType;
+import android.util.Log;
+import android.util.TypedValue;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.CheckBox;
+import android.widget.CompoundButton;
+import android.widget.EditText;
+import android.widget.RadioButton;
+import android.widget.RadioGroup;
+import android.widget.RelativeLayout;
+import android.widget.TableLayout;
+import android.widget.TableRow;
+
+/**
+ * Class that keeps a pool of the Option Views (RadioButtons, CheckBoxes and an EditText)
+ * shown in the layout "R.id.option_container_area_id", across the questions.
+ * The Views of a type along with their containers (RadioGroup/TableLayout) are created once
+ * on first use, for the screen orientation of the Activity. Moving to the next question
+ * only rebinds the text and the state of these Views, hiding the Options not required,
+ * and swaps the Views attached to the layout only when the type of the Options changes.
+ * It also keeps a registry of the Option buttons attached, updated as the Views are added to
+ * or removed from the layout, so that the buttons are looked up without walking the layout.
+ *
+ * @author Kaushik N Sanji
+ */
+public class OptionViewRecycler implements ViewGroup.OnHierarchyChangeListener {
+
+    private static final String TAG = OptionViewRecycler.class.getSimpleName();
+
+    //Types of the Option Views attached to the layout
+    private static final int OPTION_TYPE_NONE = 0;
+    private static final int OPTION_TYPE_RADIO_BUTTON = 1;
+    private static final int OPTION_TYPE_CHECK_BOX = 2;
+    private static final int OPTION_TYPE_TEXT = 3;
+
+    //Ids of the Option buttons in the order of their position on the screen
+    private static final int[] OPTION_BUTTON_IDS = {
+            R.id.first_option,
+            R.id.second_option,
+            R.id.third_option,
+            R.id.fourth_option
+    };
+
+    //Stores the Context of the Activity
+    private final Context mContext;
+    //Stores the layout "R.id.option_container_area_id" to which the Option Views are attached
+    private final RelativeLayout mOptionContainerView;
+    //Stores the Listener attached to the Option buttons
+    private final CompoundButton.OnCheckedChangeListener mOnCheckedChangeListener;
+    //Stores the dimensions and the LayoutParams of the Option Views resolved for the configuration
+    private final OptionLayoutSpec mOptionLayoutSpec;
+    //Stores the RadioButton Options and their container (RadioGroup/TableLayout)
+    private RadioButton[] mRadioButtons;
+    private ViewGroup mRadioButtonContainer;
+    //Stores the CheckBox Options and their container (TableLayout), which is
+    //null in portrait where the CheckBoxes are attached to the layout directly
+    private CheckBox[] mCheckBoxes;
+    private ViewGroup mCheckBoxContainer;
+    //Stores the EditText Option
+    private EditText mTextOptionView;
+    //Registry of the Option Views attached to the layout currently: START
+    //Stores the type of the Option Views attached
+    private int mAttachedOptionType = OPTION_TYPE_NONE;
+    //Stores the Option buttons attached, null when no buttons are attached
+    private CompoundButton[] mAttachedOptionButtons;
+    //Stores the number of the Option buttons shown for the current Question
+    private int mShownOptionButtonCount;
+    //Registry of the Option Views attached to the layout currently: END
+
+    /**
+     * @param context                 is the Context of the Activity
+     * @param optionContainerView     is the layout "R.id.option_container_area_id" to which the Option Views are attached
+     * @param onCheckedChangeListener is the Listener to be attached to the Option buttons
+     */
+    public OptionViewRecycler(Context context, RelativeLayout optionContainerView,
+                              CompoundButton.OnCheckedChangeListener onCheckedChangeListener) {
+        mContext = context;
+        mOptionContainerView = optionContainerView;
+        mOnCheckedChangeListener = onCheckedChangeListener;
+        mOptionLayoutSpec = OptionLayoutSpec.getInstance(context, OPTION_BUTTON_IDS.length);
+
+        //Registering to keep the registry of the Option Views in sync with the layout
+        mOptionContainerView.setOnHierarchyChangeListener(this);
+    }
+
+    /**
+     * Method that shows the Options of a RadioButton or a CheckBox based Question,
+     * in the order passed. The buttons are shown unchecked and enabled.
+     *
+     * @param multipleSelection is a Boolean that indicates whether the Question has more than one Key,
+     *                          in which case the Options are shown as CheckBoxes; else as RadioButtons
+     * @param optionArray       is the String array of the Options of the Question
+     * @param optionIndexOrder  is the Integer array of the indices of the Options in the order to be shown
+     * @return Array of the Option buttons, whose first 'optionIndexOrder.length' buttons are shown
+     */
+    public CompoundButton[] bindButtonOptions(boolean multipleSelection, String[] optionArray, int[] optionIndexOrder) {
+        CompoundButton[] optionButtons;
+        if (multipleSelection) {
+            if (mCheckBoxes == null) {
+                createCheckBoxOptions();
+            }
+            optionButtons = mCheckBoxes;
+            attachOptionViews(OPTION_TYPE_CHECK_BOX);
+        } else {
+            if (mRadioButtons == null) {
+                createRadioButtonOptions();
+            }
+            optionButtons = mRadioButtons;
+            attachOptionViews(OPTION_TYPE_RADIO_BUTTON);
+        }
+
+        int noOfOptions = optionIndexOrder.length;
+        for (int i = 0; i < optionButtons.length; i++) {
+            CompoundButton optionButton = optionButtons[i];
+
+            if (i < noOfOptions) {
+                //Clearing the previous selection if any, without notifying the Listener
+                if (optionButton.isChecked()) {
+                    optionButton.setOnCheckedChangeListener(null);
+                    optionButton.setChecked(false);
+                    optionButton.setOnCheckedChangeListener(mOnCheckedChangeListener);
+                }
+
+                //Resetting the drawable used for the Option background
+                ((LevelListDrawable) optionButton.getBackground()).setLevel(0);
+
+                //Ensuring the button is enabled
+                optionButton.setEnabled(true);
+
+                //Setting the option value
+                optionButton.setText(optionArray[optionIndexOrder[i]]);
+
+                optionButton.setVisibility(View.VISIBLE);
+
+                Log.i(TAG, "bindButtonOptions: optionButton: " + optionButton.getText());
+
+            } else {
+                //Hiding the Options not required for the Question
+                optionButton.setVisibility(View.GONE);
+            }
+        }
+
+        mShownOptionButtonCount = noOfOptions;
+
+        //Setting the bottom margin for the last Option shown
+        updateBottomMargin(optionButtons, noOfOptions, mOptionLayoutSpec.getLastOptionBottomMargin(multipleSelection));
+
+        return optionButtons;
+    }
+
+    /**
+     * Method that shows the EditText Option of a Textual Question
+     *
+     * @param hintTextStr    is the Hint Text to be shown on the EditText
+     * @param textContentStr is the Text Content to be shown on the EditText, if any. Can be Null
+     * @return The EditText Option shown
+     */
+    public EditText bindTextOption(String hintTextStr, @Nullable String textContentStr) {
+        if (mTextOptionView == null) {
+            createTextOption();
+        }
+        attachOptionViews(OPTION_TYPE_TEXT);
+
+        //Setting the Content Text, clearing the previous text if not passed
+        mTextOptionView.setText(textContentStr != null ? textContentStr : "");
+
+        //Setting the hint text
+        mTextOptionView.setHint(hintTextStr);
+
+        //Ensuring the EditText is enabled
+        mTextOptionView.setEnabled(true);
+
+        return mTextOptionView;
+    }
+
+    /**
+     * Method that attaches the Views of the type of Options passed to the layout
+     * "R.id.option_container_area_id", only when they are not attached already
+     *
+     * @param optionType is the Integer type of the Option Views to be attached
+     */
+    private void attachOptionViews(int optionType) {
+        if (mAttachedOptionType == optionType) {
+            //Views are already attached
+            return;
+        }
+
+        //Detaching the Views of the previous type if any
+        mOptionContainerView.removeAllViews();
+
+        switch (optionType) {
+            case OPTION_TYPE_RADIO_BUTTON:
+                mOptionContainerView.addView(mRadioButtonContainer);
+                break;
+            case OPTION_TYPE_CHECK_BOX:
+                if (mOptionLayoutSpec.isTableLayout()) {
+                    mOptionContainerView.addView(mCheckBoxContainer);
+                } else {
+                    for (CheckBox checkBox : mCheckBoxes) {
+                        mOptionContainerView.addView(checkBox);
+                    }
+                }
+                break;
+            case OPTION_TYPE_TEXT:
+                mOptionContainerView.addView(mTextOptionView);
+                break;
+        }
+    }
+
+    /**
+     * Called when a new child is added to the layout "R.id.option_container_area_id".
+     * Registers the type and the buttons of the Options attached.
+     *
+     * @param parent the view in which a child was added
+     * @param child  the new child view added in the hierarchy
+     */
+    @Override
+    public void onChildViewAdded(View parent, View child) {
+        if (child == mRadioButtonContainer) {
+            mAttachedOptionType = OPTION_TYPE_RADIO_BUTTON;
+            mAttachedOptionButtons = mRadioButtons;
+        } else if (mCheckBoxes != null && (child == mCheckBoxContainer || child == mCheckBoxes[0])) {
+            //In portrait, registering on the first of the CheckBoxes attached directly to the layout
+            mAttachedOptionType = OPTION_TYPE_CHECK_BOX;
+            mAttachedOptionButtons = mCheckBoxes;
+        } else if (child == mTextOptionView) {
+            mAttachedOptionType = OPTION_TYPE_TEXT;
+            mAttachedOptionButtons = null;
+        }
+    }
+
+    /**
+     * Called when a child is removed from the layout "R.id.option_container_area_id".
+     * Clears the registry, as the Options of a type are only ever detached together.
+     *
+     * @param parent the view from which the child was removed
+     * @param child  the child removed from the hierarchy
+     */
+    @Override
+    public void onChildViewRemoved(View parent, View child) {
+        if (mAttachedOptionType != OPTION_TYPE_NONE) {
+            mAttachedOptionType = OPTION_TYPE_NONE;
+            mAttachedOptionButtons = null;
+            mShownOptionButtonCount = 0;
+        }
+    }
+
+    /**
+     * @return Integer number of the Option buttons shown for the current Question,
+     * which is 0 when the Question is a Textual Question
+     */
+    public int getOptionButtonCount() {
+        return mShownOptionButtonCount;
+    }
+
+    /**
+     * Method that returns the Option button shown at the position passed, from the registry
+     *
+     * @param position is the Integer position of the button on the screen, starting from 0
+     * @return The RadioButton or CheckBox at the position; null when no button is shown at the position
+     */
+    @Nullable
+    public CompoundButton getOptionButton(int position) {
+        if (mAttachedOptionButtons == null || position < 0 || position >= mShownOptionButtonCount) {
+            return null;
+        }
+        return mAttachedOptionButtons[position];
+    }
+
+    /**
+     * Method that creates the RadioButton Options with their container,
+     * a RadioGroup in portrait and a TableLayout in landscape
+     */
+    private void createRadioButtonOptions() {
+        mRadioButtons = new RadioButton[OPTION_BUTTON_IDS.length];
+        for (int i = 0; i < mRadioButtons.length; i++) {
+            mRadioButtons[i] = new RadioButton(mContext);
+            setOptionButtonProperties(mRadioButtons[i], i);
+            mRadioButtons[i].setLayoutParams(mOptionLayoutSpec.createRadioButtonLayoutParams(i));
+        }
+
+        if (mOptionLayoutSpec.isTableLayout()) {
+            //Laying out the RadioButtons in a Table of two columns
+            mRadioButtonContainer = createTableContainer(mRadioButtons);
+        } else {
+            //Initializing a RadioGroup
+            RadioGroup radioGroupView = new RadioGroup(mContext);
+            radioGroupView.setId(R.id.rad_group_option);
+            radioGroupView.setOrientation(RadioGroup.VERTICAL);
+            radioGroupView.setGravity(Gravity.CENTER_HORIZONTAL);
+            radioGroupView.setLayoutParams(mOptionLayoutSpec.createRadioGroupLayoutParams());
+
+            //Adding the RadioButtons to the RadioGroup
+            for (RadioButton radioButton : mRadioButtons) {
+                radioGroupView.addView(radioButton);
+            }
+
+            mRadioButtonContainer = radioGroupView;
+        }
+    }
+
+    /**
+     * Method that creates the CheckBox Options, with a TableLayout container in landscape.
+     * In portrait, the CheckBoxes are laid out one below the other in the layout "R.id.option_container_area_id"
+     */
+    private void createCheckBoxOptions() {
+        mCheckBoxes = new CheckBox[OPTION_BUTTON_IDS.length];
+        for (int i = 0; i < mCheckBoxes.length; i++) {
+            mCheckBoxes[i] = new CheckBox(mContext);
+            setOptionButtonProperties(mCheckBoxes[i], i);
+            mCheckBoxes[i].setLayoutParams(mOptionLayoutSpec.createCheckBoxLayoutParams(i, (i > 0) ? OPTION_BUTTON_IDS[i - 1] : View.NO_ID));
+        }
+
+        if (mOptionLayoutSpec.isTableLayout()) {
+            //Laying out the CheckBoxes in a Table of two columns
+            mCheckBoxContainer = createTableContainer(mCheckBoxes);
+        }
+    }
+
+    /**
+     * Method that creates a TableLayout with two Option buttons in each of its TableRows
+     *
+     * @param optionButtons is the array of the Option buttons to be laid out, with their LayoutParams set
+     * @return The TableLayout prepared
+     */
+    private TableLayout createTableContainer(CompoundButton[] optionButtons) {
+        //Creating a TableLayout
+        TableLayout tableLayout = new TableLayout(mContext);
+        tableLayout.setId(R.id.option_table_layout); //Setting component id
+
+        //Marking all the columns stretchable
+        tableLayout.setStretchAllColumns(true);
+
+        //Setting Table Layout Params
+        tableLayout.setLayoutParams(mOptionLayoutSpec.createTableLayoutParams());
+
+        TableRow tableRow = null;
+        for (int i = 0; i < optionButtons.length; i++) {
+            if ((i % 2) == 0) {
+                //Adding new TableRow for every two buttons added
+                tableRow = new TableRow(mContext);
+                tableLayout.addView(tableRow, mOptionLayoutSpec.createTableRowLayoutParams());
+            }
+
+            tableRow.addView(optionButtons[i]);
+        }
+
+        return tableLayout;
+    }
+
+    /**
+     * Method that creates the EditText Option with its properties
+     */
+    private void createTextOption() {
+        //Initializing EditText View
+        mTextOptionView = new EditText(mContext);
+
+        //Setting the Id
+        mTextOptionView.setId(R.id.text_option);
+
+        //Setting the hint text tint
+        mTextOptionView.setHintTextColor(ContextCompat.getColor(mContext, R.color.textOptionHintTextLightGreen500));
+
+        //Setting the InputType
+        mTextOptionView.setInputType(InputType.TYPE_TEXT_VARIATION_PERSON_NAME | InputType.TYPE_TEXT_FLAG_NO_SUGGESTIONS | InputType.TYPE_TEXT_FLAG_CAP_WORDS | InputType.TYPE_TEXT_FLAG_MULTI_LINE);
+
+        //Setting the background
+        mTextOptionView.setBackground(ContextCompat.getDrawable(mContext, R.drawable.textual_input_box_shape));
+
+        //Setting the TextColor
+        mTextOptionView.setTextColor(Color.BLACK);
+
+        //Setting the TextSize
+        mTextOptionView.setTextSize(TypedValue.COMPLEX_UNIT_PX, mOptionLayoutSpec.getOptionTextSize());
+
+        //Setting the Gravity
+        mTextOptionView.setGravity(Gravity.CENTER);
+
+        //Setting the LayoutParams for the EditText
+        mTextOptionView.setLayoutParams(mOptionLayoutSpec.createTextOptionLayoutParams());
+    }
+
+    /**
+     * Method that sets the Id and other CompoundButton related properties that stay the same
+     * across the questions, and attaches the Listener
+     *
+     * @param buttonView is either a RadioButton (or) CheckBox
+     * @param position   is the Integer position of the button on the screen, starting from 0
+     */
+    private void setOptionButtonProperties(CompoundButton buttonView, int position) {
+        //Setting the button id
+        buttonView.setId(OPTION_BUTTON_IDS[position]);
+
+        //Setting the Text Color
+        buttonView.setTextColor(Color.BLACK);
+
+        //Setting Text Gravity
+        buttonView.setGravity(Gravity.CENTER);
+
+        //Initializing the Level List Drawable used for the Option background with Level as 0
+        LevelListDrawable optionLevelListDrawable = (LevelListDrawable) ContextCompat.getDrawable(mContext, R.drawable.option_level_list);
+        optionLevelListDrawable.setLevel(0);
+        buttonView.setBackground(optionLevelListDrawable);
+
+        //Setting the Text Typeface
+        buttonView.setTypeface(mOptionLayoutSpec.getOptionTypeface());
+
+        //Setting the TextSize
+        buttonView.setTextSize(TypedValue.COMPLEX_UNIT_PX, mOptionLayoutSpec.getOptionTextSize());
+
+        //Adding {@link android.widget.CompoundButton.OnCheckedChangeListener} to the button
+        buttonView.setOnCheckedChangeListener(mOnCheckedChangeListener);
+    }
+
+    /**
+     * Method that sets the bottom margin on the last Option shown, and hides the TableRows
+     * whose buttons are all hidden. The LayoutParams are updated only when they change.
+     *
+     * @param optionButtons is the array of the Option buttons attached
+     * @param noOfOptions   is the Integer number of the Options shown
+     * @param bottomMargin  is the Integer bottom margin in pixels for the last Option shown
+     */
+    private void updateBottomMargin(CompoundButton[] optionButtons, int noOfOptions, int bottomMargin) {
+        if (mOptionLayoutSpec.isTableLayout()) {
+            //Setting the bottom margin on the last TableRow shown
+            int lastRowIndex = (noOfOptions - 1) / 2;
+            for (int i = 0; i < optionButtons.length; i += 2) {
+                View tableRow = (View) optionButtons[i].getParent();
+                int rowIndex = i / 2;
+                tableRow.setVisibility(rowIndex <= lastRowIndex ? View.VISIBLE : View.GONE);
+                setBottomMargin(tableRow, rowIndex == lastRowIndex ? bottomMargin : 0);
+            }
+        } else if (optionButtons == mCheckBoxes) {
+            //Setting the bottom margin on the last CheckBox shown
+            for (int i = 0; i < optionButtons.length; i++) {
+                setBottomMargin(optionButtons[i], (i + 1) == noOfOptions ? bottomMargin : 0);
+            }
+        }
+    }
+
+    /**
+     * Method that sets the bottom margin of the View, only when it differs from the current one
+     *
+     * @param view         is the View whose bottom margin is to be set
+     * @param bottomMargin is the Integer bottom margin in pixels
+     */
+    private void setBottomMargin(View view, int bottomMargin) {
+        ViewGroup.MarginLayoutParams layoutParams = (ViewGroup.MarginLayoutParams) view.getLayoutParams();
+        if (layoutParams.bottomMargin != bottomMargin) {
+            layoutParams.bottomMargin = bottomMargin;
+            view.setLayoutParams(layoutParams);
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+/**
+ * Immutable model of a Question of the quiz, with its Options, Answer Keys and Hints.
+ * The arrays are copied in and out, so that an instance can be shared through the {@link QuestionRepository}.
+ *
+ * @author Kaushik N Sanji
+ */
+public final class Question {
+
+    //Stores the Integer identifier of the Question
+    private final int mQuestionIndex;
+    //Stores the text of the Question
+    private final String mQuestionText;
+    //Stores the Options of the Question
+    private final String[] mOptions;
+    //Stores the Answer Keys of the Question
+    private final String[] mKeys;
+    //Stores the Hints of the Question: the path of the Hint Image, followed by the Hint text
+    private final String[] mHints;
+
+    /**
+     * @param questionIndex is the Integer identifier of the Question
+     * @param questionText  is the text of the Question
+     * @param options       is the String array of the Options
+     * @param keys          is the String array of the Answer Keys
+     * @param hints         is the String array of the Hints, the path of the Hint Image followed by the Hint text
+     */
+    public Question(int questionIndex, String questionText, String[] options, String[] keys, String[] hints) {
+        mQuestionIndex = questionIndex;
+        mQuestionText = questionText;
+        mOptions = options.clone();
+        mKeys = keys.clone();
+        mHints = hints.clone();
+    }
+
+    /**
+     * @return Integer identifier of the Question
+     */
+    public int getQuestionIndex() {
+        return mQuestionIndex;
+    }
+
+    /**
+     * @return String containing the text of the Question
+     */
+    public String getQuestionText() {
+        return mQuestionText;
+    }
+
+    /**
+     * @return Copy of the String array of the Options
+     */
+    public String[] getOptions() {
+        return mOptions.clone();
+    }
+
+    /**
+     * @return Copy of the String array of the Answer Keys
+     */
+    public String[] getKeys() {
+        return mKeys.clone();
+    }
+
+    /**
+     * @return Copy of the String array of the Hints. The first item is the path of the Hint Image,
+     * which is either a URL or the path of the drawable under "res/"; the second item is the Hint text.
+     */
+    public String[] getHints() {
+        return mHints.clone();
+    }
+
+}
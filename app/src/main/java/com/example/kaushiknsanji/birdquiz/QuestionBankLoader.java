@@ -0,0 +1,274 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+import android.util.Log;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.zip.CRC32;
+
+/**
+ * Application level class that reads the Questions, Options, Keys and Hints of the quiz
+ * from the binary asset compiled from the string-arrays of "quiz_strings.xml" by the
+ * "compileQuestionBank" task of the build. The asset is memory-mapped from the APK,
+ * and a record of a question is located through its offset in the index of the asset,
+ * without looking up the resources by name. Serves as the source from which the
+ * {@link QuestionStore} imports the Questions, whenever the checksum of the asset changes.
+ *
+ * @author Kaushik N Sanji
+ */
+public class QuestionBankLoader implements QuestionSource {
+
+    private static final String TAG = QuestionBankLoader.class.getSimpleName();
+    //Name of the binary asset compiled by the build
+    private static final String QUESTION_BANK_ASSET = "question_bank.bin";
+    //Magic number at the start of the asset ("BQB1")
+    private static final int QUESTION_BANK_MAGIC = 0x42514231;
+    //Size in bytes of the fields before the index of the records (magic and number of questions)
+    private static final int HEADER_SIZE = 8;
+    //Charset of the strings in the asset
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    //Singleton instance of the QuestionBankLoader
+    private static QuestionBankLoader mInstance;
+
+    //Buffer mapped to the asset. Only the absolute reads are used, hence shared across threads
+    private final ByteBuffer mBuffer;
+    //Stores the number of questions in the asset
+    private final int mQuestionCount;
+    //Sampler that picks the Questions at random
+    private final RandomSampler mRandomSampler = new RandomSampler();
+    //Stores the CRC32 checksum of the asset, computed on its first request
+    private long mChecksum = -1;
+
+    /**
+     * Private Constructor of the Singleton {@link QuestionBankLoader}
+     *
+     * @param buffer is the ByteBuffer containing the compiled asset
+     */
+    private QuestionBankLoader(ByteBuffer buffer) {
+        if (buffer.getInt(0) != QUESTION_BANK_MAGIC) {
+            throw new IllegalStateException("Invalid question bank asset " + QUESTION_BANK_ASSET);
+        }
+        mBuffer = buffer;
+        mQuestionCount = buffer.getInt(4);
+    }
+
+    /**
+     * Method that returns the Singleton instance of the {@link QuestionBankLoader},
+     * mapping the asset on the first call
+     *
+     * @param context is the Context of the app
+     * @return Instance of the {@link QuestionBankLoader}
+     */
+    public static synchronized QuestionBankLoader getInstance(Context context) {
+        if (mInstance == null) {
+            try {
+                mInstance = new QuestionBankLoader(mapAsset(context.getAssets()));
+            } catch (IOException e) {
+                //The asset is always packaged by the build, hence failing on its absence
+                throw new IllegalStateException("Failed to map the question bank asset " + QUESTION_BANK_ASSET, e);
+            }
+            Log.i(TAG, "getInstance: Mapped " + mInstance.mQuestionCount + " questions");
+        }
+        return mInstance;
+    }
+
+    /**
+     * Method that maps the asset of the question bank, which is stored uncompressed in the APK
+     *
+     * @param assetManager is the AssetManager of the app
+     * @return ByteBuffer mapped to the asset
+     * @throws IOException when the asset could not be opened or mapped
+     */
+    private static ByteBuffer mapAsset(AssetManager assetManager) throws IOException {
+        AssetFileDescriptor assetFileDescriptor = assetManager.openFd(QUESTION_BANK_ASSET);
+        FileInputStream inputStream = null;
+        try {
+            inputStream = assetFileDescriptor.createInputStream();
+            //The mapping remains valid after the channel is closed
+            return inputStream.getChannel().map(FileChannel.MapMode.READ_ONLY,
+                    assetFileDescriptor.getStartOffset(), assetFileDescriptor.getLength());
+        } finally {
+            if (inputStream != null) {
+                inputStream.close();
+            }
+            assetFileDescriptor.close();
+        }
+    }
+
+    /**
+     * Method that returns the CRC32 checksum of the asset, which changes whenever the
+     * string-arrays of the Questions are changed
+     *
+     * @return Long value of the checksum
+     */
+    public synchronized long getChecksum() {
+        if (mChecksum < 0) {
+            CRC32 crc32 = new CRC32();
+            //Reading through a duplicate, so as to not move the position of the shared buffer
+            ByteBuffer buffer = mBuffer.duplicate();
+            buffer.position(0);
+            byte[] chunk = new byte[8192];
+            while (buffer.hasRemaining()) {
+                int length = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, length);
+                crc32.update(chunk, 0, length);
+            }
+            mChecksum = crc32.getValue();
+        }
+        return mChecksum;
+    }
+
+    /**
+     * Method that returns the number of Questions in the question bank
+     *
+     * @return Integer number of Questions
+     */
+    @Override
+    public int getQuestionCount() {
+        return mQuestionCount;
+    }
+
+    /**
+     * Method that loads the Question from its record in the asset
+     *
+     * @param questionIndex is the Integer identifier of the Question, from 0 to the number of Questions - 1
+     * @return The {@link Question} loaded
+     */
+    @Override
+    public Question loadQuestion(int questionIndex) {
+        //Reading the Question, followed by its Options, Keys and Hints
+        int offset = getRecordOffset(questionIndex);
+        String questionText = readString(offset);
+        offset = skipString(offset);
+        String[] options = readArray(offset);
+        offset = skipArray(offset);
+        String[] keys = readArray(offset);
+        offset = skipArray(offset);
+        String[] hints = readArray(offset);
+
+        return new Question(questionIndex, questionText, options, keys, hints);
+    }
+
+    /**
+     * Method that loads the Questions passed one after the other from their records in the asset
+     *
+     * @param questionIndices is the Integer array of the identifiers of the Questions
+     * @return Array of the {@link Question}s loaded, in the order of their identifiers passed
+     */
+    @Override
+    public Question[] loadQuestions(int[] questionIndices) {
+        Question[] questions = new Question[questionIndices.length];
+        for (int index = 0; index < questionIndices.length; index++) {
+            questions[index] = loadQuestion(questionIndices[index]);
+        }
+        return questions;
+    }
+
+    /**
+     * Method that picks the number of Questions requested at random
+     *
+     * @param count is the Integer number of Questions required, not more than the number of Questions available
+     * @return Integer array of the identifiers of the Questions picked, in a random order
+     */
+    @Override
+    public int[] loadRandomQuestionIndices(int count) {
+        int questionCount = getQuestionCount();
+        return mRandomSampler.sample(questionCount, Math.min(count, questionCount));
+    }
+
+    /**
+     * Method that returns the offset of the record of the question from the index
+     *
+     * @param questionIndex is the Integer identifier of the Question
+     * @return Integer offset of the record in the asset
+     */
+    private int getRecordOffset(int questionIndex) {
+        if (questionIndex < 0 || questionIndex >= mQuestionCount) {
+            throw new IndexOutOfBoundsException("Question index " + questionIndex + " is out of bounds for "
+                    + mQuestionCount + " questions");
+        }
+        return mBuffer.getInt(HEADER_SIZE + 4 * questionIndex);
+    }
+
+    /**
+     * Method that reads the string at the offset passed
+     *
+     * @param offset is the Integer offset of the string in the asset
+     * @return String read
+     */
+    private String readString(int offset) {
+        int byteCount = mBuffer.getShort(offset) & 0xFFFF;
+        byte[] bytes = new byte[byteCount];
+        //Reading through a duplicate, so as to not move the position of the shared buffer
+        ByteBuffer buffer = mBuffer.duplicate();
+        buffer.position(offset + 2);
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Method that reads the array of strings at the offset passed
+     *
+     * @param offset is the Integer offset of the array in the asset
+     * @return String array read
+     */
+    private String[] readArray(int offset) {
+        int itemCount = mBuffer.getShort(offset) & 0xFFFF;
+        String[] items = new String[itemCount];
+        int itemOffset = offset + 2;
+        for (int index = 0; index < itemCount; index++) {
+            items[index] = readString(itemOffset);
+            itemOffset = skipString(itemOffset);
+        }
+        return items;
+    }
+
+    /**
+     * Method that returns the offset following the string at the offset passed
+     *
+     * @param offset is the Integer offset of the string in the asset
+     * @return Integer offset following the string
+     */
+    private int skipString(int offset) {
+        return offset + 2 + (mBuffer.getShort(offset) & 0xFFFF);
+    }
+
+    /**
+     * Method that returns the offset following the array of strings at the offset passed
+     *
+     * @param offset is the Integer offset of the array in the asset
+     * @return Integer offset following the array
+     */
+    private int skipArray(int offset) {
+        int itemCount = mBuffer.getShort(offset) & 0xFFFF;
+        int itemOffset = offset + 2;
+        for (int index = 0; index < itemCount; index++) {
+            itemOffset = skipString(itemOffset);
+        }
+        return itemOffset;
+    }
+
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Process;
+import android.support.annotation.MainThread;
+import android.support.annotation.WorkerThread;
+import android.util.SparseArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Application level class that serves the {@link Question}s of the quiz.
+ * A Question is loaded from the {@link QuestionSource} only when it is first accessed,
+ * and is then served from the index held in memory.
+ * <p>
+ * The backend is prepared on a background thread, which opens its storage, before the quiz
+ * can begin. The Questions of a quiz are picked and loaded into the index on the same thread,
+ * and are delivered to the main thread through the listeners, which are called right away
+ * only when the Question is already in the index. The main thread never loads from the backend.
+ *
+ * @author Kaushik N Sanji
+ */
+public class QuestionRepository {
+
+    private static final String TAG = QuestionRepository.class.getSimpleName();
+
+    //Singleton instance of the QuestionRepository
+    private static QuestionRepository mInstance;
+
+    //Backend from which the Questions are loaded
+    private final QuestionSource mQuestionSource;
+    //Index of the Questions loaded so far, by their identifier, guarded by the lock on this instance
+    private final SparseArray<Question> mQuestions = new SparseArray<>();
+    //Handler of the background thread that loads the Questions from the backend
+    private final Handler mLoaderHandler;
+    //Handler for delivering the events on the main thread
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+    //Stores the listeners waiting for the backend to be prepared, accessed on the main thread
+    private final ArrayList<OnPreparedListener> mPreparedListeners = new ArrayList<>();
+    //Stores the listeners waiting for the Questions picked at random, accessed on the main thread
+    private final ArrayList<OnQuestionsPickedListener> mPickedListeners = new ArrayList<>();
+    //Stores the requests waiting for their Question to be loaded, accessed on the main thread
+    private final ArrayList<QuestionRequest> mQuestionRequests = new ArrayList<>();
+    //Stores the number of Questions, read once from the backend
+    private int mQuestionCount = -1;
+    //Stores whether the backend has been prepared, accessed on the main thread
+    private boolean mIsPrepared;
+
+    /**
+     * @param questionSource is the {@link QuestionSource} from which the Questions are loaded
+     */
+    public QuestionRepository(QuestionSource questionSource) {
+        mQuestionSource = questionSource;
+
+        //Starting the background thread for loading the Questions
+        HandlerThread loaderThread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        loaderThread.start();
+        mLoaderHandler = new Handler(loaderThread.getLooper());
+    }
+
+    /**
+     * Method that returns the Singleton instance of the {@link QuestionRepository},
+     * that loads the Questions from the {@link QuestionStore}
+     *
+     * @param context is the Context of the app
+     * @return Instance of the {@link QuestionRepository}
+     */
+    public static synchronized QuestionRepository getInstance(Context context) {
+        if (mInstance == null) {
+            mInstance = new QuestionRepository(QuestionStore.getInstance(context));
+        }
+        return mInstance;
+    }
+
+    /**
+     * Method that prepares the backend on the background thread, and notifies the listener
+     * on the main thread when the Questions can be served. The listener is notified right away
+     * when the backend is already prepared.
+     *
+     * @param listener is the {@link OnPreparedListener} to be notified
+     */
+    @MainThread
+    public void prepare(OnPreparedListener listener) {
+        if (mIsPrepared) {
+            listener.onQuestionsPrepared(getQuestionCount());
+            return;
+        }
+
+        mPreparedListeners.add(listener);
+        if (mPreparedListeners.size() > 1) {
+            //Exiting when the backend is already being prepared
+            return;
+        }
+
+        mLoaderHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                //Opening the backend by reading the number of Questions
+                final int questionCount = getQuestionCount();
+
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        mIsPrepared = true;
+
+                        //Copying the listeners, as they can be removed while notifying
+                        ArrayList<OnPreparedListener> preparedListeners = new ArrayList<>(mPreparedListeners);
+                        mPreparedListeners.clear();
+                        for (OnPreparedListener preparedListener : preparedListeners) {
+                            preparedListener.onQuestionsPrepared(questionCount);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Method that removes the listener waiting for the backend to be prepared,
+     * when it is being destroyed
+     *
+     * @param listener is the {@link OnPreparedListener} to be removed
+     */
+    @MainThread
+    public void removeOnPreparedListener(OnPreparedListener listener) {
+        mPreparedListeners.remove(listener);
+    }
+
+    /**
+     * Method that picks the number of Questions requested at random on the background thread,
+     * and loads them into the index before notifying the listener on the main thread.
+     * A listener waits for one pick at a time.
+     *
+     * @param count    is the Integer number of Questions required
+     * @param listener is the {@link OnQuestionsPickedListener} to be notified
+     */
+    @MainThread
+    public void pickRandomQuestions(final int count, final OnQuestionsPickedListener listener) {
+        mPickedListeners.remove(listener);
+        mPickedListeners.add(listener);
+
+        mLoaderHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                final int questionCount = getQuestionCount();
+                final int[] questionIndices = mQuestionSource.loadRandomQuestionIndices(count);
+                loadQuestions(questionIndices);
+
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (mPickedListeners.remove(listener)) {
+                            //Notifying only when the listener is still waiting
+                            listener.onQuestionsPicked(questionCount, questionIndices);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Method that removes the listener waiting for the Questions picked at random,
+     * when it is being destroyed
+     *
+     * @param listener is the {@link OnQuestionsPickedListener} to be removed
+     */
+    @MainThread
+    public void removeOnQuestionsPickedListener(OnQuestionsPickedListener listener) {
+        mPickedListeners.remove(listener);
+    }
+
+    /**
+     * Method that delivers the Question requested to the listener on the main thread.
+     * The listener is notified right away when the Question is in the index, else after the Question
+     * is loaded on the background thread. A listener waits for one Question at a time, hence
+     * its earlier request if any is dropped.
+     *
+     * @param questionIndex is the Integer identifier of the Question
+     * @param listener      is the {@link OnQuestionLoadedListener} to be notified
+     */
+    @MainThread
+    public void loadQuestion(final int questionIndex, OnQuestionLoadedListener listener) {
+        removeOnQuestionLoadedListener(listener);
+
+        Question question = getCachedQuestion(questionIndex);
+        if (question != null) {
+            listener.onQuestionLoaded(question);
+            return;
+        }
+
+        final QuestionRequest questionRequest = new QuestionRequest(listener);
+        mQuestionRequests.add(questionRequest);
+
+        mLoaderHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                loadQuestions(new int[]{questionIndex});
+                final Question loadedQuestion = getCachedQuestion(questionIndex);
+
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (mQuestionRequests.remove(questionRequest)) {
+                            //Notifying only when the request was not dropped meanwhile
+                            questionRequest.mListener.onQuestionLoaded(loadedQuestion);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Method that removes the request of the listener waiting for its Question to be loaded,
+     * when it is being destroyed
+     *
+     * @param listener is the {@link OnQuestionLoadedListener} to be removed
+     */
+    @MainThread
+    public void removeOnQuestionLoadedListener(OnQuestionLoadedListener listener) {
+        for (int index = mQuestionRequests.size() - 1; index >= 0; index--) {
+            if (mQuestionRequests.get(index).mListener == listener) {
+                mQuestionRequests.remove(index);
+            }
+        }
+    }
+
+    /**
+     * Method that loads the Questions passed into the index on the background thread,
+     * ahead of their access from the main thread
+     *
+     * @param questionIndices is the Integer array of the identifiers of the Questions to be loaded
+     */
+    public void prefetchQuestions(int[] questionIndices) {
+        final int[] questionIndicesToLoad = questionIndices.clone();
+        mLoaderHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                loadQuestions(questionIndicesToLoad);
+            }
+        });
+    }
+
+    /**
+     * Method that returns the number of Questions available, reading it from the backend on its
+     * first access. Called on the main thread only after the backend is prepared.
+     *
+     * @return Integer number of Questions
+     */
+    public synchronized int getQuestionCount() {
+        if (mQuestionCount < 0) {
+            mQuestionCount = mQuestionSource.getQuestionCount();
+        }
+        return mQuestionCount;
+    }
+
+    /**
+     * Method that returns the Question from the index, without loading it from the backend
+     *
+     * @param questionIndex is the Integer identifier of the Question
+     * @return The {@link Question} requested; null when it is yet to be loaded
+     */
+    public synchronized Question getCachedQuestion(int questionIndex) {
+        return mQuestions.get(questionIndex);
+    }
+
+    /**
+     * Method that loads the Questions passed from the backend into the index at once,
+     * skipping those already loaded
+     *
+     * @param questionIndices is the Integer array of the identifiers of the Questions to be loaded
+     */
+    @WorkerThread
+    private void loadQuestions(int[] questionIndices) {
+        int[] questionIndicesToLoad = new int[questionIndices.length];
+        int countToLoad = 0;
+        synchronized (this) {
+            for (int questionIndex : questionIndices) {
+                if (mQuestions.get(questionIndex) == null) {
+                    questionIndicesToLoad[countToLoad++] = questionIndex;
+                }
+            }
+        }
+        if (countToLoad == 0) {
+            return;
+        }
+
+        //Loading at once without holding the lock, so that the Questions in the index
+        //are served meanwhile
+        Question[] questions = mQuestionSource.loadQuestions(Arrays.copyOf(questionIndicesToLoad, countToLoad));
+        synchronized (this) {
+            for (Question question : questions) {
+                mQuestions.put(question.getQuestionIndex(), question);
+            }
+        }
+    }
+
+    /**
+     * Request of a Question waiting to be delivered to its listener
+     */
+    private static class QuestionRequest {
+
+        //Stores the listener to be notified
+        final OnQuestionLoadedListener mListener;
+
+        /**
+         * @param listener is the {@link OnQuestionLoadedListener} to be notified
+         */
+        QuestionRequest(OnQuestionLoadedListener listener) {
+            mListener = listener;
+        }
+    }
+
+    /**
+     * Listener to be notified on the main thread when the backend is prepared
+     */
+    interface OnPreparedListener {
+
+        /**
+         * Callback Method of {@link QuestionRepository} invoked when the backend is prepared,
+         * and the Questions can be served
+         *
+         * @param questionCount is the Integer number of Questions available
+         */
+        void onQuestionsPrepared(int questionCount);
+    }
+
+    /**
+     * Listener to be notified on the main thread when the Questions of a quiz are picked
+     */
+    interface OnQuestionsPickedListener {
+
+        /**
+         * Callback Method of {@link QuestionRepository} invoked when the Questions are picked
+         * at random, and are loaded into the index
+         *
+         * @param questionCount   is the Integer number of Questions available
+         * @param questionIndices is the Integer array of the identifiers of the Questions picked, in a random order
+         */
+        void onQuestionsPicked(int questionCount, int[] questionIndices);
+    }
+
+    /**
+     * Listener to be notified on the main thread when the Question requested is loaded
+     */
+    interface OnQuestionLoadedListener {
+
+        /**
+         * Callback Method of {@link QuestionRepository} invoked with the Question requested
+         *
+         * @param question is the {@link Question} loaded
+         */
+        void onQuestionLoaded(Question question);
+    }
+
+}
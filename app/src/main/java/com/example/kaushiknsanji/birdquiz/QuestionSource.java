@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+/**
+ * Interface to be implemented by a backend of the {@link QuestionRepository},
+ * that loads the {@link Question}s of the quiz from its storage
+ *
+ * @author Kaushik N Sanji
+ */
+public interface QuestionSource {
+
+    /**
+     * Method that returns the number of Questions available
+     *
+     * @return Integer number of Questions
+     */
+    int getQuestionCount();
+
+    /**
+     * Method that loads the Question from the storage
+     *
+     * @param questionIndex is the Integer identifier of the Question, from 0 to the number of Questions - 1
+     * @return The {@link Question} loaded
+     */
+    Question loadQuestion(int questionIndex);
+
+    /**
+     * Method that loads the Questions passed from the storage at once
+     *
+     * @param questionIndices is the Integer array of the identifiers of the Questions
+     * @return Array of the {@link Question}s loaded, in the order of their identifiers passed
+     */
+    Question[] loadQuestions(int[] questionIndices);
+
+    /**
+     * Method that picks the number of Questions requested at random
+     *
+     * @param count is the Integer number of Questions required, not more than the number of Questions available
+     * @return Integer array of the identifiers of the Questions picked, in a random order
+     */
+    int[] loadRandomQuestionIndices(int count);
+}
@@ -0,0 +1,487 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteStatement;
+import android.support.annotation.WorkerThread;
+import android.util.Log;
+import android.util.SparseArray;
+
+import java.util.ArrayList;
+
+/**
+ * Application level {@link QuestionSource} that stores the Questions of the quiz in a SQLite database,
+ * with a table each for the Questions, Options, Answer Keys and Hints, indexed by the Question.
+ * The database is imported from the question bank compiled from "quiz_strings.xml" when it is
+ * first opened, and again whenever the checksum of the question bank changes.
+ *
+ * @author Kaushik N Sanji
+ */
+public class QuestionStore implements QuestionSource {
+
+    private static final String TAG = QuestionStore.class.getSimpleName();
+    //Name of the database file
+    private static final String DATABASE_NAME = "questions.db";
+    //Version of the schema of the database
+    private static final int DATABASE_VERSION = 2;
+
+    //Tables and Columns of the database
+    private static final String TABLE_QUESTIONS = "questions";
+    private static final String TABLE_OPTIONS = "options";
+    private static final String TABLE_KEYS = "keys";
+    private static final String TABLE_HINTS = "hints";
+    private static final String TABLE_METADATA = "metadata";
+    private static final String COLUMN_ID = "_id";
+    private static final String COLUMN_QUESTION_ID = "question_id";
+    private static final String COLUMN_POSITION = "position";
+    private static final String COLUMN_TEXT = "text";
+    private static final String COLUMN_BANK_CHECKSUM = "bank_checksum";
+
+    //Kinds of the rows returned by the query of a Question
+    private static final int KIND_QUESTION = 0;
+    private static final int KIND_OPTION = 1;
+    private static final int KIND_KEY = 2;
+    private static final int KIND_HINT = 3;
+
+    //Query that returns the number of Questions
+    private static final String QUERY_QUESTION_COUNT = "SELECT COUNT(*) FROM " + TABLE_QUESTIONS;
+    //Query that returns the identifier of the Question at a position in the order of the identifiers
+    private static final String QUERY_QUESTION_ID_AT =
+            "SELECT " + COLUMN_ID + " FROM " + TABLE_QUESTIONS + " ORDER BY " + COLUMN_ID + " LIMIT 1 OFFSET ?";
+
+    //Singleton instance of the QuestionStore
+    private static QuestionStore mInstance;
+
+    //Helper that opens the database
+    private final QuestionDbHelper mDbHelper;
+    //Application Context for reading the compiled question bank
+    private final Context mAppContext;
+    //Sampler that picks the Questions at random
+    private final RandomSampler mRandomSampler = new RandomSampler();
+    //Stores whether the Questions in the database were verified against the question bank
+    private boolean mIsBankVerified;
+
+    /**
+     * Private Constructor of the Singleton {@link QuestionStore}
+     *
+     * @param context is the Context of the app
+     */
+    private QuestionStore(Context context) {
+        mAppContext = context.getApplicationContext();
+        mDbHelper = new QuestionDbHelper(mAppContext);
+    }
+
+    /**
+     * Method that returns the Singleton instance of the {@link QuestionStore}
+     *
+     * @param context is the Context of the app
+     * @return Instance of the {@link QuestionStore}
+     */
+    public static synchronized QuestionStore getInstance(Context context) {
+        if (mInstance == null) {
+            mInstance = new QuestionStore(context);
+        }
+        return mInstance;
+    }
+
+    /**
+     * Method that returns the query of the Questions passed along with their Options, Keys and Hints,
+     * ordered by the Question, the kind and the position of the items
+     *
+     * @param questionIdsStr is the String of the comma separated identifiers of the Questions
+     * @return String containing the query of the Questions
+     */
+    private static String getQuestionsQuery(String questionIdsStr) {
+        return "SELECT " + COLUMN_ID + ", " + KIND_QUESTION + ", 0, " + COLUMN_TEXT
+                + " FROM " + TABLE_QUESTIONS + " WHERE " + COLUMN_ID + " IN (" + questionIdsStr + ")"
+                + " UNION ALL " + getItemsQuery(KIND_OPTION, TABLE_OPTIONS, questionIdsStr)
+                + " UNION ALL " + getItemsQuery(KIND_KEY, TABLE_KEYS, questionIdsStr)
+                + " UNION ALL " + getItemsQuery(KIND_HINT, TABLE_HINTS, questionIdsStr)
+                + " ORDER BY 1, 2, 3";
+    }
+
+    /**
+     * Method that returns the query of the items of the Questions passed from the table passed
+     *
+     * @param kind           is the Integer kind of the items in the result
+     * @param tableName      is the name of the table of the items
+     * @param questionIdsStr is the String of the comma separated identifiers of the Questions
+     * @return String containing the query of the items
+     */
+    private static String getItemsQuery(int kind, String tableName, String questionIdsStr) {
+        return "SELECT " + COLUMN_QUESTION_ID + ", " + kind + ", " + COLUMN_POSITION + ", " + COLUMN_TEXT
+                + " FROM " + tableName + " WHERE " + COLUMN_QUESTION_ID + " IN (" + questionIdsStr + ")";
+    }
+
+    /**
+     * Method that opens the database, importing the question bank on the first call
+     * when the database does not hold the Questions of the question bank compiled.
+     * Called first on the background thread of the {@link QuestionRepository}, as the open
+     * and the import do disk I/O.
+     *
+     * @return SQLiteDatabase of the Questions
+     */
+    private synchronized SQLiteDatabase getDatabase() {
+        SQLiteDatabase db = mDbHelper.getWritableDatabase();
+        if (!mIsBankVerified) {
+            QuestionDbHelper.importQuestionBank(db, QuestionBankLoader.getInstance(mAppContext));
+            mIsBankVerified = true;
+        }
+        return db;
+    }
+
+    /**
+     * Method that returns the number of Questions in the database
+     *
+     * @return Integer number of Questions
+     */
+    @Override
+    public int getQuestionCount() {
+        SQLiteStatement statement = getDatabase().compileStatement(QUERY_QUESTION_COUNT);
+        try {
+            return (int) statement.simpleQueryForLong();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * Method that loads the Question with its Options, Keys and Hints through a single query
+     *
+     * @param questionIndex is the Integer identifier of the Question, from 0 to the number of Questions - 1
+     * @return The {@link Question} loaded
+     */
+    @Override
+    public Question loadQuestion(int questionIndex) {
+        return loadQuestions(new int[]{questionIndex})[0];
+    }
+
+    /**
+     * Method that loads the Questions passed with their Options, Keys and Hints through a single query
+     *
+     * @param questionIndices is the Integer array of the identifiers of the Questions
+     * @return Array of the {@link Question}s loaded, in the order of their identifiers passed
+     */
+    @Override
+    public Question[] loadQuestions(int[] questionIndices) {
+        //Identifiers are integers, hence listed in the query rather than bound,
+        //which keeps the query within the limit of the arguments of SQLite
+        StringBuilder questionIdsBuilder = new StringBuilder();
+        for (int questionIndex : questionIndices) {
+            if (questionIdsBuilder.length() > 0) {
+                questionIdsBuilder.append(',');
+            }
+            questionIdsBuilder.append(questionIndex);
+        }
+
+        SparseArray<Question> questions = new SparseArray<>(questionIndices.length);
+        Cursor cursor = getDatabase().rawQuery(getQuestionsQuery(questionIdsBuilder.toString()), null);
+        try {
+            //Rows of a Question are contiguous, starting with the Question followed by its items
+            int questionId = -1;
+            String questionText = null;
+            ArrayList<String> options = new ArrayList<>();
+            ArrayList<String> keys = new ArrayList<>();
+            ArrayList<String> hints = new ArrayList<>();
+            while (cursor.moveToNext()) {
+                if (cursor.getInt(0) != questionId) {
+                    putQuestion(questions, questionId, questionText, options, keys, hints);
+                    questionId = cursor.getInt(0);
+                    questionText = null;
+                    options.clear();
+                    keys.clear();
+                    hints.clear();
+                }
+
+                switch (cursor.getInt(1)) {
+                    case KIND_QUESTION:
+                        questionText = cursor.getString(3);
+                        break;
+                    case KIND_OPTION:
+                        options.add(cursor.getString(3));
+                        break;
+                    case KIND_KEY:
+                        keys.add(cursor.getString(3));
+                        break;
+                    case KIND_HINT:
+                        hints.add(cursor.getString(3));
+                        break;
+                }
+            }
+            putQuestion(questions, questionId, questionText, options, keys, hints);
+        } finally {
+            cursor.close();
+        }
+
+        Question[] questionsLoaded = new Question[questionIndices.length];
+        for (int index = 0; index < questionIndices.length; index++) {
+            questionsLoaded[index] = questions.get(questionIndices[index]);
+            if (questionsLoaded[index] == null) {
+                throw new IndexOutOfBoundsException("Question index " + questionIndices[index] + " is not in the database");
+            }
+        }
+        return questionsLoaded;
+    }
+
+    /**
+     * Method that adds the Question read from the rows of the query to the Questions passed,
+     * when the rows included the Question
+     *
+     * @param questions    is the SparseArray of the Questions read, by their identifier
+     * @param questionId   is the Integer identifier of the Question; -1 when no row was read
+     * @param questionText is the text of the Question; null when its row was not read
+     * @param options      is the list of the Options of the Question in their order
+     * @param keys         is the list of the Answer Keys of the Question in their order
+     * @param hints        is the list of the Hints of the Question in their order
+     */
+    private static void putQuestion(SparseArray<Question> questions, int questionId, String questionText,
+                                    ArrayList<String> options, ArrayList<String> keys, ArrayList<String> hints) {
+        if (questionText == null) {
+            return;
+        }
+        questions.put(questionId, new Question(questionId, questionText,
+                options.toArray(new String[options.size()]),
+                keys.toArray(new String[keys.size()]),
+                hints.toArray(new String[hints.size()])
+        ));
+    }
+
+    /**
+     * Method that picks the number of Questions requested at random, through the {@link RandomSampler}
+     * over the positions of the Questions in the database, which are then read as their identifiers
+     * without reading the identifiers of all the Questions
+     *
+     * @param count is the Integer number of Questions required
+     * @return Integer array of the identifiers of the Questions picked, in a random order
+     */
+    @Override
+    public int[] loadRandomQuestionIndices(int count) {
+        int questionCount = getQuestionCount();
+        int[] positions = mRandomSampler.sample(questionCount, Math.min(count, questionCount));
+
+        int[] questionIndices = new int[positions.length];
+        SQLiteStatement statement = getDatabase().compileStatement(QUERY_QUESTION_ID_AT);
+        try {
+            for (int index = 0; index < positions.length; index++) {
+                statement.bindLong(1, positions[index]);
+                questionIndices[index] = (int) statement.simpleQueryForLong();
+            }
+        } finally {
+            statement.close();
+        }
+        return questionIndices;
+    }
+
+    /**
+     * Method that replaces the Questions in the database with those of the {@link QuestionSource} passed.
+     * Used for importing the Questions of the string-arrays in the format of "quiz_strings.xml",
+     * through the {@link ResourceQuestionSource} or the {@link QuestionBankLoader}.
+     * The Questions imported are kept till the question bank compiled changes.
+     *
+     * @param questionSource is the {@link QuestionSource} to import the Questions from
+     */
+    @WorkerThread
+    public void importQuestions(QuestionSource questionSource) {
+        QuestionDbHelper.importQuestions(getDatabase(), questionSource);
+    }
+
+    /**
+     * {@link SQLiteOpenHelper} that creates the tables of the {@link QuestionStore},
+     * and imports the compiled question bank into them
+     */
+    private static class QuestionDbHelper extends SQLiteOpenHelper {
+
+        /**
+         * @param context is the Application Context
+         */
+        QuestionDbHelper(Context context) {
+            super(context, DATABASE_NAME, null, DATABASE_VERSION);
+        }
+
+        /**
+         * Method that creates the table of the items of a Question, along with its index
+         *
+         * @param db        is the SQLiteDatabase being created
+         * @param tableName is the name of the table of the items
+         */
+        private static void createItemsTable(SQLiteDatabase db, String tableName) {
+            db.execSQL("CREATE TABLE " + tableName + " ("
+                    + COLUMN_QUESTION_ID + " INTEGER NOT NULL REFERENCES " + TABLE_QUESTIONS + "(" + COLUMN_ID + "), "
+                    + COLUMN_POSITION + " INTEGER NOT NULL, "
+                    + COLUMN_TEXT + " TEXT NOT NULL)");
+            db.execSQL("CREATE UNIQUE INDEX " + tableName + "_" + COLUMN_QUESTION_ID + "_index ON "
+                    + tableName + " (" + COLUMN_QUESTION_ID + ", " + COLUMN_POSITION + ")");
+        }
+
+        /**
+         * Method that drops all the tables
+         *
+         * @param db is the SQLiteDatabase being recreated
+         */
+        private static void dropTables(SQLiteDatabase db) {
+            db.execSQL("DROP TABLE IF EXISTS " + TABLE_OPTIONS);
+            db.execSQL("DROP TABLE IF EXISTS " + TABLE_KEYS);
+            db.execSQL("DROP TABLE IF EXISTS " + TABLE_HINTS);
+            db.execSQL("DROP TABLE IF EXISTS " + TABLE_QUESTIONS);
+            db.execSQL("DROP TABLE IF EXISTS " + TABLE_METADATA);
+        }
+
+        /**
+         * Method that imports the question bank passed when its checksum differs from
+         * that of the question bank last imported, in a single transaction
+         *
+         * @param db                 is the SQLiteDatabase to import into
+         * @param questionBankLoader is the {@link QuestionBankLoader} of the question bank compiled
+         */
+        static void importQuestionBank(SQLiteDatabase db, QuestionBankLoader questionBankLoader) {
+            long bankChecksum = questionBankLoader.getChecksum();
+            long importedChecksum = -1;
+            Cursor cursor = db.rawQuery("SELECT " + COLUMN_BANK_CHECKSUM + " FROM " + TABLE_METADATA, null);
+            try {
+                if (cursor.moveToFirst()) {
+                    importedChecksum = cursor.getLong(0);
+                }
+            } finally {
+                cursor.close();
+            }
+
+            if (importedChecksum == bankChecksum) {
+                //Exiting when the question bank was already imported
+                return;
+            }
+
+            db.beginTransaction();
+            try {
+                importQuestions(db, questionBankLoader);
+
+                //Recording the checksum of the question bank imported
+                db.delete(TABLE_METADATA, null, null);
+                ContentValues contentValues = new ContentValues();
+                contentValues.put(COLUMN_BANK_CHECKSUM, bankChecksum);
+                db.insert(TABLE_METADATA, null, contentValues);
+
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+
+            Log.i(TAG, "importQuestionBank: Imported the question bank with the checksum " + bankChecksum);
+        }
+
+        /**
+         * Method that replaces the Questions in the database with those of the {@link QuestionSource} passed,
+         * in a single transaction
+         *
+         * @param db             is the SQLiteDatabase to import into
+         * @param questionSource is the {@link QuestionSource} to import the Questions from
+         */
+        static void importQuestions(SQLiteDatabase db, QuestionSource questionSource) {
+            int questionCount = questionSource.getQuestionCount();
+
+            db.beginTransaction();
+            try {
+                db.delete(TABLE_OPTIONS, null, null);
+                db.delete(TABLE_KEYS, null, null);
+                db.delete(TABLE_HINTS, null, null);
+                db.delete(TABLE_QUESTIONS, null, null);
+
+                SQLiteStatement questionStatement = db.compileStatement(
+                        "INSERT INTO " + TABLE_QUESTIONS + " (" + COLUMN_ID + ", " + COLUMN_TEXT + ") VALUES (?, ?)");
+                SQLiteStatement optionStatement = compileItemInsert(db, TABLE_OPTIONS);
+                SQLiteStatement keyStatement = compileItemInsert(db, TABLE_KEYS);
+                SQLiteStatement hintStatement = compileItemInsert(db, TABLE_HINTS);
+
+                for (int questionIndex = 0; questionIndex < questionCount; questionIndex++) {
+                    Question question = questionSource.loadQuestion(questionIndex);
+
+                    questionStatement.bindLong(1, questionIndex);
+                    questionStatement.bindString(2, question.getQuestionText());
+                    questionStatement.executeInsert();
+
+                    insertItems(optionStatement, questionIndex, question.getOptions());
+                    insertItems(keyStatement, questionIndex, question.getKeys());
+                    insertItems(hintStatement, questionIndex, question.getHints());
+                }
+
+                db.setTransactionSuccessful();
+            } finally {
+                db.endTransaction();
+            }
+
+            Log.i(TAG, "importQuestions: Imported " + questionCount + " questions");
+        }
+
+        /**
+         * Method that compiles the statement that inserts an item of a Question into the table passed
+         *
+         * @param db        is the SQLiteDatabase to insert into
+         * @param tableName is the name of the table of the items
+         * @return SQLiteStatement that inserts the Question identifier, position and the text of an item
+         */
+        private static SQLiteStatement compileItemInsert(SQLiteDatabase db, String tableName) {
+            return db.compileStatement("INSERT INTO " + tableName + " ("
+                    + COLUMN_QUESTION_ID + ", " + COLUMN_POSITION + ", " + COLUMN_TEXT + ") VALUES (?, ?, ?)");
+        }
+
+        /**
+         * Method that inserts the items of a Question through the statement passed
+         *
+         * @param statement     is the SQLiteStatement compiled by {@link #compileItemInsert(SQLiteDatabase, String)}
+         * @param questionIndex is the Integer identifier of the Question
+         * @param items         is the String array of the items in their order
+         */
+        private static void insertItems(SQLiteStatement statement, int questionIndex, String[] items) {
+            for (int position = 0; position < items.length; position++) {
+                statement.bindLong(1, questionIndex);
+                statement.bindLong(2, position);
+                statement.bindString(3, items[position]);
+                statement.executeInsert();
+            }
+        }
+
+        @Override
+        public void onCreate(SQLiteDatabase db) {
+            db.execSQL("CREATE TABLE " + TABLE_QUESTIONS + " ("
+                    + COLUMN_ID + " INTEGER PRIMARY KEY, "
+                    + COLUMN_TEXT + " TEXT NOT NULL)");
+            createItemsTable(db, TABLE_OPTIONS);
+            createItemsTable(db, TABLE_KEYS);
+            createItemsTable(db, TABLE_HINTS);
+            db.execSQL("CREATE TABLE " + TABLE_METADATA + " ("
+                    + COLUMN_BANK_CHECKSUM + " INTEGER NOT NULL)");
+            //The question bank is imported when the database is first opened
+        }
+
+        @Override
+        public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+            //Recreating the database with the schema of the update
+            dropTables(db);
+            onCreate(db);
+        }
+
+        @Override
+        public void onDowngrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+            onUpgrade(db, oldVersion, newVersion);
+        }
+    }
+
+}
@@ -16,50 +16,31 @@
 
 package com.example.kaushiknsanji.birdquiz;
 
-import android.app.FragmentManager;
 import android.content.Intent;
-import android.content.res.Configuration;
-import android.graphics.Bitmap;
-import android.graphics.BitmapFactory;
-import android.graphics.Color;
 import android.graphics.Rect;
-import android.graphics.Typeface;
 import android.graphics.drawable.LevelListDrawable;
-import android.net.ConnectivityManager;
-import android.net.NetworkInfo;
 import android.os.Build;
 import android.os.Bundle;
-import android.support.annotation.Nullable;
 import android.support.annotation.StringRes;
-import android.support.v4.content.ContextCompat;
 import android.support.v7.app.AppCompatActivity;
 import android.text.Html;
-import android.text.InputType;
 import android.util.Log;
-import android.util.TypedValue;
-import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
-import android.widget.CheckBox;
 import android.widget.CompoundButton;
 import android.widget.EditText;
 import android.widget.ImageButton;
 import android.widget.ImageView;
 import android.widget.LinearLayout;
 import android.widget.RadioButton;
-import android.widget.RadioGroup;
 import android.widget.RelativeLayout;
 import android.widget.ScrollView;
-import android.widget.TableLayout;
-import android.widget.TableRow;
 import android.widget.TextView;
 import android.widget.Toast;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -71,52 +52,18 @@ import java.util.concurrent.TimeUnit;
 public class QuizActivity extends AppCompatActivity
         implements CompoundButton.OnCheckedChangeListener,
         View.OnClickListener,
-        ImageDownloaderTaskFragment.ImageDownloaderListener,
-        CountDownLatchFragment.CountDownLatchListener,
+        ImageDownloadTask.ImageDownloaderListener,
+        HintImagePrefetcher.HintImageSource,
+        ConnectivityMonitor.OnNetworkConnectedListener,
+        QuestionRepository.OnQuestionsPickedListener,
+        QuizSession.CountDownListener,
         FinalScoreDialogFragment.FinalScoreDialogListener {
 
     private static final String TAG = QuizActivity.class.getSimpleName();
-    //Bundle Key Constants for saving/restoring
-    private static final String QUESTION_STR_ARRAY_KEY = "QuestionArray";
-    private static final String OPTION_STR_ARRAY_KEY = "OptionArray";
-    private static final String HINT_STR_ARRAY_KEY = "HintArray";
-    private static final String QUESTION_INDEX_ORDER_STR_ARRAY_KEY = "QuestionIndexOrderArray";
-    private static final String OPTION_INDEX_ORDER_STR_KEY = "OptionIndexOrder";
-    private static final String SELECTED_ANSWER_STR_LIST_KEY = "SelectedAnswerList";
-    private static final String SELECTED_INDEX_ORDER_STR_KEY = "SelectedIndexOrder";
-    private static final String CORRECT_ANSWER_STR_LIST_KEY = "CorrectAnswerList";
-    private static final String TOTAL_QUESTIONS_INT_KEY = "TotalNumberOfQuestions";
-    private static final String QUESTIONS_TO_LOAD_INT_KEY = "NoOfQuestionsToLoad";
-    private static final String FIRST_TIME_LAUNCH_BOOL_KEY = "FirstTimeLaunch";
-    private static final String CURRENT_QUESTION_NO_INT_KEY = "CurrentQuestionNo";
-    private static final String CURRENT_USER_SCORE_INT_KEY = "CurrentUserScore";
-    private static final String CURRENT_QUESTION_INDEX_INT_KEY = "CurrentQuestionIndex";
-    private static final String FUTURE_QUESTION_INDEX_INT_KEY = "FutureQuestionIndex";
-    private static final String HINT_BUTTON_STATE_BOOL_KEY = "HintButtonState";
-    private static final String HINT_BUTTON_PRESSED_BOOL_KEY = "HintButtonPressed";
-    private static final String TEXTUAL_QUESTION_BOOL_KEY = "IsTextualQuestion";
-    private static final String TEXTUAL_USER_INPUT_STR_KEY = "TextualUserInput";
-    private static final String ACTIVITY_STATE_STR_KEY = "ActivityState";
-    private static final String SUBMIT_BUTTON_STATE_STR_KEY = "SubmitButtonState";
-    //Bundle Key Constants for Option Container view "R.id.option_container_area_id"
-    private static final String EXISTING_CHILD_COUNT_INT_KEY = "ExistingChildCount";
-    private static final String EXISTING_CHILD_TYPE_STR_KEY = "ExistingChildType";
-    //Stores the complete list of questions
-    private String[] mQuestionArray;
-    //Stores the list of Options for the current question
-    private String[] mOptionArray;
-    //Stores the list of Hints for the current question
-    private String[] mHintArray;
-    //Stores the current index list of questions to be loaded in String array
-    private String[] mQuestionIndexOrderArray;
-    //Stores the index list of options to be loaded for the current question in some order
-    private String mOptionIndexOrderStr;
-    //Stores the Answers selected by the user
-    private ArrayList<String> mSelectedAnswerList;
-    //Stores the index of the Answers selected by the user. (Used only for restoring)
-    private String mSelectedIndexOrderStr;
-    //Stores the list of correct Answers for the current question
-    private ArrayList<String> mCorrectAnswerList;
+    //Retained session of the quiz being taken, that holds the state of the quiz across the config changes
+    private QuizSession mSession;
+    //Journal of the quiz being taken, for resuming the quiz after the app was killed
+    private QuizSessionJournal mSessionJournal;
     //Stores the Views that would be accessed frequently
     private TextView mQuestionNumberTextView;
     private TextView mTotalScoreTextView;
@@ -126,47 +73,49 @@ public class QuizActivity extends AppCompatActivity
     private Button mShowHintButtonView;
     private ImageButton mImageRedirectButtonView;
     private RelativeLayout mOptionContainerView;
+    //Recycles the Option Views shown in "R.id.option_container_area_id" across the questions
+    private OptionViewRecycler mOptionViewRecycler;
     private LinearLayout mHintContentView;
     private ScrollView mScrollableContentView;
     private ImageView mHintImageView;
     private TextView mCountDownTextView;
-    //Stores total number of questions in the resources
-    private int mTotalNumberOfQuestions;
-    //Stores the number of questions to load
-    private int mNoOfQuestionsToLoad;
-    //Stores the state of whether the app was launched for the first time
-    //Defaulting to FALSE
-    private boolean mFirstTimeLaunch = false;
+    //Renders the time remaining on the Timer text field "R.id.count_down_text_id"
+    private CountDownTextDisplay mCountDownTextDisplay;
     //Stores whether the onCreate was invoked when the app resumes
     //Defaulting to FALSE
     private boolean onCreateInvoked = false;
-    //Stores the current question number being displayed. Defaulting to 0
-    private int mCurrentQuestionNo = 0;
-    //Stores the current question index from the list
-    private int mCurrentQuestionIndex;
-    //Stores the Next question index from the list. Defaulting to 0;
-    private int mFutureQuestionIndex = 0;
-    //Stores whether the Hint button is enabled(True)/disabled(False)
-    private boolean mHintButtonState = false;
-    //Stores whether the Hint button was pressed
-    private boolean mHintButtonPressed = false;
-    //Stores whether the question is text based or not (False when not)
-    private boolean mIsTextualQuestion = false;
     //Stores the EditText view for the textual question
     private EditText mTextOptionView;
-    //Stores the EditText view content for the textual question
-    private String mTextualUserInputStr;
-    //Stores the Image downloaded from a URL (Used as a Hint image)
-    private Bitmap mDownloadedBitmap;
-    //Stores the Image downloaded from a URL for the next question in advance
-    private Bitmap mPrefetchedBitmap;
-    //Fragment Tasks for downloading the hint images
-    private ImageDownloaderTaskFragment mCurrentBitmapTaskFragment;
-    private ImageDownloaderTaskFragment mFutureBitmapTaskFragment;
-    //CountDownLatchFragment Fragment that manages the CountDownTimer
-    private CountDownLatchFragment mCountDownLatchFragment;
-    //Stores the activity state
-    private String mActivityStateStr;
+    //Repository that serves the Questions of the quiz
+    private QuestionRepository mQuestionRepository;
+    //Listener that prepares the screen components for the next question, when it is loaded
+    private final QuestionRepository.OnQuestionLoadedListener mNextQuestionListener = new QuestionRepository.OnQuestionLoadedListener() {
+        @Override
+        public void onQuestionLoaded(Question question) {
+            bindNextQuestion(question);
+
+            //Resetting the state of launch to False, once the first question is loaded
+            mSession.markLaunched();
+        }
+    };
+    //Listener that reinitializes the screen components for the current question,
+    //when it is loaded again after the process was killed
+    private final QuestionRepository.OnQuestionLoadedListener mRestoredQuestionListener = new QuestionRepository.OnQuestionLoadedListener() {
+        @Override
+        public void onQuestionLoaded(Question question) {
+            mSession.restoreQuestion(question);
+            reloadCurrentQuestion();
+        }
+    };
+    //Listener that downloads the hint image of the next question, when it is loaded
+    private final QuestionRepository.OnQuestionLoadedListener mFutureQuestionListener = new QuestionRepository.OnQuestionLoadedListener() {
+        @Override
+        public void onQuestionLoaded(Question question) {
+            prefetchNextHintImage(question);
+        }
+    };
+    //Stores the activity state. Defaulting to INACTIVE till the activity resumes
+    private String mActivityStateStr = QuizActivityState.INACTIVE.toString();
     //Monitors the RadioButtons added in the layout "R.id.option_container_area_id"
     private ArrayList<RadioButton> mVirtualRadioGrpList;
 
@@ -180,70 +129,78 @@ public class QuizActivity extends AppCompatActivity
         //Setting the onCreate flag to TRUE
         onCreateInvoked = true;
 
-        if (savedInstanceState == null) {
-            //If loading for the first time
+        //Sizing the Bitmap Cache according to the memory available for the app
+        BitmapImageCache.init(this);
 
-            Log.i(TAG, "onCreate: Started, launching for the first time");
+        //Monitoring the Network Connectivity in the background for the downloads,
+        //to resume the prefetch of the hint images when the network is back
+        ConnectivityMonitor.getInstance(this).start();
+        ConnectivityMonitor.getInstance(this).addOnNetworkConnectedListener(this);
 
-            //Retrieving the list of questions from Array resource "question_array"
-            mQuestionArray = getResources().getStringArray(R.array.question_array);
-            mTotalNumberOfQuestions = mQuestionArray.length;
+        //Retrieving the Repository of the Questions, which loads the Questions in the background
+        mQuestionRepository = QuestionRepository.getInstance(this);
 
-            //Retrieving the number of questions to load
-            Intent welcomeIntent = getIntent();
-            mNoOfQuestionsToLoad = welcomeIntent.getIntExtra(getString(R.string.total_question_opt_value), 1);
+        //Retrieving the Journal of the quiz being taken
+        mSessionJournal = QuizSessionJournal.getInstance(this);
 
-            //Setting the state of launch to True
-            mFirstTimeLaunch = true;
+        //Retrieving the session retained across the config change if any
+        mSession = (QuizSession) getLastCustomNonConfigurationInstance();
+        if (mSession == null) {
+            //When the session is not retained, that is, when launched for the first time
+            //or when the process was killed
 
-        }
+            //Initializing the session with the Prefetcher of the hint images
+            mSession = new QuizSession(getResources().getInteger(R.integer.hint_prefetch_window_size));
 
-        FragmentManager fragmentManager = getFragmentManager();
-        //Initializing the Fragment for Current Download Task: START
-        mCurrentBitmapTaskFragment = (ImageDownloaderTaskFragment) fragmentManager.findFragmentByTag(ImageDownloaderTaskFragment.TAG_CURRENT_TASK);
-        if (mCurrentBitmapTaskFragment == null) {
-            //When the Fragment for the Current question download task is added for the first time
+            //Replaying the Journal when the quiz killed earlier is being resumed
+            QuizSessionJournal.SessionSnapshot snapshot = null;
+            if (savedInstanceState == null
+                    && getIntent().getBooleanExtra(getString(R.string.resume_session_opt_value), false)) {
+                snapshot = mSessionJournal.replay();
+            }
 
-            //Initializing the {@link ImageDownloaderTaskFragment}
-            mCurrentBitmapTaskFragment = new ImageDownloaderTaskFragment();
+            if (snapshot != null) {
+                //When the quiz is resumed from the Journal
 
-            //Adding the Fragment to this Activity
-            fragmentManager.beginTransaction().add(mCurrentBitmapTaskFragment, ImageDownloaderTaskFragment.TAG_CURRENT_TASK).commit();
-        }
-        //Initializing the Fragment for Current Download Task: END
+                Log.i(TAG, "onCreate: Started, resuming the quiz from the Journal");
 
-        //Initializing the Fragment for Future Download Task: START
-        mFutureBitmapTaskFragment = (ImageDownloaderTaskFragment) fragmentManager.findFragmentByTag(ImageDownloaderTaskFragment.TAG_FUTURE_TASK);
-        if (mFutureBitmapTaskFragment == null) {
-            //When the Fragment for the Future question download task is added for the first time
+                mSession.resumeFrom(snapshot);
 
-            //Initializing the {@link ImageDownloaderTaskFragment}
-            mFutureBitmapTaskFragment = new ImageDownloaderTaskFragment();
+                //Reopening the Journal for appending the questions answered after resuming
+                mSessionJournal.resumeRecording(snapshot);
 
-            //Adding the Fragment to this Activity
-            fragmentManager.beginTransaction().add(mFutureBitmapTaskFragment, ImageDownloaderTaskFragment.TAG_FUTURE_TASK).commit();
-        }
-        //Initializing the Fragment for Future Download Task: END
+            } else if (savedInstanceState == null) {
+                //If loading for the first time
+
+                Log.i(TAG, "onCreate: Started, launching for the first time");
 
-        //Initializing the Fragment for CountDownTimer: START
-        mCountDownLatchFragment = (CountDownLatchFragment) fragmentManager.findFragmentByTag(CountDownLatchFragment.TAG);
-        if (mCountDownLatchFragment == null) {
-            //When the Fragment is being added for the first time
+                //Retrieving the number of questions to load
+                Intent welcomeIntent = getIntent();
+                int noOfQuestionsToLoad = welcomeIntent.getIntExtra(getString(R.string.total_question_opt_value), 1);
 
-            //Initializing the {@link CountDownLatchFragment}
-            mCountDownLatchFragment = new CountDownLatchFragment();
+                //Calculating the timer value to be set (45 Seconds for each question)
+                long millisUntilFinished = TimeUnit.SECONDS.toMillis(noOfQuestionsToLoad * 45);
 
-            //Adding the Fragment to this Activity
-            fragmentManager.beginTransaction().add(mCountDownLatchFragment, CountDownLatchFragment.TAG).commit();
+                //Preparing the session for the quiz, whose questions are picked on start
+                mSession.startNewQuiz(noOfQuestionsToLoad, millisUntilFinished);
 
-            //Calculating the timer value to be set (45 Seconds for each question)
-            long millisUntilFinished = TimeUnit.SECONDS.toMillis(mNoOfQuestionsToLoad * 45);
+            } else {
+                //Restoring the session from the state saved before the process was killed
+                mSession.restoreState(savedInstanceState);
 
-            //Setting the CountDownTimer timer start value
-            mCountDownLatchFragment.setStartTimeInMillis(millisUntilFinished);
+                //Reopening the Journal for recording the questions answered in the new process
+                QuizSessionJournal.SessionSnapshot sessionSnapshot = mSession.createJournalSnapshot();
+                if (sessionSnapshot != null) {
+                    mSessionJournal.resumeRecording(sessionSnapshot);
+                }
+            }
+
+            if (mSession.hasQuestionOrder()) {
+                //Loading the questions of the quiz in the background, ahead of their access
+                mQuestionRepository.prefetchQuestions(mSession.getQuestionIndexOrder());
+            }
 
         }
-        //Initializing the Fragment for CountDownTimer: END
 
         //Retrieving the Views that will be accessed frequently: START
         mQuestionNumberTextView = findViewById(R.id.question_no_id);
@@ -260,12 +217,24 @@ public class QuizActivity extends AppCompatActivity
         mCountDownTextView = findViewById(R.id.count_down_text_id);
         //Retrieving the Views that will be accessed frequently: END
 
+        //Initializing the display of the time remaining
+        mCountDownTextDisplay = new CountDownTextDisplay(mCountDownTextView);
+
+        //Initializing the recycler of the Option Views
+        mOptionViewRecycler = new OptionViewRecycler(this, mOptionContainerView, this);
+
         //Initializing the RadioButton Monitor ArrayList
         mVirtualRadioGrpList = new ArrayList<>();
 
+        //Initializing the size and the config to which the hint images are decoded
+        initializeHintImageTargetSize();
+
         //Adding Click Listeners on Buttons
         setClickListenersOnButtons();
 
+        //Attaching to the session to receive the events of the downloads and the timer
+        mSession.attach(this, this);
+
     }
 
     //Called when the Activity is beginning to start
@@ -276,7 +245,7 @@ public class QuizActivity extends AppCompatActivity
         Log.i(TAG, "onStart: Started");
 
         //Initializing components only when it was launched for the first time
-        if (mFirstTimeLaunch) {
+        if (mSession.isFirstTimeLaunch()) {
             init();
         }
 
@@ -289,34 +258,19 @@ public class QuizActivity extends AppCompatActivity
 
         Log.i(TAG, "onRestoreInstanceState");
 
-        mFirstTimeLaunch = savedInstanceState.getBoolean(FIRST_TIME_LAUNCH_BOOL_KEY);
-        mCurrentQuestionNo = savedInstanceState.getInt(CURRENT_QUESTION_NO_INT_KEY);
-        mCurrentQuestionIndex = savedInstanceState.getInt(CURRENT_QUESTION_INDEX_INT_KEY);
-        mQuestionArray = savedInstanceState.getStringArray(QUESTION_STR_ARRAY_KEY);
-        mQuestionIndexOrderArray = savedInstanceState.getStringArray(QUESTION_INDEX_ORDER_STR_ARRAY_KEY);
-        mOptionArray = savedInstanceState.getStringArray(OPTION_STR_ARRAY_KEY);
-        mHintArray = savedInstanceState.getStringArray(HINT_STR_ARRAY_KEY);
-        mOptionIndexOrderStr = savedInstanceState.getString(OPTION_INDEX_ORDER_STR_KEY);
-        mSelectedAnswerList = savedInstanceState.getStringArrayList(SELECTED_ANSWER_STR_LIST_KEY);
-        mSelectedIndexOrderStr = savedInstanceState.getString(SELECTED_INDEX_ORDER_STR_KEY);
-        mCorrectAnswerList = savedInstanceState.getStringArrayList(CORRECT_ANSWER_STR_LIST_KEY);
-        mTotalNumberOfQuestions = savedInstanceState.getInt(TOTAL_QUESTIONS_INT_KEY);
-        mNoOfQuestionsToLoad = savedInstanceState.getInt(QUESTIONS_TO_LOAD_INT_KEY);
-        mFutureQuestionIndex = savedInstanceState.getInt(FUTURE_QUESTION_INDEX_INT_KEY);
-        mHintButtonState = savedInstanceState.getBoolean(HINT_BUTTON_STATE_BOOL_KEY);
-        mHintButtonPressed = savedInstanceState.getBoolean(HINT_BUTTON_PRESSED_BOOL_KEY);
-        mIsTextualQuestion = savedInstanceState.getBoolean(TEXTUAL_QUESTION_BOOL_KEY);
-        mTextualUserInputStr = savedInstanceState.getString(TEXTUAL_USER_INPUT_STR_KEY);
-        mActivityStateStr = savedInstanceState.getString(ACTIVITY_STATE_STR_KEY);
-
-        //Retrieving the score
-        int currentUserScore = savedInstanceState.getInt(CURRENT_USER_SCORE_INT_KEY);
-
-        //Retrieving the submit button state
-        String submitButtonStateStr = savedInstanceState.getString(SUBMIT_BUTTON_STATE_STR_KEY);
-
-        //reinitializing the screen components for current question
-        reloadCurrentQuestion(currentUserScore, submitButtonStateStr);
+        if (mSession.isFirstTimeLaunch()) {
+            //Exiting when the first question is yet to be loaded on start
+            return;
+        }
+
+        if (mSession.needsQuestionRestore()) {
+            //Loading the current question again after the process was killed,
+            //which reinitializes the screen components when loaded
+            mQuestionRepository.loadQuestion(mSession.getCurrentQuestionIndex(), mRestoredQuestionListener);
+        } else {
+            //reinitializing the screen components for current question from the session
+            reloadCurrentQuestion();
+        }
     }
 
     //Called by the Activity when it is prepared to be shown
@@ -333,28 +287,24 @@ public class QuizActivity extends AppCompatActivity
         ProgressDialogFragment progressDialogFragment = (ProgressDialogFragment) getFragmentManager().findFragmentByTag(ProgressDialogFragment.TAG_PROGRESS_DIALOG);
 
         //Updating the CountDownTimer: START
-        FragmentManager fragmentManager = getFragmentManager();
-        mCountDownLatchFragment = (CountDownLatchFragment) fragmentManager.findFragmentByTag(CountDownLatchFragment.TAG);
-
         //Retrieving the remaining time in millis
-        long millisUntilFinished = mCountDownLatchFragment.getRemainingTimeInMillis();
+        long millisUntilFinished = mSession.getRemainingTimeInMillis();
 
         //Updating the Timer Text field "R.id.count_down_text_id"
         updateTimerText(millisUntilFinished);
 
-        if (mDownloadedBitmap != null) {
-            //When the Current Image is already downloaded
-
-            if (progressDialogFragment != null) {
-                //When the ProgressBar Dialog is active, dismiss the Dialog and resume the timer
+        if (progressDialogFragment != null) {
+            if (mSession.hasHintImage()) {
+                //When the Current Image is already downloaded and the ProgressBar Dialog is active,
+                //dismiss the Dialog and resume the timer
                 dismissProgressDialog();
-            } else if (mCountDownLatchFragment.getTimerState().equals(CountDownLatchFragment.TimerState.INACTIVE.toString())
-                    && !mSubmitButtonView.getText().equals(getString(R.string.finish_button_text))) {
-                //If the ProgressBar Dialog is Inactive and the state of the CountDownTimer is Inactive
-                //with the Submit button Text not in FINISH
-                //then resume the CountDownTimer
-                mCountDownLatchFragment.resumeTimer();
             }
+        } else if (!mSession.isTimerRunning() && millisUntilFinished > 0 && !isQuizCompleted()) {
+            //If the ProgressBar Dialog is Inactive and the state of the CountDownTimer is Inactive
+            //with the last question not yet answered
+            //then resume the CountDownTimer, even when the Current Image is still being downloaded
+            //after the process was killed
+            mSession.resumeTimer();
         }
 
         //Ending the Quiz if time has already elapsed
@@ -363,7 +313,7 @@ public class QuizActivity extends AppCompatActivity
         } else {
             //When the quiz time has not yet elapsed
             if (progressDialogFragment == null
-                    && mCountDownLatchFragment.getTimerState().equals(CountDownLatchFragment.TimerState.ACTIVE.toString())) {
+                    && mSession.isTimerRunning()) {
                 //Updating the timer image to timer_start when there is no active progress dialog
                 //and when the state of the timer is ACTIVE
                 mCountDownTextView.setCompoundDrawablesWithIntrinsicBounds(R.drawable.ic_timer, 0, 0, 0);
@@ -373,9 +323,9 @@ public class QuizActivity extends AppCompatActivity
 
         if (progressDialogFragment == null
                 && !onCreateInvoked
-                && !mSubmitButtonView.getText().equals(getString(R.string.finish_button_text))) {
+                && !isQuizCompleted()) {
             //When the Progress Dialog is not active and the activity resumed from onStart (not onCreate)
-            //with the Submit button Text not in FINISH
+            //with the last question not yet answered
             //then display the below funny toast message
             Toast.makeText(this, R.string.app_resumed_toast_text, Toast.LENGTH_SHORT).show();
         }
@@ -392,41 +342,46 @@ public class QuizActivity extends AppCompatActivity
         mActivityStateStr = QuizActivityState.INACTIVE.toString();
 
         if (isFinishing()) {
-            Log.i(TAG, "onPause: isFinishing");
+            //Stopping the timer, the downloads and the prefetch of the hint images.
+            //The hint images shown are released when the Activity is destroyed
+            mSession.release();
+
+            //Clearing the Journal as the quiz was left
+            mSessionJournal.clear();
+
+            //Stopping the monitoring of the Network Connectivity
+            ConnectivityMonitor.getInstance(this).stop();
 
-            //Clearing the Bitmap Cache when the activity is finishing
-            BitmapImageCache.clearCache();
+            //Bitmap Cache is retained for the Quiz retakes, and is cleared only on Quit
+            //or when the system runs low on memory
+            Log.i(TAG, "onPause: isFinishing, Bitmap Cache stats: " + BitmapImageCache.getStats());
+            Log.i(TAG, "onPause: isFinishing, Bitmap Pool stats: " + BitmapPool.getStats());
+        } else {
+            //Syncing the questions answered to the disk, as the app can be killed in the background
+            mSessionJournal.flush();
         }
 
     }
 
+    //Called by the system when it is a good time to trim the memory used by the app
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+
+        //Releasing the Bitmap Cache when required
+        BitmapImageCache.trimMemory(level);
+    }
+
     //Called by the Activity before Stop, to save the activity's state in the Bundle
     @Override
     protected void onSaveInstanceState(Bundle outState) {
         Log.i(TAG, "onSaveInstanceState");
 
-        outState.putStringArray(QUESTION_STR_ARRAY_KEY, mQuestionArray);
-        outState.putStringArray(OPTION_STR_ARRAY_KEY, mOptionArray);
-        outState.putStringArray(HINT_STR_ARRAY_KEY, mHintArray);
-        outState.putStringArray(QUESTION_INDEX_ORDER_STR_ARRAY_KEY, mQuestionIndexOrderArray);
-        outState.putString(OPTION_INDEX_ORDER_STR_KEY, mOptionIndexOrderStr);
-        outState.putStringArrayList(SELECTED_ANSWER_STR_LIST_KEY, mSelectedAnswerList);
-        outState.putString(SELECTED_INDEX_ORDER_STR_KEY, mSelectedIndexOrderStr);
-        outState.putStringArrayList(CORRECT_ANSWER_STR_LIST_KEY, mCorrectAnswerList);
-        outState.putInt(TOTAL_QUESTIONS_INT_KEY, mTotalNumberOfQuestions);
-        outState.putInt(QUESTIONS_TO_LOAD_INT_KEY, mNoOfQuestionsToLoad);
-        outState.putBoolean(FIRST_TIME_LAUNCH_BOOL_KEY, mFirstTimeLaunch);
-        outState.putInt(CURRENT_QUESTION_NO_INT_KEY, mCurrentQuestionNo);
-        outState.putInt(CURRENT_USER_SCORE_INT_KEY, getUserScore());
-        outState.putInt(CURRENT_QUESTION_INDEX_INT_KEY, mCurrentQuestionIndex);
-        outState.putInt(FUTURE_QUESTION_INDEX_INT_KEY, mFutureQuestionIndex);
-        outState.putBoolean(HINT_BUTTON_STATE_BOOL_KEY, mHintButtonState);
-        outState.putBoolean(HINT_BUTTON_PRESSED_BOOL_KEY, mHintButtonPressed);
-        outState.putBoolean(TEXTUAL_QUESTION_BOOL_KEY, mIsTextualQuestion);
-        outState.putString(TEXTUAL_USER_INPUT_STR_KEY,
-                (mTextOptionView == null) ? "" : mTextOptionView.getText().toString());
-        outState.putString(ACTIVITY_STATE_STR_KEY, mActivityStateStr);
-        outState.putString(SUBMIT_BUTTON_STATE_STR_KEY, mSubmitButtonView.getText().toString());
+        //Updating the session with the state held by the views
+        saveViewStateToSession();
+
+        //Saving the session for restoring after the process is killed
+        mSession.saveState(outState);
 
         super.onSaveInstanceState(outState);
     }
@@ -438,1519 +393,481 @@ public class QuizActivity extends AppCompatActivity
 
         Log.i(TAG, "onStop");
 
+        //Cancelling the pending update of the Timer text if any, which is updated again on resume
+        mCountDownTextDisplay.cancel();
+
         //Resetting the flag to false
         onCreateInvoked = false;
     }
 
-    /**
-     * Method to initialize the view components for the first question
-     */
-    private void init() {
-        Log.i(TAG, "init: Started");
-
-        //Retrieving the questions order
-        String questionOrderStr = randomize(mTotalNumberOfQuestions, mNoOfQuestionsToLoad);
-
-        Log.i(TAG, "init: QuestionOrder: " + questionOrderStr);
-
-        //Initializing the header text score
-        mTotalScoreTextView.setText("0/" + mNoOfQuestionsToLoad);
-
-        //Initializing the integer array of question order
-        mQuestionIndexOrderArray = questionOrderStr.split(";");
-
-        //Preparing the screen components for the first question
-        loadNextQuestion();
-
-        //Resetting the state of launch to False
-        mFirstTimeLaunch = false;
-    }
-
-    /**
-     * Method to randomize the order of questions/options
-     *
-     * @param length    is the max number of the questions/(or) options in a question
-     * @param sublength is the number of the questions/(or) options in a question
-     * @return String containing the index order of questions/options
-     * where each index is separated by ';' and each index is unique
-     */
-    private String randomize(int length, int sublength) {
-        //StringBuilder to build the random order of questions/options
-        StringBuilder randomOrderBuilder = new StringBuilder();
-        //Initializing Random number generator
-        Random randomNumber = new Random();
-
-        for (int i = 0; i < sublength; i++) {
-            int number = randomNumber.nextInt(length);
-
-            //Verifying whether the number was previously generated
-            if (Arrays.asList(randomOrderBuilder.toString().split(";")).contains(String.valueOf(number))) {
-                i--; //decrementing to repeat
-                continue; //repeating the loop
-            }
-
-            randomOrderBuilder.append(number);
-            if ((i + 1) < sublength) {
-                //appending ';' till the last number is generated
-                randomOrderBuilder.append(";");
-            }
-
-        }
-
-        //returning the random numbers generated
-        return randomOrderBuilder.toString();
-    }
-
-    /**
-     * Method that reloads the screen components for the current question after configuration change
-     *
-     * @param currentUserScore     is the current Score of the User
-     * @param submitButtonStateStr contains the text shown on Submit Button "R.id.submit_button_id"
-     */
-    private void reloadCurrentQuestion(int currentUserScore, String submitButtonStateStr) {
-        //updating the question number being displayed
-        mQuestionNumberTextView.setText(mCurrentQuestionNo + "/" + mNoOfQuestionsToLoad);
-
-        //updating the score
-        mTotalScoreTextView.setText(currentUserScore + "/" + mNoOfQuestionsToLoad);
-
-        //reinitializing the Question
-        initializeQuestion();
-
-        //reinitializing the Current Question image if already downloaded
-        if (mHintArray[0].startsWith("res")) {
-            //When the path starts as "res", then the image is located under res directory
-
-            int startIndex = mHintArray[0].lastIndexOf("/");
-            int endIndex = mHintArray[0].lastIndexOf(".");
-            int imageResourceId = getResources().getIdentifier(mHintArray[0].substring(startIndex + 1, endIndex), "drawable", getPackageName());
-            mDownloadedBitmap = BitmapFactory.decodeResource(getResources(), imageResourceId);
-
-        } else if (mCurrentBitmapTaskFragment.getDownloadTaskState(mCurrentQuestionIndex)
-                .equals(ImageDownloaderTaskFragment.TaskState.TASK_STATE_COMPLETED.toString())) {
-            //When the path starts as "http", then the image will be downloaded by the fragment
-            mDownloadedBitmap = mCurrentBitmapTaskFragment.getDownloadedBitmap(mCurrentQuestionIndex);
-        }
-
-        //reinitializing the Future Question image if already downloaded
-        if (mFutureBitmapTaskFragment.getDownloadTaskState(mFutureQuestionIndex)
-                .equals(ImageDownloaderTaskFragment.TaskState.TASK_STATE_COMPLETED.toString())) {
-            mPrefetchedBitmap = mFutureBitmapTaskFragment.getDownloadedBitmap(mFutureQuestionIndex);
-        }
-
-        //reinitializing the Options: START
-        if (mIsTextualQuestion) {
-            //Adding the EditText view, when it is Textual Based Question
-            if (mTextualUserInputStr != null && mTextualUserInputStr.length() > 0) {
-                //When the User had already entered the text
-                addNewEditTextOption(mOptionArray[0], mTextualUserInputStr);
-            } else {
-                //When the User had not entered any text
-                addNewEditTextOption(mOptionArray[0], null);
-            }
-
-        } else {
-            //When it is not a Textual Based Question
-
-            //Retrieving the count of Answer Keys
-            int noOfKeys = mCorrectAnswerList.size();
-
-            //Retrieving options
-            String[] optionIndexOrderArray = mOptionIndexOrderStr.split(";");
-
-            //Retrieving the current screen orientation
-            int screenOrientation = getResources().getConfiguration().orientation;
-
-            Log.i(TAG, "reloadCurrentQuestion: screenOrientation: " + screenOrientation);
-
-            if (noOfKeys > 1) {
-                //When the Number of Answers is more than 1, then the question is CheckBox Option based
-                addNewCheckBoxOptions(optionIndexOrderArray, screenOrientation);
-            } else if (noOfKeys == 1) {
-                //When the Number of Answers is equal to 1, then the question is RadioButton Option based
-                addNewRadioButtonOptions(optionIndexOrderArray, screenOrientation);
-            }
-
-            //Highlighting the Selected Answers if any: START
-            if (mSelectedAnswerList.size() > 0) {
-                //Retrieving the Selected options
-                String[] selectedOptionOrderArray = mSelectedIndexOrderStr.split(";");
-
-                //Declaring the CompoundButton
-                CompoundButton buttonView = null;
-
-                //Clearing the value as it will be regenerated through listeners
-                mSelectedIndexOrderStr = "";
-
-                //Iterating and marking the selected options as checked
-                for (String selectedOptionOrderStr : selectedOptionOrderArray) {
-                    int optionIndex = Integer.parseInt(selectedOptionOrderStr);
-
-                    switch (optionIndex) {
-                        case 1:
-                            buttonView = findViewById(R.id.first_option);
-                            break;
-                        case 2:
-                            buttonView = findViewById(R.id.second_option);
-                            break;
-                        case 3:
-                            buttonView = findViewById(R.id.third_option);
-                            break;
-                        case 4:
-                            buttonView = findViewById(R.id.fourth_option);
-                            break;
-                    }
-
-                    buttonView.setChecked(true);
-                }
-
-            }
-            //Highlighting the Selected Answers if any: END
-
-        }
-        //reinitializing the Options: END
-
-        //Enabling the Hint button components if Hint button was enabled
-        if (mHintButtonState) {
-            enableHintButtonComponents();
-        } else {
-            disableHintButtonComponents();
-        }
-
-        //Reveal the Hint if Hint button was pressed
-        if (mHintButtonPressed) {
-            //Setting the Hint text in the view "R.id.hint_text_box_id"
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-                mHintTextView.setText(Html.fromHtml(mHintArray[1], Html.FROM_HTML_MODE_LEGACY));
-            } else {
-                mHintTextView.setText(Html.fromHtml(mHintArray[1]));
-            }
-            //Revealing the Hint image if downloaded successfully
-            if (mDownloadedBitmap != null) {
-                //When the image was downloaded successfully
-                mHintImageView.setImageBitmap(mDownloadedBitmap);
-            }
-        }
-
-        //Updating the Submit Button Text
-        mSubmitButtonView.setText(submitButtonStateStr);
-
-        //Revealing the answers when the Submit button is not in Submit state
-        if (!submitButtonStateStr.equalsIgnoreCase(getString(R.string.submit_button_text))) {
-            revealAnswers();
-
-            //When in Next/Finish state, show the Image as the question is already answered
-            if (mDownloadedBitmap != null) {
-                //When the image was downloaded successfully
-                mHintImageView.setImageBitmap(mDownloadedBitmap);
-            }
-
-            //Disabling the Options when in Next/Finish state
-            disableOptions();
-        }
-
-    }
-
-    /**
-     * Method that prepares the screen components for the next question
-     */
-    private void loadNextQuestion() {
-
-        //initializing the current question index
-        mCurrentQuestionIndex = Integer.parseInt(mQuestionIndexOrderArray[mCurrentQuestionNo]);
-
-        //Displaying Progress Dialog for first question
-        if (mCurrentQuestionNo == 0) {
-            showProgressDialog(R.string.progress_dialog_initial_loading_text);
-        }
-
-        //incrementing question number
-        mCurrentQuestionNo++;
-
-        //updating the question number being displayed
-        mQuestionNumberTextView.setText(mCurrentQuestionNo + "/" + mNoOfQuestionsToLoad);
-
-        //initializing the Question
-        initializeQuestion();
-
-        //initializing the Hints
-        initializeHints();
-
-        //initializing the Keys
-        initializeKeys();
-
-        //Clearing the RadioButton Monitor ArrayList
-        mVirtualRadioGrpList.clear();
-
-        //initializing the Options
-        initializeOptions();
-
-        //initializing the Selected Answers
-        if (mSelectedAnswerList == null) {
-            mSelectedAnswerList = new ArrayList<>();
-        } else if (mSelectedAnswerList.size() > 0) {
-            mSelectedAnswerList.clear();
-        }
-        mSelectedIndexOrderStr = "";
-
-        //disabling the components related to hint button
-        disableHintButtonComponents();
-
-        //resetting the state of hint button pressed to False
-        mHintButtonPressed = false;
-
-        //reloading the default hint image
-        mHintImageView.setImageResource(R.drawable.hidden_image);
-
-        if (mCurrentQuestionNo < mNoOfQuestionsToLoad) {
-            //Prefetching hint image of Next question
-            prefetchNextHintImage();
-        } else {
-            //Setting to 0 when there is no Next question
-            mFutureQuestionIndex = 0;
-        }
-
-    }
-
-    /**
-     * Method that initializes the question component "question_text_id"
-     */
-    private void initializeQuestion() {
-
-        //Retrieving and updating the question
-        String currentQuestionStr = mQuestionArray[mCurrentQuestionIndex];
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-            mQuestionTextView.setText(Html.fromHtml(currentQuestionStr, Html.FROM_HTML_MODE_LEGACY));
-        } else {
-            mQuestionTextView.setText(Html.fromHtml(currentQuestionStr));
-        }
-
-        Log.i(TAG, "initializeQuestion: mQuestionTextView: " + mQuestionTextView.getText());
-
-    }
-
-    /**
-     * Method that initializes the Key Answers for the current Question
-     */
-    private void initializeKeys() {
-
-        //Retrieving the Answer Keys Array
-        String[] keysArray = getStringArrayResourceByName("key", mCurrentQuestionIndex);
-
-        //Initializing the ArrayList
-        if (mCorrectAnswerList == null) {
-            mCorrectAnswerList = new ArrayList<>();
-        } else if (mCorrectAnswerList.size() > 0) {
-            mCorrectAnswerList.clear();
-        }
-
-        //loading the Answer Keys to the list
-        mCorrectAnswerList.addAll(Arrays.asList(keysArray));
-    }
-
-    /**
-     * Method that initializes the Options available for the current Question.
-     * This dynamically generates components (Checkboxes, RadioButtons, EditText)
-     * in the LinearLayout "option_container_area_id" based on the number of Options
-     * and Keys available for the Question.
-     */
-    private void initializeOptions() {
-
-        //Retrieving the Options Array
-        mOptionArray = getStringArrayResourceByName("option", mCurrentQuestionIndex);
-
-        int noOfOptions = mOptionArray.length; //Number of Options
-        int noOfKeys = mCorrectAnswerList.size(); //Number of Answer Keys
-
-        //Retrieving the properties of the Options Layout Container "R.id.option_container_area_id"
-        Bundle bundleOptionsData = getOptionContainerProperties();
-
-        //Retrieving the count of child views present
-        int existingChildCount = bundleOptionsData.getInt(EXISTING_CHILD_COUNT_INT_KEY);
-
-        //Retrieving the child component is CheckBox/RadioButton/EditText
-        String existingTypeStr = bundleOptionsData.getString(EXISTING_CHILD_TYPE_STR_KEY);
-
-        if (noOfOptions > 1) {
-            //When the Number of Options are more than 1 (else it is a text based question)
-
-            //Setting the textual question boolean to False, and its component to null
-            if (mIsTextualQuestion) {
-                mIsTextualQuestion = false;
-                mTextOptionView = null;
-            }
-
-            //Retrieving options in random order
-            mOptionIndexOrderStr = randomize(noOfOptions, noOfOptions);
-            String[] optionIndexOrderArray = mOptionIndexOrderStr.split(";");
-
-            //Retrieving the current screen orientation
-            int screenOrientation = getResources().getConfiguration().orientation;
-
-            if (noOfKeys > 1) {
-                //When Answer Keys are more than 1 then it is Checkbox based
-
-                if (existingTypeStr.equals(CheckBox.class.getSimpleName())) {
-                    //When the child views are CheckBox views, the views will be reused
-
-                    //Modifying existing CheckBox views and adding new ones when required
-                    reuseAddCheckBoxOptions(optionIndexOrderArray, screenOrientation, existingChildCount);
-
-                } else {
-                    //When the child views are Not CheckBox views /(or) no view present,
-                    //then the views will be created
-
-                    addNewCheckBoxOptions(optionIndexOrderArray, screenOrientation);
-
-                }
-
-            } else if (noOfKeys == 1) {
-                //When Answer Keys are equal to 1 then it is RadioButton based
-
-                if (existingTypeStr.equals(RadioButton.class.getSimpleName())) {
-                    //When the child views are RadioButton views, the views will be reused
-
-                    //Modifying existing RadioButton views and adding new ones when required
-                    reuseAddRadioButtonOptions(optionIndexOrderArray, screenOrientation, existingChildCount);
-
-                } else {
-                    //When the child views are Not RadioButton views /(or) no view present,
-                    //then the views will be created
-
-                    addNewRadioButtonOptions(optionIndexOrderArray, screenOrientation);
-
-                }
-
-            }
-
-        } else {
-            //When the Number of Options are equal to 1, it is a text based question
-
-            //Setting the textual question boolean to True
-            mIsTextualQuestion = true;
-
-            //Clearing the Previous User Input value (if any)
-            mTextualUserInputStr = "";
-
-            //Retrieving the hint text from the option
-            String hintTextStr = mOptionArray[0];
-
-            if (existingChildCount == 1
-                    && existingTypeStr.equals(EditText.class.getSimpleName())) {
-                //When the child count is 1 and is EditText
-
-                View childView = mOptionContainerView.getChildAt(0);
-                mTextOptionView = (EditText) childView;
-
-                //Clearing the Text
-                mTextOptionView.setText("");
-
-                //Setting the hint text
-                mTextOptionView.setHint(hintTextStr);
-
-                //Ensuring the EditText is enabled
-                mTextOptionView.setEnabled(true);
-
-            } else {
-                //When the Child View is not an EditText view,
-                //Then the view will be created
-
-                //Creating and adding the EditText Option field
-                addNewEditTextOption(hintTextStr, null);
-
-            }
-
-        }
-
-    }
-
-    /**
-     * Method that creates a EditText option, adds properties and attaches the layout "R.id.option_container_area_id"
-     *
-     * @param hintTextStr    is the Hint Text to be shown on the EditText
-     * @param textContentStr is the Text Content to be shown on the EditText, if any. Can be Null
-     */
-    private void addNewEditTextOption(String hintTextStr, @Nullable String textContentStr) {
-
-        //Removing all the child views present
-        mOptionContainerView.removeAllViews();
-
-        //Initializing EditText View
-        mTextOptionView = new EditText(this);
-
-        //Setting the Id
-        mTextOptionView.setId(R.id.text_option);
-
-        //Setting the hint text
-        mTextOptionView.setHint(hintTextStr);
-
-        //Setting the hint text tint
-        mTextOptionView.setHintTextColor(ContextCompat.getColor(this, R.color.textOptionHintTextLightGreen500));
-
-        //Setting the InputType
-        mTextOptionView.setInputType(InputType.TYPE_TEXT_VARIATION_PERSON_NAME | InputType.TYPE_TEXT_FLAG_NO_SUGGESTIONS | InputType.TYPE_TEXT_FLAG_CAP_WORDS | InputType.TYPE_TEXT_FLAG_MULTI_LINE);
-
-        //Setting the background
-        mTextOptionView.setBackground(ContextCompat.getDrawable(this, R.drawable.textual_input_box_shape));
-
-        //Setting the TextColor
-        mTextOptionView.setTextColor(Color.BLACK);
-
-        //Setting the TextSize
-        mTextOptionView.setTextSize(TypedValue.COMPLEX_UNIT_PX, getResources().getDimensionPixelSize(R.dimen.question_option_text_size));
-
-        //Setting the Content Text if passed
-        if (textContentStr != null) {
-            mTextOptionView.setText(textContentStr);
-        }
-
-        //Setting the LayoutParams for the EditText
-        RelativeLayout.LayoutParams editTextLayoutParams = new RelativeLayout.LayoutParams(RelativeLayout.LayoutParams.WRAP_CONTENT, RelativeLayout.LayoutParams.WRAP_CONTENT);
-        editTextLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.text_option_top_margin);
-        editTextLayoutParams.bottomMargin = getResources().getDimensionPixelSize(R.dimen.text_option_bottom_margin);
-        editTextLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.text_option_left_margin);
-        editTextLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.text_option_right_margin);
-
-        //Setting the Gravity
-        mTextOptionView.setGravity(Gravity.CENTER);
-
-        //adding to the layout
-        mOptionContainerView.addView(mTextOptionView, editTextLayoutParams);
-    }
-
-    /**
-     * Method that re-uses the existing RadioButton Option Views and adds extra RadioButtons if required,
-     * to the layout "R.id.option_container_area_id" based on the current screen orientation
-     *
-     * @param optionIndexOrderArray is the randomized order of option index generated
-     * @param screenOrientation     is the Integer value of the current screen orientation
-     * @param existingChildCount    is the Existing Count of Child Option Views before modifying the layout
-     */
-    private void reuseAddRadioButtonOptions(String[] optionIndexOrderArray, int screenOrientation, int existingChildCount) {
-
-        int noOfOptions = optionIndexOrderArray.length;
-
-        //Modifying existing RadioButtons and adding new ones when required: START
-        if (screenOrientation == Configuration.ORIENTATION_PORTRAIT) {
-            //When the device was in portrait mode
-
-            RadioGroup radioGroupView = (RadioGroup) mOptionContainerView.getChildAt(0);
-
-            for (int i = 0; i < noOfOptions; i++) {
-                //Declaring a RadioButton view
-                RadioButton radioButton = null;
-
-                //Retrieving the current index option value
-                int optionIndex = Integer.parseInt(optionIndexOrderArray[i]);
-                String optionTextStr = mOptionArray[optionIndex];
-
-                if (i < existingChildCount) {
-                    //Modifying any existing ones
-
-                    //Retrieving the existing RadioButton view
-                    switch (i) {
-                        case 0:
-                            radioButton = radioGroupView.findViewById(R.id.first_option);
-                            break;
-                        case 1:
-                            radioButton = radioGroupView.findViewById(R.id.second_option);
-                            break;
-                        case 2:
-                            radioButton = radioGroupView.findViewById(R.id.third_option);
-                            break;
-                        case 3:
-                            radioButton = radioGroupView.findViewById(R.id.fourth_option);
-                            break;
-                    }
-
-                    //Clearing previous selection if any
-                    if (radioButton.isChecked()) {
-                        radioButton.setChecked(false);
-                    }
-
-                    //Ensuring the RadioButton is enabled
-                    radioButton.setEnabled(true);
-
-                    //Setting Option Text and other Button properties
-                    setOptionButtonProperties(radioButton, optionTextStr);
-
-                } else {
-                    //Adding new RadioButton views when required
-
-                    //Creating the RadioButton Option
-                    radioButton = createRadioButtonOption(optionTextStr);
-
-                    //Setting RadioButton LayoutParams
-                    RadioGroup.LayoutParams radBtnLayoutParams = new RadioGroup.LayoutParams(RadioGroup.LayoutParams.MATCH_PARENT, RadioGroup.LayoutParams.MATCH_PARENT);
-
-                    //Setting the RadioButton id and Margins: START
-                    switch (i) {
-                        case 0:
-                            radioButton.setId(R.id.first_option);
-                            break;
-                        case 1:
-                            radioButton.setId(R.id.second_option);
-                            radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                            break;
-                        case 2:
-                            radioButton.setId(R.id.third_option);
-                            radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                            break;
-                        case 3:
-                            radioButton.setId(R.id.fourth_option);
-                            radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                            break;
-                    }
-                    //Setting the RadioButton id and Margins: END
-
-                    //adding to the RadioGroup
-                    radioGroupView.addView(radioButton, radBtnLayoutParams);
-
-                }
-
-                Log.i(TAG, "reuseAddRadioButtonOptions: radioButton: " + radioButton.getText());
-            }
-
-            //Removing any extra child views
-            if (noOfOptions < existingChildCount) {
-                while (existingChildCount > noOfOptions) {
-                    radioGroupView.removeViewAt(noOfOptions);
-                    existingChildCount--;
-                }
-            }
-
-        } else if (screenOrientation == Configuration.ORIENTATION_LANDSCAPE) {
-            //When the device was in landscape mode
-
-            TableLayout tableLayout = mOptionContainerView.findViewById(R.id.option_table_layout);
-
-            //Declaring a TableRow to be used
-            TableRow tableRow = null;
-
-            for (int i = 0; i < noOfOptions; i++) {
-                //Declaring a RadioButton view
-                RadioButton radioButton = null;
-
-                //Retrieving the current index option value
-                int optionIndex = Integer.parseInt(optionIndexOrderArray[i]);
-                String optionTextStr = mOptionArray[optionIndex];
-
-                if (i < existingChildCount) {
-                    //Modifying any existing ones
-
-                    //Retrieving the existing RadioButton view
-                    switch (i) {
-                        case 0:
-                            radioButton = tableLayout.findViewById(R.id.first_option);
-                            break;
-                        case 1:
-                            radioButton = tableLayout.findViewById(R.id.second_option);
-                            break;
-                        case 2:
-                            radioButton = tableLayout.findViewById(R.id.third_option);
-                            break;
-                        case 3:
-                            radioButton = tableLayout.findViewById(R.id.fourth_option);
-                            break;
-                    }
-
-                    //Clearing previous selection if any
-                    if (radioButton.isChecked()) {
-                        radioButton.setChecked(false);
-                    }
-
-                    //Ensuring the RadioButton is enabled
-                    radioButton.setEnabled(true);
-
-                    //Setting Option Text and other Button properties
-                    setOptionButtonProperties(radioButton, optionTextStr);
-
-                    if (radioButton.getParent() instanceof TableRow) {
-                        //Retrieving the TableRow
-                        tableRow = (TableRow) radioButton.getParent();
-                    }
-
-                } else {
-                    //Adding new RadioButton views when required
-
-                    if (tableRow.getChildCount() == 2) {
-                        //Adding new TableRow for every two RadioButtons added
-                        tableRow = new TableRow(this);
-                        //Setting TableRow LayoutParams
-                        TableLayout.LayoutParams tableRowLayoutParams = new TableLayout.LayoutParams(TableLayout.LayoutParams.MATCH_PARENT, TableLayout.LayoutParams.WRAP_CONTENT);
-                        tableLayout.addView(tableRow, tableRowLayoutParams);
-                    }
-
-                    //Creating the RadioButton Option
-                    radioButton = createRadioButtonOption(optionTextStr);
-
-                    //Setting RadioButton LayoutParams
-                    TableRow.LayoutParams radBtnLayoutParams = new TableRow.LayoutParams(0, TableRow.LayoutParams.MATCH_PARENT);
-
-                    //Setting the RadioButton id and Margins: START
-                    switch (i) {
-                        case 0:
-                            radioButton.setId(R.id.first_option);
-                            radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                            radBtnLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_left_margin);
-                            radBtnLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_right_margin);
-                            break;
-                        case 1:
-                            radioButton.setId(R.id.second_option);
-                            radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                            radBtnLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_right_margin);
-                            break;
-                        case 2:
-                            radioButton.setId(R.id.third_option);
-                            radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                            radBtnLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_left_margin);
-                            radBtnLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_right_margin);
-                            break;
-                        case 3:
-                            radioButton.setId(R.id.fourth_option);
-                            radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                            radBtnLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_right_margin);
-                            break;
-                    }
-                    //Setting the RadioButton id and Margins: END
-
-                    //Setting the bottom margin for the last TableRow
-                    if ((i + 1) == noOfOptions) {
-                        TableLayout.LayoutParams tableRowLayoutParams = (TableLayout.LayoutParams) tableRow.getLayoutParams();
-                        tableRowLayoutParams.bottomMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_bottom_margin);
-                    }
-
-                    //Adding RadioButton to TableRow
-                    tableRow.addView(radioButton, radBtnLayoutParams);
-
-                }
-
-                Log.i(TAG, "reuseAddRadioButtonOptions: radioButton: " + radioButton.getText());
-            }
-
-            //Removing any extra child views
-            removeExtraChildViewsOnTable(existingChildCount, noOfOptions, tableLayout);
-
-        }
-        //Modifying existing RadioButtons and adding new ones when required: END
-
-    }
-
-    /**
-     * Method that removes any extra options (than required) existing in the Table layout
-     * under "R.id.option_container_area_id"
-     *
-     * @param existingChildCount is the Existing Count of Child Option Views before modifying the layout
-     * @param noOfOptions        is the Number of Option Views that needs to be present
-     * @param tableLayout        is the Table Layout containing the components
-     */
-    private void removeExtraChildViewsOnTable(int existingChildCount, int noOfOptions, TableLayout tableLayout) {
-
-        if (noOfOptions < existingChildCount) {
-            //Retrieving the current number of table rows
-            int noOfTableRows = tableLayout.getChildCount();
-            //Keeping track of the number of CheckBoxes/RadioButtons found
-            int currentChildCount = 0;
-
-            for (int i = 0; i < noOfTableRows; i++) {
-                //Retrieving the Table Row
-                TableRow childTableRow = (TableRow) tableLayout.getChildAt(i);
-                //Accounting the number of CheckBoxes/RadioButtons in the current row
-                currentChildCount += childTableRow.getChildCount();
-
-                //When the current count of CheckBoxes/RadioButtons exceeds the required count
-                while (currentChildCount > noOfOptions) {
-                    //Removing the last child in the TableRow in each iteration
-                    childTableRow.removeView(childTableRow.getChildAt((currentChildCount - 1) % 2));
-                    currentChildCount--;
-                }
-
-                if (childTableRow.getChildCount() == 0) {
-                    //If all the CheckBoxes/RadioButtons on the current Table Row were removed,
-                    //then delete the Table Row and adjust the counter accordingly
-                    tableLayout.removeView(childTableRow);
-                    i--;
-                    noOfTableRows--;
-                }
-
-            }
-
-        }
+    //Called by the Activity when it is being recreated for a config change,
+    //to retain the session for the new instance
+    @Override
+    public Object onRetainCustomNonConfigurationInstance() {
+        //Updating the session with the state held by the views
+        saveViewStateToSession();
 
+        return mSession;
     }
 
-    /**
-     * Method that adds New RadioButton Options to the layout "R.id.option_container_area_id"
-     * based on the current screen orientation
-     *
-     * @param optionIndexOrderArray is the randomized order of option index generated
-     * @param screenOrientation     is the Integer value of the current screen orientation
-     */
-    private void addNewRadioButtonOptions(String[] optionIndexOrderArray, int screenOrientation) {
-
-        //Retrieving the count of child views present
-        int childCount = mOptionContainerView.getChildCount();
-
-        if (childCount > 0) {
-            //Deleting any existing child views
-            mOptionContainerView.removeAllViews();
-        }
-
-        int noOfOptions = optionIndexOrderArray.length;
-
-        //adding RadioButton views dynamically to "R.id.option_container_area_id"
-        //based on screen orientation
-        if (screenOrientation == Configuration.ORIENTATION_PORTRAIT) {
-            //When the device is in portrait mode
-
-            //Initializing a RadioGroup
-            RadioGroup radioGroupView = new RadioGroup(this);
-            radioGroupView.setId(R.id.rad_group_option);
-            radioGroupView.setOrientation(RadioGroup.VERTICAL);
-            radioGroupView.setGravity(Gravity.CENTER_HORIZONTAL);
-
-            //Initializing Layout Params for RadioGroup
-            RadioGroup.LayoutParams radGrpLayoutParams = new RadioGroup.LayoutParams(RadioGroup.LayoutParams.MATCH_PARENT, RadioGroup.LayoutParams.MATCH_PARENT);
-            radGrpLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.rad_grp_left_margin);
-            radGrpLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.rad_grp_right_margin);
-            radGrpLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_grp_top_margin);
-            radGrpLayoutParams.bottomMargin = getResources().getDimensionPixelSize(R.dimen.rad_grp_bottom_margin);
-
-            //adding RadioButton views dynamically
-            for (int i = 0; i < noOfOptions; i++) {
-                //Retrieving the current index option value
-                int optionIndex = Integer.parseInt(optionIndexOrderArray[i]);
-                String optionTextStr = mOptionArray[optionIndex];
-
-                //Creating the RadioButton Option
-                RadioButton radioButton = createRadioButtonOption(optionTextStr);
-
-                //Setting RadioButton LayoutParams
-                RadioGroup.LayoutParams radBtnLayoutParams = new RadioGroup.LayoutParams(RadioGroup.LayoutParams.MATCH_PARENT, RadioGroup.LayoutParams.MATCH_PARENT);
-
-                //Setting the RadioButton id and Margins: START
-                switch (i) {
-                    case 0:
-                        radioButton.setId(R.id.first_option);
-                        break;
-                    case 1:
-                        radioButton.setId(R.id.second_option);
-                        radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                        break;
-                    case 2:
-                        radioButton.setId(R.id.third_option);
-                        radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                        break;
-                    case 3:
-                        radioButton.setId(R.id.fourth_option);
-                        radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                        break;
-                }
-                //Setting the RadioButton id and Margins: END
-
-                //adding to the RadioGroup
-                radioGroupView.addView(radioButton, radBtnLayoutParams);
-
-                Log.i(TAG, "addNewRadioButtonOptions: radioButton: " + radioButton.getText());
-            }
-
-            //adding RadioGroup to the layout
-            mOptionContainerView.addView(radioGroupView, radGrpLayoutParams);
-
-        } else if (screenOrientation == Configuration.ORIENTATION_LANDSCAPE) {
-            //When the device is in landscape mode
-
-            //Creating a TableLayout
-            TableLayout tableLayout = new TableLayout(this);
-            tableLayout.setId(R.id.option_table_layout); //Setting component id
-
-            //Marking all the columns stretchable
-            tableLayout.setStretchAllColumns(true);
-
-            //Setting Table Layout Params
-            RelativeLayout.LayoutParams tableLayoutParams = new RelativeLayout.LayoutParams(RelativeLayout.LayoutParams.MATCH_PARENT, RelativeLayout.LayoutParams.MATCH_PARENT);
-
-            //Declaring a TableRow to be used
-            TableRow tableRow = null;
-
-            //adding RadioButton views dynamically
-            for (int i = 0; i < noOfOptions; i++) {
-                //Retrieving the current index option value
-                int optionIndex = Integer.parseInt(optionIndexOrderArray[i]);
-                String optionTextStr = mOptionArray[optionIndex];
-
-                if ((i % 2) == 0) {
-                    //Adding new TableRow for every two RadioButtons added
-                    tableRow = new TableRow(this);
-                    //Setting TableRow LayoutParams
-                    TableLayout.LayoutParams tableRowLayoutParams = new TableLayout.LayoutParams(TableLayout.LayoutParams.MATCH_PARENT, TableLayout.LayoutParams.WRAP_CONTENT);
-                    tableLayout.addView(tableRow, tableRowLayoutParams);
-                }
-
-                //Creating the RadioButton Option
-                RadioButton radioButton = createRadioButtonOption(optionTextStr);
-
-                //Setting RadioButton LayoutParams
-                TableRow.LayoutParams radBtnLayoutParams = new TableRow.LayoutParams(0, TableRow.LayoutParams.MATCH_PARENT);
-
-                //Setting the RadioButton id and Margins: START
-                switch (i) {
-                    case 0:
-                        radioButton.setId(R.id.first_option);
-                        radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                        radBtnLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_left_margin);
-                        radBtnLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_right_margin);
-                        break;
-                    case 1:
-                        radioButton.setId(R.id.second_option);
-                        radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                        radBtnLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_right_margin);
-                        break;
-                    case 2:
-                        radioButton.setId(R.id.third_option);
-                        radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                        radBtnLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_left_margin);
-                        radBtnLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_right_margin);
-                        break;
-                    case 3:
-                        radioButton.setId(R.id.fourth_option);
-                        radBtnLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_top_margin);
-                        radBtnLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_right_margin);
-                        break;
-                }
-                //Setting the RadioButton id and Margins: END
+    //Called by the Activity when it is being destroyed
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
 
-                //Setting the bottom margin for the last TableRow
-                if ((i + 1) == noOfOptions) {
-                    TableLayout.LayoutParams tableRowLayoutParams = (TableLayout.LayoutParams) tableRow.getLayoutParams();
-                    tableRowLayoutParams.bottomMargin = getResources().getDimensionPixelSize(R.dimen.rad_btn_bottom_margin);
-                }
+        Log.i(TAG, "onDestroy");
 
-                //Adding RadioButton to TableRow
-                tableRow.addView(radioButton, radBtnLayoutParams);
+        //Detaching from the session, which buffers the events till the new instance attaches
+        mSession.detach();
 
-                Log.i(TAG, "addNewRadioButtonOptions: radioButton: " + radioButton.getText());
-            }
+        //Unregistering from the Network Connectivity changes
+        ConnectivityMonitor.getInstance(this).removeOnNetworkConnectedListener(this);
 
-            //Adding TableLayout to "R.id.option_container_area_id"
-            mOptionContainerView.addView(tableLayout, tableLayoutParams);
+        //Removing the listeners waiting for the questions, which are loaded again by the new instance
+        mQuestionRepository.removeOnQuestionsPickedListener(this);
+        mQuestionRepository.removeOnQuestionLoadedListener(mNextQuestionListener);
+        mQuestionRepository.removeOnQuestionLoadedListener(mRestoredQuestionListener);
+        mQuestionRepository.removeOnQuestionLoadedListener(mFutureQuestionListener);
 
+        if (isFinishing()) {
+            //Releasing the hint images held by the session, as they are no longer shown
+            mSession.releaseHintImages();
         }
-
     }
 
-    /**
-     * Method that Creates a RadioButton option, adds properties
-     * and attaches a Listener
-     *
-     * @param optionTextStr is Text Content on the RadioButton to be shown
-     * @return RadioButton prepared
-     */
-    private RadioButton createRadioButtonOption(String optionTextStr) {
-        //Initializing a RadioButton view
-        RadioButton radioButton = new RadioButton(this);
-
-        //Setting Option Text and other Button properties
-        setOptionButtonProperties(radioButton, optionTextStr);
-
-        //Adding {@link android.widget.CompoundButton.OnCheckedChangeListener} to the button
-        radioButton.setOnCheckedChangeListener(this);
-
-        //Returning the RadioButton prepared
-        return radioButton;
-    }
-
-    /**
-     * Method that re-uses the existing CheckBox Option Views and adds extra CheckBoxes if required,
-     * to the layout "R.id.option_container_area_id" based on the current screen orientation
-     *
-     * @param optionIndexOrderArray is the randomized order of option index generated
-     * @param screenOrientation     is the Integer value of the current screen orientation
-     * @param existingChildCount    is the Existing Count of Child Option Views before modifying the layout
-     */
-    private void reuseAddCheckBoxOptions(String[] optionIndexOrderArray, int screenOrientation, int existingChildCount) {
-
-        int noOfOptions = optionIndexOrderArray.length;
-
-        //Modifying existing CheckBox views and adding new ones when required: START
-        if (screenOrientation == Configuration.ORIENTATION_PORTRAIT) {
-            //When the device was in portrait mode
-
-            for (int i = 0; i < noOfOptions; i++) {
-                //Declaring a CheckBox view
-                CheckBox checkBox = null;
-
-                //Retrieving the current index option value
-                int optionIndex = Integer.parseInt(optionIndexOrderArray[i]);
-                String optionTextStr = mOptionArray[optionIndex];
-
-                if (i < existingChildCount) {
-                    //Modifying any existing ones
-
-                    //Retrieving the existing CheckBox view
-                    switch (i) {
-                        case 0:
-                            checkBox = mOptionContainerView.findViewById(R.id.first_option);
-                            break;
-                        case 1:
-                            checkBox = mOptionContainerView.findViewById(R.id.second_option);
-                            break;
-                        case 2:
-                            checkBox = mOptionContainerView.findViewById(R.id.third_option);
-                            break;
-                        case 3:
-                            checkBox = mOptionContainerView.findViewById(R.id.fourth_option);
-                            break;
-                    }
-
-                    //Clearing previous selection if any
-                    if (checkBox.isChecked()) {
-                        checkBox.setChecked(false);
-                    }
-
-                    //Ensuring the CheckBox is enabled
-                    checkBox.setEnabled(true);
-
-                    //Setting Option Text and other Button properties
-                    setOptionButtonProperties(checkBox, optionTextStr);
-
-                } else {
-                    //Adding new CheckBox views when required
-
-                    //Creating the CheckBox Option
-                    checkBox = createCheckBoxOption(optionTextStr);
-
-                    //Setting CheckBox LayoutParams
-                    RelativeLayout.LayoutParams chkBoxLayoutParams = new RelativeLayout.LayoutParams(RelativeLayout.LayoutParams.MATCH_PARENT, RelativeLayout.LayoutParams.MATCH_PARENT);
-                    chkBoxLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_left_margin);
-                    chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-
-                    //Setting the CheckBox id, relative positions and Margins: START
-                    switch (i) {
-                        case 0:
-                            checkBox.setId(R.id.first_option);
-                            chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_1);
-                            break;
-                        case 1:
-                            checkBox.setId(R.id.second_option);
-                            chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                            chkBoxLayoutParams.addRule(RelativeLayout.BELOW, R.id.first_option);
-                            break;
-                        case 2:
-                            checkBox.setId(R.id.third_option);
-                            chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                            chkBoxLayoutParams.addRule(RelativeLayout.BELOW, R.id.second_option);
-                            break;
-                        case 3:
-                            checkBox.setId(R.id.fourth_option);
-                            chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                            chkBoxLayoutParams.addRule(RelativeLayout.BELOW, R.id.third_option);
-                            break;
-                    }
-                    //Setting the CheckBox id, relative positions and Margins: END
-
-                    //Setting the bottom margin for the last CheckBox
-                    if ((i + 1) == noOfOptions) {
-                        chkBoxLayoutParams.bottomMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_bottom_margin);
-                    }
-
-                    //adding to the layout
-                    mOptionContainerView.addView(checkBox, chkBoxLayoutParams);
-
-                }
-
-                Log.i(TAG, "reuseAddCheckBoxOptions: checkBox: " + checkBox.getText());
-            }
-
-            //Removing any extra child views
-            if (noOfOptions < existingChildCount) {
-                while (existingChildCount > noOfOptions) {
-                    mOptionContainerView.removeViewAt(noOfOptions);
-                    existingChildCount--;
-                }
-            }
-
-        } else if (screenOrientation == Configuration.ORIENTATION_LANDSCAPE) {
-            //When the device was in landscape mode
-
-            TableLayout tableLayout = mOptionContainerView.findViewById(R.id.option_table_layout);
-
-            //Declaring a TableRow to be used
-            TableRow tableRow = null;
-
-            for (int i = 0; i < noOfOptions; i++) {
-                //Declaring a CheckBox view
-                CheckBox checkBox = null;
-
-                //Retrieving the current index option value
-                int optionIndex = Integer.parseInt(optionIndexOrderArray[i]);
-                String optionTextStr = mOptionArray[optionIndex];
-
-                if (i < existingChildCount) {
-                    //Modifying existing ones
-
-                    //Retrieving the existing CheckBox view
-                    switch (i) {
-                        case 0:
-                            checkBox = tableLayout.findViewById(R.id.first_option);
-                            break;
-                        case 1:
-                            checkBox = tableLayout.findViewById(R.id.second_option);
-                            break;
-                        case 2:
-                            checkBox = tableLayout.findViewById(R.id.third_option);
-                            break;
-                        case 3:
-                            checkBox = tableLayout.findViewById(R.id.fourth_option);
-                            break;
-                    }
-
-                    //Clearing previous selection if any
-                    if (checkBox.isChecked()) {
-                        checkBox.setChecked(false);
-                    }
-
-                    //Ensuring the CheckBox is enabled
-                    checkBox.setEnabled(true);
-
-                    //Setting Option Text and other Button properties
-                    setOptionButtonProperties(checkBox, optionTextStr);
-
-                    if (checkBox.getParent() instanceof TableRow) {
-                        //Retrieving the TableRow
-                        tableRow = (TableRow) checkBox.getParent();
-                    }
-
-                } else {
-                    //Adding new CheckBox views when required
-
-                    if (tableRow.getChildCount() == 2) {
-                        //Adding new TableRow for every two CheckBoxes added
-                        tableRow = new TableRow(this);
-                        //Setting TableRow LayoutParams
-                        TableLayout.LayoutParams tableRowLayoutParams = new TableLayout.LayoutParams(TableLayout.LayoutParams.MATCH_PARENT, TableLayout.LayoutParams.WRAP_CONTENT);
-                        tableLayout.addView(tableRow, tableRowLayoutParams);
-                    }
-
-                    //Creating the CheckBox Option
-                    checkBox = createCheckBoxOption(optionTextStr);
-
-                    //Setting CheckBox LayoutParams
-                    TableRow.LayoutParams chkBoxLayoutParams = new TableRow.LayoutParams(0, TableRow.LayoutParams.MATCH_PARENT);
-
-                    //Setting the CheckBox id, relative positions and Margins: START
-                    switch (i) {
-                        case 0:
-                            checkBox.setId(R.id.first_option);
-                            chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_1);
-                            chkBoxLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_left_margin);
-                            chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-                            break;
-                        case 1:
-                            checkBox.setId(R.id.second_option);
-                            chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_1);
-                            chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-                            break;
-                        case 2:
-                            checkBox.setId(R.id.third_option);
-                            chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                            chkBoxLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_left_margin);
-                            chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-                            break;
-                        case 3:
-                            checkBox.setId(R.id.fourth_option);
-                            chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                            chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-                            break;
-                    }
-                    //Setting the CheckBox id, relative positions and Margins: END
+    /**
+     * Method that updates the session with the state held by the views, that is,
+     * the text entered for the textual question
+     */
+    private void saveViewStateToSession() {
+        if (mSession.getCurrentQuestion() == null) {
+            //Exiting when the question is yet to be shown, as the views hold no state
+            return;
+        }
+        mSession.setTextualUserInput((mTextOptionView == null) ? "" : mTextOptionView.getText().toString());
+    }
 
-                    //Setting the bottom margin for the last TableRow
-                    if ((i + 1) == noOfOptions) {
-                        TableLayout.LayoutParams tableRowLayoutParams = (TableLayout.LayoutParams) tableRow.getLayoutParams();
-                        tableRowLayoutParams.bottomMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_bottom_margin);
-                    }
+    /**
+     * Method to initialize the view components for the first question,
+     * or for the question following the last question answered when the quiz is resumed
+     * from the {@link QuizSessionJournal}
+     */
+    private void init() {
+        Log.i(TAG, "init: Started");
 
-                    //adding to the TableRow
-                    tableRow.addView(checkBox, chkBoxLayoutParams);
+        //Displaying Progress Dialog till the first question is loaded,
+        //unless retained across the config change
+        if (getFragmentManager().findFragmentByTag(ProgressDialogFragment.TAG_PROGRESS_DIALOG) == null) {
+            showProgressDialog(R.string.progress_dialog_initial_loading_text);
+        }
 
-                }
+        if (!mSession.hasQuestionOrder()) {
+            //When the quiz is started afresh
 
-                Log.i(TAG, "reuseAddCheckBoxOptions: checkBox: " + checkBox.getText());
-            }
+            //Picking the questions of the quiz in the background, which loads the first question when picked
+            mQuestionRepository.pickRandomQuestions(mSession.getNoOfQuestionsToLoad(), this);
+        } else {
+            Log.i(TAG, "init: Resuming after the Question No " + mSession.getCurrentQuestionNo());
 
-            //Removing any extra child views
-            removeExtraChildViewsOnTable(existingChildCount, noOfOptions, tableLayout);
+            //Initializing the header text score
+            updateUserScoreText();
 
+            //Preparing the screen components for the question to resume from
+            loadNextQuestion();
         }
-        //Modifying existing CheckBox views and adding new ones when required: END
-
     }
 
     /**
-     * Method that adds New CheckBox Options to the layout "R.id.option_container_area_id"
-     * based on the current screen orientation
+     * Callback Method of {@link QuestionRepository}
+     * invoked when the questions of the quiz started afresh are picked, and are loaded in the background.
      *
-     * @param optionIndexOrderArray is the randomized order of option index generated
-     * @param screenOrientation     is the Integer value of the current screen orientation
+     * @param questionCount   is the Integer number of questions in the repository
+     * @param questionIndices is the Integer array of the identifiers of the questions picked, in a random order
      */
-    private void addNewCheckBoxOptions(String[] optionIndexOrderArray, int screenOrientation) {
+    @Override
+    public void onQuestionsPicked(int questionCount, int[] questionIndices) {
+        Log.i(TAG, "onQuestionsPicked: QuestionOrder: " + Arrays.toString(questionIndices));
 
-        //Retrieving the count of child views present
-        int childCount = mOptionContainerView.getChildCount();
+        //Initializing the session with the question order
+        mSession.setQuestionOrder(questionIndices, questionCount);
 
-        if (childCount > 0) {
-            //Deleting any existing child views
-            mOptionContainerView.removeAllViews();
-        }
+        //Recording the quiz started in the Journal
+        mSessionJournal.recordStart(mSession.getTotalNumberOfQuestions(), questionIndices, mSession.getRemainingTimeInMillis());
 
-        int noOfOptions = optionIndexOrderArray.length;
+        //Initializing the header text score
+        updateUserScoreText();
 
-        //adding CheckBox views dynamically to "R.id.option_container_area_id"
-        //based on screen orientation
-        if (screenOrientation == Configuration.ORIENTATION_PORTRAIT) {
-            //When the device is in portrait mode
+        //Preparing the screen components for the first question
+        loadNextQuestion();
+    }
 
-            for (int i = 0; i < noOfOptions; i++) {
-                //Retrieving the current index option value
-                int optionIndex = Integer.parseInt(optionIndexOrderArray[i]);
-                String optionTextStr = mOptionArray[optionIndex];
-
-                //Creating the CheckBox Option
-                CheckBox checkBox = createCheckBoxOption(optionTextStr);
-
-                //Setting CheckBox LayoutParams
-                RelativeLayout.LayoutParams chkBoxLayoutParams = new RelativeLayout.LayoutParams(RelativeLayout.LayoutParams.MATCH_PARENT, RelativeLayout.LayoutParams.MATCH_PARENT);
-                chkBoxLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_left_margin);
-                chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-
-                //Setting the CheckBox id, relative positions and Margins: START
-                switch (i) {
-                    case 0:
-                        checkBox.setId(R.id.first_option);
-                        chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_1);
-                        break;
-                    case 1:
-                        checkBox.setId(R.id.second_option);
-                        chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                        chkBoxLayoutParams.addRule(RelativeLayout.BELOW, R.id.first_option);
-                        break;
-                    case 2:
-                        checkBox.setId(R.id.third_option);
-                        chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                        chkBoxLayoutParams.addRule(RelativeLayout.BELOW, R.id.second_option);
-                        break;
-                    case 3:
-                        checkBox.setId(R.id.fourth_option);
-                        chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                        chkBoxLayoutParams.addRule(RelativeLayout.BELOW, R.id.third_option);
-                        break;
-                }
-                //Setting the CheckBox id, relative positions and Margins: END
+    /**
+     * Method that reloads the screen components for the current question from the {@link QuizSession}
+     * after configuration change. The Hint Images held by the session retained are shown
+     * without decoding them again.
+     */
+    private void reloadCurrentQuestion() {
+        //updating the question number being displayed
+        mQuestionNumberTextView.setText(mSession.getCurrentQuestionNo() + "/" + mSession.getNoOfQuestionsToLoad());
 
-                //Setting the bottom margin for the last CheckBox
-                if ((i + 1) == noOfOptions) {
-                    chkBoxLayoutParams.bottomMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_bottom_margin);
-                }
+        //updating the score
+        updateUserScoreText();
+
+        //reinitializing the Question
+        initializeQuestion();
+
+        //Retrieving the path of the Hint Image
+        String hintImagePathStr = mSession.getCurrentQuestion().getHints()[0];
 
-                //adding to the layout "R.id.option_container_area_id"
-                mOptionContainerView.addView(checkBox, chkBoxLayoutParams);
+        //reinitializing the Current Question image if already downloaded,
+        //when the image is not held by the session, that is, after the process was killed
+        if (!mSession.hasHintImage()) {
+            if (hintImagePathStr.startsWith("res")) {
+                //When the path starts as "res", then the image is located under res directory
+                loadLocalHintImage(hintImagePathStr);
 
-                Log.i(TAG, "addNewCheckBoxOptions: checkBox: " + checkBox.getText());
+            } else if (mSession.getCurrentImageDownloadTask().getDownloadTaskState(mSession.getCurrentQuestionIndex())
+                    .equals(ImageDownloadTask.TaskState.TASK_STATE_COMPLETED.toString())) {
+                //When the path starts as "http", then the image will be downloaded by the task
+                mSession.setHintImage(mSession.getCurrentImageDownloadTask().getImageHandle(mSession.getCurrentQuestionIndex()));
             }
+        }
 
-        } else if (screenOrientation == Configuration.ORIENTATION_LANDSCAPE) {
-            //When the device is in landscape mode
+        //reinitializing the Future Question image if already downloaded
+        if (mSession.getFutureImageDownloadTask().getDownloadTaskState(mSession.getFutureQuestionIndex())
+                .equals(ImageDownloadTask.TaskState.TASK_STATE_COMPLETED.toString())) {
+            mSession.setPrefetchedImage(mSession.getFutureImageDownloadTask().getImageHandle(mSession.getFutureQuestionIndex()));
+        }
 
-            //Creating a TableLayout
-            TableLayout tableLayout = new TableLayout(this);
-            tableLayout.setId(R.id.option_table_layout); //Setting component id
+        //Resuming the prefetch of the hint images of the upcoming questions
+        mSession.getHintImagePrefetcher().prefetch(mSession.getCurrentQuestionNo(), this);
 
-            //Marking all the columns stretchable
-            tableLayout.setStretchAllColumns(true);
+        //reinitializing the Options: START
+        String[] optionArray = mSession.getCurrentQuestion().getOptions();
+        if (mSession.isTextualQuestion()) {
+            //Adding the EditText view, when it is Textual Based Question
+            String textualUserInputStr = mSession.getTextualUserInput();
+            if (textualUserInputStr != null && textualUserInputStr.length() > 0) {
+                //When the User had already entered the text
+                mTextOptionView = mOptionViewRecycler.bindTextOption(optionArray[0], textualUserInputStr);
+            } else {
+                //When the User had not entered any text
+                mTextOptionView = mOptionViewRecycler.bindTextOption(optionArray[0], null);
+            }
 
-            //Setting Table Layout Params
-            RelativeLayout.LayoutParams tableLayoutParams = new RelativeLayout.LayoutParams(RelativeLayout.LayoutParams.MATCH_PARENT, RelativeLayout.LayoutParams.MATCH_PARENT);
+        } else {
+            //When it is not a Textual Based Question
 
-            //Declaring a TableRow to be used
-            TableRow tableRow = null;
+            //When the Number of Answers is more than 1, then the question is CheckBox Option based,
+            //else RadioButton Option based
+            mOptionViewRecycler.bindButtonOptions(mSession.getNoOfKeys() > 1, optionArray, mSession.getOptionIndexOrder());
 
-            for (int i = 0; i < noOfOptions; i++) {
-                //Retrieving the current index option value
-                int optionIndex = Integer.parseInt(optionIndexOrderArray[i]);
-                String optionTextStr = mOptionArray[optionIndex];
-
-                if ((i % 2) == 0) {
-                    //Adding new TableRow for every two CheckBoxes added
-                    tableRow = new TableRow(this);
-                    //Setting TableRow LayoutParams
-                    TableLayout.LayoutParams tableRowLayoutParams = new TableLayout.LayoutParams(TableLayout.LayoutParams.MATCH_PARENT, TableLayout.LayoutParams.WRAP_CONTENT);
-                    tableLayout.addView(tableRow, tableRowLayoutParams);
+            //Highlighting the Selected Answers if any: START
+            if (mSession.hasSelectedOptions()) {
+                //Iterating and marking the selected options as checked
+                for (int optionIndex = 1; optionIndex <= mOptionViewRecycler.getOptionButtonCount(); optionIndex++) {
+                    if (mSession.isOptionSelected(optionIndex)) {
+                        mOptionViewRecycler.getOptionButton(optionIndex - 1).setChecked(true);
+                    }
                 }
 
-                //Creating the CheckBox Option
-                CheckBox checkBox = createCheckBoxOption(optionTextStr);
-
-                //Setting CheckBox LayoutParams
-                TableRow.LayoutParams chkBoxLayoutParams = new TableRow.LayoutParams(0, TableRow.LayoutParams.MATCH_PARENT);
-
-                //Setting the CheckBox id, relative positions and Margins: START
-                switch (i) {
-                    case 0:
-                        checkBox.setId(R.id.first_option);
-                        chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_1);
-                        chkBoxLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_left_margin);
-                        chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-                        break;
-                    case 1:
-                        checkBox.setId(R.id.second_option);
-                        chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_1);
-                        chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-                        break;
-                    case 2:
-                        checkBox.setId(R.id.third_option);
-                        chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                        chkBoxLayoutParams.leftMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_left_margin);
-                        chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-                        break;
-                    case 3:
-                        checkBox.setId(R.id.fourth_option);
-                        chkBoxLayoutParams.topMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_top_margin_2);
-                        chkBoxLayoutParams.rightMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_right_margin);
-                        break;
-                }
-                //Setting the CheckBox id, relative positions and Margins: END
+            }
+            //Highlighting the Selected Answers if any: END
 
-                //Setting the bottom margin for the last TableRow
-                if ((i + 1) == noOfOptions) {
-                    TableLayout.LayoutParams tableRowLayoutParams = (TableLayout.LayoutParams) tableRow.getLayoutParams();
-                    tableRowLayoutParams.bottomMargin = getResources().getDimensionPixelSize(R.dimen.chk_box_bottom_margin);
-                }
+        }
+        //reinitializing the Options: END
 
-                //adding to the TableRow
-                tableRow.addView(checkBox, chkBoxLayoutParams);
+        //Enabling the Hint button components if Hint button was enabled
+        if (mSession.isHintEnabled()) {
+            enableHintButtonComponents();
+        } else {
+            disableHintButtonComponents();
+        }
 
-                Log.i(TAG, "addNewCheckBoxOptions: checkBox: " + checkBox.getText());
+        //Reveal the Hint if Hint button was pressed
+        if (mSession.isHintButtonPressed()) {
+            //Setting the Hint text in the view "R.id.hint_text_box_id"
+            showHintText();
+            //Revealing the Hint image if downloaded successfully
+            if (mSession.hasHintImage()) {
+                //When the image was downloaded successfully
+                mHintImageView.setImageBitmap(mSession.getHintBitmap());
             }
+        }
 
-            //Adding TableLayout to "R.id.option_container_area_id"
-            mOptionContainerView.addView(tableLayout, tableLayoutParams);
+        if (!mSession.isQuestionAnswered()) {
+            //Updating the Submit Button Text to "Submit" when the question is yet to be answered
+            mSubmitButtonView.setText(R.string.submit_button_text);
+        } else {
+            //Updating the Submit Button Text to "Next"/"Finish" when the question is already answered
+            updateSubmitButtonForNextQuestion();
+
+            //Revealing the answers as the question is already answered
+            revealAnswers();
+
+            //When in Next/Finish state, show the Image as the question is already answered
+            if (mSession.hasHintImage()) {
+                //When the image was downloaded successfully
+                mHintImageView.setImageBitmap(mSession.getHintBitmap());
+            }
 
+            //Disabling the Options when in Next/Finish state
+            disableOptions();
         }
 
     }
 
     /**
-     * Method that Creates a CheckBox option, adds properties
-     * and attaches a Listener
-     *
-     * @param optionTextStr is Text Content on the CheckBox to be shown
-     * @return CheckBox prepared
+     * Method that retrieves the next question from the {@link QuestionRepository}, which prepares
+     * the screen components for the question when delivered. The question is delivered right away
+     * when already loaded in the background.
      */
-    private CheckBox createCheckBoxOption(String optionTextStr) {
-        //Initializing a CheckBox view
-        CheckBox checkBox = new CheckBox(this);
-
-        //Setting Option Text and other Button properties
-        setOptionButtonProperties(checkBox, optionTextStr);
-
-        //Adding {@link android.widget.CompoundButton.OnCheckedChangeListener} to the button
-        checkBox.setOnCheckedChangeListener(this);
-
-        //Returning the CheckBox prepared
-        return checkBox;
+    private void loadNextQuestion() {
+        mQuestionRepository.loadQuestion(mSession.getNextQuestionIndex(), mNextQuestionListener);
     }
 
     /**
-     * Method that returns a Bundle containing data related to Options Container layout
-     * "R.id.option_container_area_id"
+     * Method that prepares the screen components for the next question
      *
-     * @return Bundle containing the properties describing the Options Container layout
+     * @param nextQuestion is the {@link Question} retrieved for the next question
      */
-    private Bundle getOptionContainerProperties() {
+    private void bindNextQuestion(Question nextQuestion) {
+
+        //Moving the session to the next question, which resets the answer and the hint
+        mSession.moveToQuestion(nextQuestion);
 
-        //Stores the count of components found (CheckBox/RadioButton/EditText)
-        int childCount = 0;
+        //Reverting the Button text to "Submit"
+        mSubmitButtonView.setText(R.string.submit_button_text);
 
-        //Stores the type of components found
-        String typeStr = "";
+        //updating the question number being displayed
+        mQuestionNumberTextView.setText(mSession.getCurrentQuestionNo() + "/" + mSession.getNoOfQuestionsToLoad());
 
-        //Looking for First CompoundButton option if present
-        if (mOptionContainerView.findViewById(R.id.first_option) != null) {
-            View view = mOptionContainerView.findViewById(R.id.first_option);
+        //initializing the Question
+        initializeQuestion();
 
-            //Retrieving the type
-            //(Only for the first since it will be the same on other options
-            if (view instanceof CheckBox) {
-                typeStr = CheckBox.class.getSimpleName();
-            } else if (view instanceof RadioButton) {
-                typeStr = RadioButton.class.getSimpleName();
-            }
+        //initializing the Hints
+        initializeHints();
 
-            //Advancing count
-            childCount++;
-        }
+        //Clearing the RadioButton Monitor ArrayList
+        mVirtualRadioGrpList.clear();
 
-        //Looking for Second CompoundButton option if present
-        if (mOptionContainerView.findViewById(R.id.second_option) != null) {
-            childCount++; //Advancing count
-        }
+        //initializing the Options
+        initializeOptions();
 
-        //Looking for Third CompoundButton option if present
-        if (mOptionContainerView.findViewById(R.id.third_option) != null) {
-            childCount++; //Advancing count
-        }
+        //disabling the components related to hint button
+        disableHintButtonComponents();
+
+        //reloading the default hint image
+        mHintImageView.setImageResource(R.drawable.hidden_image);
 
-        //Looking for Fourth CompoundButton option if present
-        if (mOptionContainerView.findViewById(R.id.fourth_option) != null) {
-            childCount++; //Advancing count
+        if (mSession.hasNextQuestion()) {
+            //Releasing the Prefetched Image, which was handed over to the current question if prefetched
+            mSession.setPrefetchedImage(null);
+            //Prefetching hint image of Next question, once the question is retrieved
+            mQuestionRepository.loadQuestion(mSession.getFutureQuestionIndex(), mFutureQuestionListener);
+            //Keeping the hint images of the upcoming questions warm
+            mSession.getHintImagePrefetcher().prefetch(mSession.getCurrentQuestionNo(), this);
         }
 
-        //Looking for EditText Component option if present
-        if (childCount == 0 && mOptionContainerView.findViewById(R.id.text_option) != null) {
-            typeStr = EditText.class.getSimpleName(); //Retrieving the type
+    }
+
+    /**
+     * Method that initializes the question component "question_text_id"
+     */
+    private void initializeQuestion() {
 
-            childCount++; //Advancing count
+        //Retrieving and updating the question
+        String currentQuestionStr = mSession.getCurrentQuestion().getQuestionText();
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            mQuestionTextView.setText(Html.fromHtml(currentQuestionStr, Html.FROM_HTML_MODE_LEGACY));
+        } else {
+            mQuestionTextView.setText(Html.fromHtml(currentQuestionStr));
         }
 
-        //Adding to the Bundle
-        Bundle bundle = new Bundle();
-        bundle.putInt(EXISTING_CHILD_COUNT_INT_KEY, childCount);
-        bundle.putString(EXISTING_CHILD_TYPE_STR_KEY, typeStr);
+        Log.i(TAG, "initializeQuestion: mQuestionTextView: " + mQuestionTextView.getText());
 
-        //Returning the Bundle
-        return bundle;
     }
 
     /**
-     * Method that sets the Option Text and other CompoundButton Button related properties
-     *
-     * @param buttonView is either a RadioButton (or) CheckBox
-     * @param optionStr  is the Text to be shown on the button
+     * Method that initializes the Options available for the current Question.
+     * This shows the components (Checkboxes, RadioButtons, EditText) recycled by the {@link OptionViewRecycler}
+     * in the layout "option_container_area_id" based on the number of Options
+     * and Keys available for the Question, in the order picked by the {@link QuizSession}.
      */
-    private void setOptionButtonProperties(CompoundButton buttonView, String optionStr) {
-        //Setting the option value
-        buttonView.setText(optionStr);
+    private void initializeOptions() {
 
-        //Setting the Text Color
-        buttonView.setTextColor(Color.BLACK);
+        //Retrieving the Options Array
+        String[] optionArray = mSession.getCurrentQuestion().getOptions();
 
-        //Setting Text Gravity
-        buttonView.setGravity(Gravity.CENTER);
+        if (!mSession.isTextualQuestion()) {
+            //When the Number of Options are more than 1 (else it is a text based question)
 
-        //Initializing the Level List Drawable used for the Option background with Level as 0
-        LevelListDrawable optionLevelListDrawable = (LevelListDrawable) ContextCompat.getDrawable(this, R.drawable.option_level_list);
-        optionLevelListDrawable.setLevel(0);
-        buttonView.setBackground(optionLevelListDrawable);
+            //Resetting the component of the textual question
+            mTextOptionView = null;
+
+            //Showing the Options on the recycled CheckBox views when the Answer Keys are more than 1,
+            //else on the recycled RadioButton views
+            mOptionViewRecycler.bindButtonOptions(mSession.getNoOfKeys() > 1, optionArray, mSession.getOptionIndexOrder());
+
+        } else {
+            //When the Number of Options are equal to 1, it is a text based question
 
-        //Setting the Text Typeface
-        buttonView.setTypeface(Typeface.create("sans-serif", Typeface.NORMAL));
+            //Retrieving the hint text from the option
+            String hintTextStr = optionArray[0];
+
+            //Showing the hint text on the recycled EditText view
+            mTextOptionView = mOptionViewRecycler.bindTextOption(hintTextStr, null);
+        }
 
-        //Setting the TextSize
-        buttonView.setTextSize(TypedValue.COMPLEX_UNIT_PX, getResources().getDimensionPixelSize(R.dimen.question_option_text_size));
     }
 
     /**
      * Method that initializes the Answer Hints for the current Question
      */
     private void initializeHints() {
-        Log.i(TAG, "initializeHints: QuestionIndex: " + mCurrentQuestionIndex);
+        Log.i(TAG, "initializeHints: QuestionIndex: " + mSession.getCurrentQuestionIndex());
 
-        //Retrieving the Answer Hints Array
-        mHintArray = getStringArrayResourceByName("hint", mCurrentQuestionIndex);
+        //Retrieving the path of the Hint Image
+        String hintImagePathStr = mSession.getCurrentQuestion().getHints()[0];
 
-        Log.i(TAG, "initializeHints: CurrentHintImage: " + mHintArray[0]);
+        Log.i(TAG, "initializeHints: CurrentHintImage: " + hintImagePathStr);
 
-        //Resetting the Bitmap to null
-        mDownloadedBitmap = null;
+        //Releasing the Hint image of the previous question, detaching it from the view
+        //before its memory is reused
+        mHintImageView.setImageResource(R.drawable.hidden_image);
+        mSession.setHintImage(null);
 
         //Loading the Hint image: START
-        if (mPrefetchedBitmap != null) {
-            //When the image is already prefetched during the last question
-            mDownloadedBitmap = mPrefetchedBitmap;
-            //Copying the Future Task Fragment to the Current Task Fragment
-            mCurrentBitmapTaskFragment.copy(mFutureBitmapTaskFragment);
-
-        } else {
-            //When the image is not prefetched, the image will be downloaded for the current question
+        if (!mSession.takePrefetchedImage()) {
+            //When the image is not prefetched, the image will be downloaded for the current question.
+            //Else, the image prefetched during the last question is handed over to the current question
 
-            if (mHintArray[0].startsWith("res")) {
+            if (hintImagePathStr.startsWith("res")) {
                 //When the path starts as "res", then the image is located under res directory
-
-                int startIndex = mHintArray[0].lastIndexOf("/");
-                int endIndex = mHintArray[0].lastIndexOf(".");
-                int imageResourceId = getResources().getIdentifier(mHintArray[0].substring(startIndex + 1, endIndex), "drawable", getPackageName());
-                mDownloadedBitmap = BitmapFactory.decodeResource(getResources(), imageResourceId);
+                loadLocalHintImage(hintImagePathStr);
 
                 Log.i(TAG, "initializeHints: CurrentHintImage downloaded from local");
 
                 //Dismiss Progress dialog if active
                 dismissProgressDialog();
 
-            } else if (mHintArray[0].startsWith("http")) {
+            } else if (hintImagePathStr.startsWith("http")) {
                 //When the path starts as "http", then the image is located in URL
-                if (mHintArray[0].contains("%%")) {
-                    //Correcting the URL retrieved from resource if it contains "%%"
-                    mCurrentBitmapTaskFragment.executeCurrentTask(mCurrentQuestionIndex, mHintArray[0].replace("%%", "%"));
-                } else {
-                    mCurrentBitmapTaskFragment.executeCurrentTask(mCurrentQuestionIndex, mHintArray[0]);
-                }
+                //Correcting the URL retrieved from resource if it contains "%%"
+                mSession.getCurrentImageDownloadTask().executeTask(mSession.getCurrentQuestionIndex(), hintImagePathStr.replace("%%", "%"), true);
             }
         }
         //Loading the Hint image: END
 
     }
 
+    /**
+     * Method that sets the size and the config to which the hint images are decoded, from the size of the
+     * hint image view. The size is estimated from the screen till the view is laid out,
+     * and updated whenever the view is resized.
+     */
+    private void initializeHintImageTargetSize() {
+        //Setting the decode config of the hint images
+        HintImageDecoder.setPreferHardwareBitmaps(getResources().getBoolean(R.bool.hint_image_hardware_bitmaps));
+
+        final int densityDpi = getResources().getDisplayMetrics().densityDpi;
+
+        //Estimating the size from the width of the screen and the height of the view
+        HintImageDecoder.setTargetSize(
+                getResources().getDisplayMetrics().widthPixels - mHintImageView.getPaddingLeft() - mHintImageView.getPaddingRight(),
+                getResources().getDimensionPixelSize(R.dimen.quiz_hint_image_height) - mHintImageView.getPaddingTop() - mHintImageView.getPaddingBottom(),
+                densityDpi
+        );
+
+        //Updating the size with the actual size of the view when laid out
+        mHintImageView.addOnLayoutChangeListener(new View.OnLayoutChangeListener() {
+            @Override
+            public void onLayoutChange(View view, int left, int top, int right, int bottom,
+                                       int oldLeft, int oldTop, int oldRight, int oldBottom) {
+                if ((right - left) != (oldRight - oldLeft) || (bottom - top) != (oldBottom - oldTop)) {
+                    HintImageDecoder.setTargetSize(
+                            view.getWidth() - view.getPaddingLeft() - view.getPaddingRight(),
+                            view.getHeight() - view.getPaddingTop() - view.getPaddingBottom(),
+                            densityDpi
+                    );
+                }
+            }
+        });
+    }
+
+    /**
+     * Method that decodes the Hint Image located under the res directory, into the Hint image
+     * of the session. The Image is returned to the {@link BitmapPool} when the session releases it,
+     * for decoding the next Hint Images into its memory.
+     *
+     * @param imagePathStr is the path of the Hint Image starting as "res"
+     */
+    private void loadLocalHintImage(String imagePathStr) {
+        int startIndex = imagePathStr.lastIndexOf("/");
+        int endIndex = imagePathStr.lastIndexOf(".");
+        int imageResourceId = getResources().getIdentifier(imagePathStr.substring(startIndex + 1, endIndex), "drawable", getPackageName());
+
+        HintImageHandle localImageHandle = HintImageHandle.wrapLocalImage(HintImageDecoder.decodeResource(getResources(), imageResourceId));
+        mSession.setHintImage(localImageHandle);
+        if (localImageHandle != null) {
+            //Releasing the reference of the wrap, as the session holds it
+            localImageHandle.release();
+        }
+    }
+
     /**
      * Method that loads the hint image for the next question in advance for faster loading
+     *
+     * @param futureQuestion is the {@link Question} retrieved for the next question
      */
-    private void prefetchNextHintImage() {
+    private void prefetchNextHintImage(Question futureQuestion) {
 
         //Getting the next question index
-        mFutureQuestionIndex = Integer.parseInt(mQuestionIndexOrderArray[mCurrentQuestionNo]);
+        int futureQuestionIndex = futureQuestion.getQuestionIndex();
 
-        Log.i(TAG, "prefetchNextHintImage: NextQuestionIndex: " + mFutureQuestionIndex);
+        Log.i(TAG, "prefetchNextHintImage: NextQuestionIndex: " + futureQuestionIndex);
 
         //Retrieving the Answer Hints Array
-        String[] hintArray = getStringArrayResourceByName("hint", mFutureQuestionIndex);
+        String[] hintArray = futureQuestion.getHints();
 
         Log.i(TAG, "prefetchNextHintImage: NextHintImage: " + hintArray[0]);
 
-        //Resetting the Prefetched Bitmap to null
-        mPrefetchedBitmap = null;
-
         //Loading the Hint image of the next question: START
         if (hintArray[0].startsWith("http")) {
             //When the path starts as "http", then the image is located in URL
-            if (hintArray[0].contains("%%")) {
-                //Correcting the URL retrieved from resource if it contains "%%"
-                mFutureBitmapTaskFragment.executeFutureTask(mFutureQuestionIndex, hintArray[0].replace("%%", "%"));
-            } else {
-                mFutureBitmapTaskFragment.executeFutureTask(mFutureQuestionIndex, hintArray[0]);
-            }
+            //Correcting the URL retrieved from resource if it contains "%%"
+            mSession.getFutureImageDownloadTask().executeTask(futureQuestionIndex, hintArray[0].replace("%%", "%"), false);
         }
         //Loading the Hint image of the next question: END
 
     }
 
     /**
-     * Method that returns the String array retrieved from the array resource
-     * through the identifier name generated using the lookup string
-     * and the question index passed
+     * Callback Method of {@link HintImagePrefetcher}
+     * invoked when the Hint Image URL of an upcoming question is required for prefetching.
      *
-     * @param lookupStr     is the String that identifies the kind of the array.
-     *                      Possible values are "option", "key", "hint"
-     * @param questionIndex is the question index to be looked up in the list of questions loaded
-     * @return String array of the identified resource
+     * @param questionIndex is the Integer identifier of the Question
+     * @return String containing the Image URL; empty when the Hint Image is not downloaded from a URL,
+     * and null when the Question is yet to be loaded in the background
      */
-    private String[] getStringArrayResourceByName(String lookupStr, int questionIndex) {
+    @Override
+    public String getHintImageURL(int questionIndex) {
+        //Retrieving the question only when already loaded, as the main thread does not load it
+        Question question = mQuestionRepository.getCachedQuestion(questionIndex);
+        if (question == null) {
+            return null;
+        }
+
+        //Retrieving the Answer Hints Array
+        String[] hintArray = question.getHints();
 
-        //Preparing the identifier string to lookup
-        String identifierStr = lookupStr + "_" + (questionIndex + 1) + "_array";
-        //Retrieving the resource id
-        int identifier = getResources().getIdentifier(identifierStr, "array", getPackageName());
+        if (hintArray[0].startsWith("http")) {
+            //Correcting the URL retrieved from resource if it contains "%%"
+            return hintArray[0].replace("%%", "%");
+        }
 
-        return getResources().getStringArray(identifier); //Returning the array retrieved
+        //Returning empty for the images located under res directory
+        return "";
     }
 
     /**
@@ -1995,49 +912,20 @@ public class QuizActivity extends AppCompatActivity
     }
 
     /**
-     * Method that adds the selected answer to the ArrayList {@link .mSelectedAnswerList}
-     * and the corresponding option index to the String {@link .mSelectedKeysOrderStr}
+     * Method that marks the option selected in the {@link QuizSession}
      *
      * @param buttonView  The compound button view whose state has changed.
      * @param optionIndex is the index of the option button being selected
      */
     private void addSelectedAnswer(CompoundButton buttonView, int optionIndex) {
 
-        int noOfKeys = mCorrectAnswerList.size(); //Number of Answer Keys
-
-        //Retrieving the selected answer
-        String selectedAnswerText = buttonView.getText().toString();
-
-        //Adding the selected answer to the list: START
-        if (noOfKeys == 1) {
-            //Clearing the list every time when the question is RadioButton based
-            mSelectedAnswerList.clear();
-            //Managing the RadioButton selections manually
+        if (mSession.getNoOfKeys() == 1) {
+            //Managing the RadioButton selections manually when the question is RadioButton based
             manageVirtualRadioGroup((RadioButton) buttonView);
         }
 
-        if (!mSelectedAnswerList.contains(selectedAnswerText)) {
-            //Avoiding duplicates
-            mSelectedAnswerList.add(selectedAnswerText);
-        }
-        //Adding the selected answer to the list: END
-
-        //Rebuilding the selected options order: START
-        if (noOfKeys == 1) {
-            //When the question is RadioButton based
-            mSelectedIndexOrderStr = String.valueOf(optionIndex);
-        } else if (noOfKeys > 1) {
-            //When the question is CheckBox based
-            if (mSelectedIndexOrderStr.trim().length() > 0) {
-                //When multiple options were previously selected
-                mSelectedIndexOrderStr = mSelectedIndexOrderStr + ";" + optionIndex;
-            } else {
-                //When NO option was previously selected
-                mSelectedIndexOrderStr = String.valueOf(optionIndex);
-            }
-
-        }
-        //Rebuilding the selected options order: END
+        //Updating the selected options
+        mSession.selectOption(optionIndex);
 
         //Changing the drawable for the selection done
         LevelListDrawable optionLevelListDrawable = (LevelListDrawable) buttonView.getBackground();
@@ -2045,43 +933,15 @@ public class QuizActivity extends AppCompatActivity
     }
 
     /**
-     * Method that removes the selected answer from the ArrayList {@link .mSelectedAnswerList}
-     * and the corresponding option index from the String {@link .mSelectedKeysOrderStr}
+     * Method that marks the option deselected in the {@link QuizSession}
      *
      * @param buttonView  The compound button view whose state has changed.
      * @param optionIndex is the index of the option button being deselected
      */
     private void removeSelectedAnswer(CompoundButton buttonView, int optionIndex) {
 
-        int noOfKeys = mCorrectAnswerList.size(); //Number of Answer Keys
-
-        //Retrieving the un-selected answer
-        String unSelectedAnswerText = buttonView.getText().toString();
-
-        //Removing the unselected answer from the list
-        mSelectedAnswerList.remove(unSelectedAnswerText);
-
-        //Rebuilding the selected options order: START
-        if (noOfKeys > 1) {
-            //Updating only when the question is CheckBox based
-            String optionIndexStr = String.valueOf(optionIndex);
-
-            if (mSelectedIndexOrderStr.contains(";")) {
-                //When multiple options were previously selected
-
-                if (mSelectedIndexOrderStr.endsWith(optionIndexStr)) {
-                    mSelectedIndexOrderStr = mSelectedIndexOrderStr.replace(";" + optionIndexStr, "");
-                } else {
-                    mSelectedIndexOrderStr = mSelectedIndexOrderStr.replace(optionIndexStr + ";", "");
-                }
-
-            } else {
-                //When only one option was previously selected
-                mSelectedIndexOrderStr = "";
-            }
-
-        }
-        //Rebuilding the selected options order: END
+        //Updating the selected options
+        mSession.deselectOption(optionIndex);
 
         //Resetting the drawable for the deselection done
         LevelListDrawable optionLevelListDrawable = (LevelListDrawable) buttonView.getBackground();
@@ -2150,9 +1010,6 @@ public class QuizActivity extends AppCompatActivity
         //disabling the button for "Show Hint"
         mShowHintButtonView.setEnabled(false);
 
-        //updating the state of hint button to False
-        mHintButtonState = false;
-
     }
 
     /**
@@ -2166,9 +1023,6 @@ public class QuizActivity extends AppCompatActivity
         //enabling the button for "Show Hint"
         mShowHintButtonView.setEnabled(true);
 
-        //updating the state of hint button to True
-        mHintButtonState = true;
-
         //Resetting the text shown in the Hint Text view
         mHintTextView.setText("");
     }
@@ -2181,6 +1035,11 @@ public class QuizActivity extends AppCompatActivity
     @Override
     public void onClick(View v) {
 
+        if (mSession.getCurrentQuestion() == null) {
+            //Ignoring the clicks till the question is loaded in the background
+            return;
+        }
+
         switch (v.getId()) {
             case R.id.submit_button_id:
                 onSubmitButtonClicked();
@@ -2196,75 +1055,56 @@ public class QuizActivity extends AppCompatActivity
     }
 
     /**
-     * Method invoked when Submit/Next button (R.id.submit_button_id) is pressed
+     * Method that checks whether all the questions of the quiz are answered,
+     * that is, when the Submit button is in Finish mode
+     *
+     * @return True when the last question is answered; false otherwise
      */
-    private void onSubmitButtonClicked() {
-
-        //Retrieving the text on Submit Button
-        String buttonText = mSubmitButtonView.getText().toString();
+    private boolean isQuizCompleted() {
+        return mSession.isQuestionAnswered() && !mSession.hasNextQuestion();
+    }
 
-        int noOfSelectedAnswers = mSelectedAnswerList.size();
+    /**
+     * Method invoked when Submit/Next button (R.id.submit_button_id) is pressed,
+     * which submits the answer when the question is yet to be answered, and moves on to the Next question
+     * or Finishes the quiz when the question is answered
+     */
+    private void onSubmitButtonClicked() {
 
-        if (noOfSelectedAnswers == 0 && !mIsTextualQuestion) {
+        if (!mSession.hasSelectedOptions() && !mSession.isTextualQuestion()) {
             //Show a Toast message when no options are selected
             Toast.makeText(this, R.string.no_option_selected, Toast.LENGTH_SHORT).show();
         } else {
             //When one/many of the options are selected
 
-            if (buttonText.equals(getString(R.string.submit_button_text))) {
+            if (!mSession.isQuestionAnswered()) {
                 //When the button is in Submit mode
 
-                int noOfKeys = mCorrectAnswerList.size();
-
-                //used to see if the selected answers are incorrect(0)/correct(1)/partially correct(0<x<1)
-                double grade = 0;
-
-                //Evaluating the Answers selected: START
-                if (noOfKeys == 1) {
-                    //When the options are RadioButton based or a textual question
-
-                    if (!mIsTextualQuestion && mCorrectAnswerList.equals(mSelectedAnswerList)) {
-                        //For RadioButton based
-                        grade++;
-                    } else if (mIsTextualQuestion) {
-                        //For textual question
-                        String correctAnswerStr = mCorrectAnswerList.get(0);
-                        mTextualUserInputStr = mTextOptionView.getText().toString().trim();
-                        if (mTextualUserInputStr.equalsIgnoreCase(correctAnswerStr)) {
-                            grade++;
-                        }
-                    }
-
-                } else if (noOfKeys > 1) {
-                    //When the options are CheckBox based
-
-                    for (String selectedAnswerStr : mSelectedAnswerList) {
-
-                        if (mCorrectAnswerList.contains(selectedAnswerStr)) {
-                            grade++;
-                        }
-
-                    }
-
-                    //Normalizing with the number of keys
-                    grade /= (noOfKeys > noOfSelectedAnswers ? noOfKeys : noOfSelectedAnswers);
+                //Retrieving whether the hint button was enabled by a previous attempt
+                boolean isHintEnabled = mSession.isHintEnabled();
 
+                if (mSession.isTextualQuestion()) {
+                    //Updating the session with the text entered for the textual question
+                    mSession.setTextualUserInput(mTextOptionView.getText().toString().trim());
                 }
-                //Evaluating the Answers selected: END
 
-                if (!mHintButtonState) {
+                //Evaluating the Answers selected, which updates the score and the state of the question:
+                //used to see if the selected answers are incorrect(0)/correct(1)/partially correct(0<x<1)
+                double grade = mSession.submitAnswer();
+
+                if (!isHintEnabled) {
                     //When the hint button is not yet enabled
 
                     if (grade == 1) {
                         //When the selected answers are correct
 
                         //Highlighting the correct answers for non textual based question
-                        if (!mIsTextualQuestion) {
+                        if (!mSession.isTextualQuestion()) {
                             revealAnswers();
                         }
 
                         //Updating the Score
-                        advanceUserScore();
+                        updateUserScoreText();
 
                         //Displaying a Toast message to congratulate
                         Toast.makeText(this, R.string.correct_answer, Toast.LENGTH_SHORT).show();
@@ -2275,20 +1115,14 @@ public class QuizActivity extends AppCompatActivity
                         //Scrolling to Image to reveal the bird(s)
                         scrollToView(mHintImageView);
 
-                        if (mCurrentQuestionNo < mNoOfQuestionsToLoad) {
-                            //Changing the Submit button Text to "Next" when there are more questions
-                            mSubmitButtonView.setText(R.string.next_button_text);
-                        } else {
-                            //Changing the Submit button Text to "Finish" when all questions are done
-                            mSubmitButtonView.setText(R.string.finish_button_text);
-                        }
+                        //Changing the Submit button Text to "Next"/"Finish"
+                        updateSubmitButtonForNextQuestion();
+
+                        //Recording the question answered in the Journal
+                        mSessionJournal.recordAnswer(mSession.getCurrentQuestionNo(), mSession.getUserScore(), mSession.getRemainingTimeInMillis());
 
                         //Disabling the Option Buttons/EditText
-                        if (mIsTextualQuestion) {
-                            mTextOptionView.setEnabled(false);
-                        } else {
-                            disableOptions();
-                        }
+                        disableOptions();
 
                     } else if (grade >= 0 && grade < 1) {
                         //When the selected answers are incorrect/or partially correct
@@ -2315,7 +1149,7 @@ public class QuizActivity extends AppCompatActivity
                         //When the selected answers are correct
 
                         //Updating the Score
-                        advanceUserScore();
+                        updateUserScoreText();
 
                         //Displaying a Toast message to congratulate
                         Toast.makeText(this, R.string.correct_answer, Toast.LENGTH_SHORT).show();
@@ -2335,7 +1169,7 @@ public class QuizActivity extends AppCompatActivity
                     }
 
                     //Highlighting the correct answers
-                    if (!mIsTextualQuestion || grade < 1) {
+                    if (!mSession.isTextualQuestion() || grade < 1) {
                         //Revealing for textual based question only when the answer is incorrect
                         revealAnswers();
                     }
@@ -2343,52 +1177,40 @@ public class QuizActivity extends AppCompatActivity
                     //Revealing the Hint image
                     revealHintImage();
 
-                    if (!mHintButtonPressed && !mIsTextualQuestion) {
+                    if (!mSession.isHintButtonPressed() && !mSession.isTextualQuestion()) {
                         //Scrolling to Image to reveal the bird(s) when the hint button was not used
                         scrollToView(mHintImageView);
                     }
 
-                    if (mCurrentQuestionNo < mNoOfQuestionsToLoad) {
-                        //Changing the Submit button Text to "Next" when there are more questions
-                        mSubmitButtonView.setText(R.string.next_button_text);
-                    } else {
-                        //Changing the Submit button Text to "Finish" when all questions are done
-                        mSubmitButtonView.setText(R.string.finish_button_text);
-                    }
+                    //Changing the Submit button Text to "Next"/"Finish"
+                    updateSubmitButtonForNextQuestion();
+
+                    //Recording the question answered in the Journal
+                    mSessionJournal.recordAnswer(mSession.getCurrentQuestionNo(), mSession.getUserScore(), mSession.getRemainingTimeInMillis());
 
                     //Disabling the Option Buttons/EditText
-                    if (mIsTextualQuestion) {
-                        mTextOptionView.setEnabled(false);
-                    } else {
-                        disableOptions();
-                    }
+                    disableOptions();
 
                 }
 
-            } else if (buttonText.equals(getString(R.string.next_button_text))) {
+            } else if (mSession.hasNextQuestion()) {
                 //When the button is in Next Question mode
 
-                //Reverting the Button text to "Submit"
-                mSubmitButtonView.setText(R.string.submit_button_text);
-
-                //Canceling the download task of the current question if not completed
-                mCurrentBitmapTaskFragment.cancelTaskInProgress(mCurrentQuestionIndex);
-
-                //Canceling the download task of the next question if not completed
-                mFutureBitmapTaskFragment.cancelTaskInProgress(mFutureQuestionIndex);
+                //Canceling the download tasks of the current and the next question if not completed
+                mSession.cancelDownloadsInProgress();
 
                 //Scrolling over to the Question View
                 scrollToView(mQuestionTextView);
 
                 //Loading the Next Question and reinitializing the screen components
-                Log.i(TAG, "onto Next Question: " + mCurrentQuestionNo);
+                Log.i(TAG, "onto Next Question: " + mSession.getCurrentQuestionNo());
                 loadNextQuestion();
 
-            } else if (buttonText.equals(getString(R.string.finish_button_text))) {
+            } else {
                 //When the button is in Finish mode
 
                 //Canceling the CountDownTimer in the end
-                mCountDownLatchFragment.cancelTimer();
+                mSession.pauseTimer();
 
                 //Ending the quiz as all the questions are completed
                 showScoreSummary(false);
@@ -2398,23 +1220,28 @@ public class QuizActivity extends AppCompatActivity
 
     }
 
+    /**
+     * Method that changes the Submit button Text to "Next" when there are more questions,
+     * or to "Finish" when all questions are done
+     */
+    private void updateSubmitButtonForNextQuestion() {
+        if (mSession.hasNextQuestion()) {
+            mSubmitButtonView.setText(R.string.next_button_text);
+        } else {
+            mSubmitButtonView.setText(R.string.finish_button_text);
+        }
+    }
+
     /**
      * Method invoked when "Show Hint" button (R.id.show_hint_button_id) is pressed
      */
     private void onShowHintButtonClicked() {
 
-        if (!mHintButtonPressed) {
+        if (mSession.markHintButtonPressed()) {
             //Restricting call to only for the first time for each question, when button gets enabled
 
-            //Setting the Hint button pressed flag to true
-            mHintButtonPressed = true;
-
             //Setting the Hint text in the view "R.id.hint_text_box_id"
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
-                mHintTextView.setText(Html.fromHtml(mHintArray[1], Html.FROM_HTML_MODE_LEGACY));
-            } else {
-                mHintTextView.setText(Html.fromHtml(mHintArray[1]));
-            }
+            showHintText();
 
             //Revealing the Hint image
             revealHintImage();
@@ -2428,32 +1255,42 @@ public class QuizActivity extends AppCompatActivity
 
     }
 
+    /**
+     * Method that sets the Hint text of the current question in the view "R.id.hint_text_box_id"
+     */
+    private void showHintText() {
+        String hintTextStr = mSession.getCurrentQuestion().getHints()[1];
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            mHintTextView.setText(Html.fromHtml(hintTextStr, Html.FROM_HTML_MODE_LEGACY));
+        } else {
+            mHintTextView.setText(Html.fromHtml(hintTextStr));
+        }
+    }
+
     /**
      * Method that reveals the Hint Image if available
      */
     private void revealHintImage() {
         //Setting the Hint Image if present
-        if (mDownloadedBitmap != null) {
+        if (mSession.hasHintImage()) {
             //When the image is downloaded successfully
-            mHintImageView.setImageBitmap(mDownloadedBitmap);
+            mHintImageView.setImageBitmap(mSession.getHintBitmap());
 
-        } else if (!mHintButtonPressed) {
+        } else if (!mSession.isHintButtonPressed()) {
             //When Hint button is not yet pressed,
             //this will be called when user selects the correct answer without any hint
 
-            //Clearing the future download task if any to download the current image faster
-            mFutureBitmapTaskFragment.cancelTaskInProgress(mFutureQuestionIndex);
-
-            if (mCurrentBitmapTaskFragment.getDownloadTaskState(mCurrentQuestionIndex)
-                    .equals(ImageDownloaderTaskFragment.TaskState.TASK_STATE_STARTED.toString())) {
+            if (mSession.getCurrentImageDownloadTask().getDownloadTaskState(mSession.getCurrentQuestionIndex())
+                    .equals(ImageDownloadTask.TaskState.TASK_STATE_STARTED.toString())) {
                 //Attempting for download only if the Current Task is still in STARTED state
 
                 //Attempting to load the current image being downloaded within a timeout of 150 millis
-                Bitmap bitmap = mCurrentBitmapTaskFragment.getImageOnDemand(mCurrentQuestionIndex, 150);
+                HintImageHandle imageHandle = mSession.getCurrentImageDownloadTask().getImageOnDemand(mSession.getCurrentQuestionIndex(), 150);
 
-                if (bitmap != null) {
-                    //Showing the image if downloaded successfully
-                    mHintImageView.setImageBitmap(bitmap);
+                if (imageHandle != null) {
+                    //Showing the image if downloaded successfully, held by the session while shown
+                    mSession.setHintImage(imageHandle);
+                    mHintImageView.setImageBitmap(mSession.getHintBitmap());
                 } else {
                     //Showing a Toast message on failure to download the image
                     Toast.makeText(this, getString(R.string.on_demand_download_fail_toast_text), Toast.LENGTH_SHORT).show();
@@ -2466,11 +1303,8 @@ public class QuizActivity extends AppCompatActivity
 
         } else {
 
-            //Clearing the future download task if any to download the current image faster
-            mFutureBitmapTaskFragment.cancelTaskInProgress(mFutureQuestionIndex);
-
-            if (mCurrentBitmapTaskFragment.getDownloadTaskState(mCurrentQuestionIndex)
-                    .equals(ImageDownloaderTaskFragment.TaskState.TASK_STATE_STARTED.toString())) {
+            if (mSession.getCurrentImageDownloadTask().getDownloadTaskState(mSession.getCurrentQuestionIndex())
+                    .equals(ImageDownloadTask.TaskState.TASK_STATE_STARTED.toString())) {
 
                 //Show Progress Dialog when Hint button is pressed and image is not yet downloaded
                 showProgressDialog(R.string.progress_dialog_downloading_text);
@@ -2517,78 +1351,71 @@ public class QuizActivity extends AppCompatActivity
     }
 
     /**
-     * Callback Method of {@link ImageDownloaderTaskFragment}
-     * invoked when the {@code ImageDownloaderTask} of {@link ImageDownloaderTaskFragment} is starting to download the image.
-     * Method evaluates the Network Connectivity prior to downloading the image
+     * Callback Method of {@link ImageDownloadTask} and {@link HintImagePrefetcher}
+     * invoked when the {@link ImageDownloadTask} is starting to download the image,
+     * or when the {@link HintImagePrefetcher} is prefetching the images.
+     * Method evaluates the Network Connectivity prior to downloading the image, without blocking
      *
      * @return True when the Network Connectivity is established; false otherwise
      */
     @Override
     public boolean isNetworkConnected() {
-        ConnectivityManager connectivityManager = (ConnectivityManager) getSystemService(CONNECTIVITY_SERVICE);
-        //Retrieving current active default data network
-        NetworkInfo activeNetworkInfo = connectivityManager.getActiveNetworkInfo();
-        boolean isNetworkConnected = (activeNetworkInfo != null & activeNetworkInfo.isConnected());
-
-        //Cross Verifying with Google DNS: START
-        Runtime runtime = Runtime.getRuntime();
-        try {
-            Process process = runtime.exec("/system/bin/ping -c 1 8.8.8.8");
-            int exitValue = process.waitFor();
-            isNetworkConnected = isNetworkConnected && (exitValue == 0);
-        } catch (IOException e) {
-            Log.e(TAG, "isNetworkConnected: IOException: ", e);
-            isNetworkConnected = false;
-        } catch (InterruptedException e) {
-            Log.e(TAG, "isNetworkConnected: InterruptedException: ", e);
-            isNetworkConnected = false;
-        }
-        //Cross Verifying with Google DNS: END
+        //Returning the last known state of the Internet Connectivity, monitored in the background.
+        //The User is notified of a bad network only when the image is not present in the Disk Cache
+        return ConnectivityMonitor.getInstance(this).isNetworkConnected();
+    }
 
-        if (!isNetworkConnected) {
-            Toast.makeText(this, getString(R.string.bad_network_toast_text), Toast.LENGTH_LONG).show();
+    /**
+     * Callback Method of {@link ConnectivityMonitor}
+     * invoked when the Internet is reachable again after it was lost. The hint images
+     * of the upcoming questions, which were only read from the Disk Cache meanwhile,
+     * are prefetched again over the network.
+     */
+    @Override
+    public void onNetworkConnected() {
+        if (mSession.getCurrentQuestion() != null) {
+            //Resuming the prefetch of the hint images of the upcoming questions when a question is shown
+            mSession.getHintImagePrefetcher().prefetch(mSession.getCurrentQuestionNo(), this);
         }
-
-        //Returning the state of Internet Connectivity
-        return isNetworkConnected;
     }
 
     /**
-     * Callback Method of {@link ImageDownloaderTaskFragment}
-     * invoked when the {@code ImageDownloaderTask} of {@link ImageDownloaderTaskFragment} has successfully downloaded the image.
-     * This method is used to save the Image downloaded, to a Bitmap variable.
+     * Callback Method of {@link ImageDownloadTask}
+     * invoked when the {@link ImageDownloadTask} has successfully downloaded the image.
+     * This method is used to save the Image downloaded, by retaining its handle in the session.
      *
-     * @param bitmap        is the Bitmap image that was downloaded
+     * @param imageHandle   is the {@link HintImageHandle} of the image that was downloaded
      * @param questionIndex is the Integer identifier of the Question for which the
      *                      image was downloaded
      */
     @Override
-    public void onDownloadFinish(Bitmap bitmap, int questionIndex) {
+    public void onDownloadFinish(HintImageHandle imageHandle, int questionIndex) {
 
-        if (questionIndex == mCurrentQuestionIndex) {
+        if (questionIndex == mSession.getCurrentQuestionIndex()) {
             //When the call was made for the current question
 
-            mDownloadedBitmap = bitmap;
+            mSession.setHintImage(imageHandle);
 
-            if (mHintButtonPressed) {
-                //If the hint button is already pressed, then reveal the image
+            if (mSession.isHintButtonPressed() || mSession.isQuestionAnswered()) {
+                //If the hint button is already pressed, or the question is already answered
+                //when the download was started again after the process was killed, then reveal the image
                 revealHintImage();
             }
 
             //Dismiss Progress dialog if active
             dismissProgressDialog();
 
-        } else if (questionIndex == mFutureQuestionIndex) {
+        } else if (questionIndex == mSession.getFutureQuestionIndex()) {
             //When the call was made for the next question
 
-            mPrefetchedBitmap = bitmap;
+            mSession.setPrefetchedImage(imageHandle);
         }
 
     }
 
     /**
-     * Callback Method of {@link ImageDownloaderTaskFragment}
-     * invoked when the {@code ImageDownloaderTask} of {@link ImageDownloaderTaskFragment} has failed to download the image due
+     * Callback Method of {@link ImageDownloadTask}
+     * invoked when the {@link ImageDownloadTask} has failed to download the image due
      * to some intermittent issues. This method is used to log the failure
      * and to set the local bitmap variable to null.
      *
@@ -2600,23 +1427,28 @@ public class QuizActivity extends AppCompatActivity
     public void onDownloadError(String imageURLStr, int questionIndex) {
         Log.e(TAG, "Failed to download the image - \n" + imageURLStr);
 
-        if (questionIndex == mCurrentQuestionIndex) {
+        if (!ConnectivityMonitor.getInstance(this).isNetworkConnected()) {
+            //Notifying the bad network, as the image was not present in the Disk Cache
+            Toast.makeText(this, getString(R.string.bad_network_toast_text), Toast.LENGTH_LONG).show();
+        }
+
+        if (questionIndex == mSession.getCurrentQuestionIndex()) {
             //When the call was made for the current question
-            mDownloadedBitmap = null;
+            mSession.setHintImage(null);
 
             //Dismiss Progress dialog if active
             dismissProgressDialog();
 
-        } else if (questionIndex == mFutureQuestionIndex) {
+        } else if (questionIndex == mSession.getFutureQuestionIndex()) {
             //When the call was made for the next question
-            mPrefetchedBitmap = null;
+            mSession.setPrefetchedImage(null);
         }
 
     }
 
     /**
-     * Callback Method of {@link ImageDownloaderTaskFragment}
-     * invoked when the {@code ImageDownloaderTask} of {@link ImageDownloaderTaskFragment} is publishing
+     * Callback Method of {@link ImageDownloadTask}
+     * invoked when the {@link ImageDownloadTask} is publishing
      * the Current download task progress to the main thread
      *
      * @param primaryProgress   is the Integer value of the Primary Progress
@@ -2632,11 +1464,10 @@ public class QuizActivity extends AppCompatActivity
     }
 
     /**
-     * Method that increments the User score
+     * Method that updates the header text with the current score of the User
      */
-    private void advanceUserScore() {
-        //Updating the score
-        mTotalScoreTextView.setText((getUserScore() + 1) + "/" + mNoOfQuestionsToLoad);
+    private void updateUserScoreText() {
+        mTotalScoreTextView.setText(mSession.getUserScore() + "/" + mSession.getNoOfQuestionsToLoad());
     }
 
     /**
@@ -2644,13 +1475,12 @@ public class QuizActivity extends AppCompatActivity
      */
     private void revealAnswers() {
 
-        int noOfKeys = mCorrectAnswerList.size();
-        int noOfOptions = mOptionArray.length;
-
-        if (noOfOptions > 1) {
+        if (!mSession.isTextualQuestion()) {
             //When the Options are present (else it is a text based question)
 
-            String[] optionOrderArray = mOptionIndexOrderStr.split(";");
+            int noOfKeys = mSession.getNoOfKeys();
+            int noOfOptions = mSession.getCurrentQuestion().getOptions().length;
+            int[] optionIndexOrder = mSession.getOptionIndexOrder();
 
             //To keep track on the count of options being highlighted
             int countOfAnswersRevealed = 0;
@@ -2658,32 +1488,11 @@ public class QuizActivity extends AppCompatActivity
             for (int i = 0; i < noOfOptions; i++) {
                 //Iterating over the options
 
-                //Declaring a CompoundButton view
-                CompoundButton compoundButtonView = null;
-
-                //Retrieving the current index option value
-                int optionIndex = Integer.parseInt(optionOrderArray[i]);
-                //Retrieving the corresponding text
-                String optionStr = mOptionArray[optionIndex];
-
-                if (mCorrectAnswerList.contains(optionStr)) {
-                    //When the optionStr is the correct answer in the list
+                if (mSession.isKeyOption(optionIndexOrder[i])) {
+                    //When the option is the correct answer
 
                     //Retrieving the corresponding button view
-                    switch (i) {
-                        case 0:
-                            compoundButtonView = findViewById(R.id.first_option);
-                            break;
-                        case 1:
-                            compoundButtonView = findViewById(R.id.second_option);
-                            break;
-                        case 2:
-                            compoundButtonView = findViewById(R.id.third_option);
-                            break;
-                        case 3:
-                            compoundButtonView = findViewById(R.id.fourth_option);
-                            break;
-                    }
+                    CompoundButton compoundButtonView = mOptionViewRecycler.getOptionButton(i);
 
                     //Highlighting the drawable of the button by setting the level to 2
                     LevelListDrawable optionLevelListDrawable = (LevelListDrawable) compoundButtonView.getBackground();
@@ -2704,7 +1513,7 @@ public class QuizActivity extends AppCompatActivity
             //When the Number of Options are equal to 1, it is a text based question
 
             //Retrieving the correct Answer
-            String correctAnswerStr = mCorrectAnswerList.get(0);
+            String correctAnswerStr = mSession.getCurrentQuestion().getKeys()[0];
 
             //Updating the Hint text view
             if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
@@ -2731,9 +1540,7 @@ public class QuizActivity extends AppCompatActivity
         progressDialogFragment.show(getFragmentManager(), ProgressDialogFragment.TAG_PROGRESS_DIALOG);
 
         //Pausing the CountDownTimer
-        if (mCountDownLatchFragment != null) {
-            mCountDownLatchFragment.pauseTimer();
-        }
+        mSession.pauseTimer();
 
     }
 
@@ -2747,9 +1554,7 @@ public class QuizActivity extends AppCompatActivity
             //Dismissing the Progress Bar Dialog when active
             progressDialogFragment.dismiss();
             //Resuming the CountDownTimer
-            if (mCountDownLatchFragment != null) {
-                mCountDownLatchFragment.resumeTimer();
-            }
+            mSession.resumeTimer();
         }
     }
 
@@ -2760,62 +1565,31 @@ public class QuizActivity extends AppCompatActivity
      */
     private void showScoreSummary(boolean timeElapsed) {
 
+        //Clearing the Journal as the quiz has ended
+        mSessionJournal.clear();
+
         if (mActivityStateStr.equals(QuizActivityState.ACTIVE.toString())) {
             //When the current Activity is active
 
             //Initializing the Final Score Dialog
-            FinalScoreDialogFragment finalScoreDialogFragment = FinalScoreDialogFragment.newInstance(getUserScore(), mNoOfQuestionsToLoad, timeElapsed);
+            FinalScoreDialogFragment finalScoreDialogFragment = FinalScoreDialogFragment.newInstance(mSession.getUserScore(), mSession.getNoOfQuestionsToLoad(), timeElapsed);
             //Displaying the dialog
             finalScoreDialogFragment.show(getFragmentManager(), "FinalScoreDialogFragment");
         }
 
     }
 
-    /**
-     * Method that returns the current score of the User
-     *
-     * @return Integer containing the score of the User
-     */
-    private int getUserScore() {
-        //Retrieving the current score text string
-        String scoreTextStr = mTotalScoreTextView.getText().toString();
-
-        //Parsing and Returning the score
-        int slashIndex = scoreTextStr.indexOf("/");
-        return Integer.parseInt(scoreTextStr.substring(0, slashIndex));
-    }
-
     private void disableOptions() {
 
-        int noOfOptions = mOptionArray.length; //Number of Options
-
-        if (noOfOptions > 1) {
+        if (!mSession.isTextualQuestion()) {
             //When the Number of Options are more than 1 (else it is a text based question)
 
+            int noOfOptions = mSession.getCurrentQuestion().getOptions().length; //Number of Options
+
             //Iterating over the options to retrieve and disable the button: START
             for (int optionIndex = 0; optionIndex < noOfOptions; optionIndex++) {
-
-                //Declaring the CompoundButton
-                CompoundButton optionButton = null;
-
-                //Retrieving the corresponding option button
-                switch (optionIndex) {
-                    case 0:
-                        optionButton = mOptionContainerView.findViewById(R.id.first_option);
-                        break;
-                    case 1:
-                        optionButton = mOptionContainerView.findViewById(R.id.second_option);
-                        break;
-                    case 2:
-                        optionButton = mOptionContainerView.findViewById(R.id.third_option);
-                        break;
-                    case 3:
-                        optionButton = mOptionContainerView.findViewById(R.id.fourth_option);
-                        break;
-                }
-
-                //Disabling the option button
-                optionButton.setEnabled(false);
+                //Disabling the corresponding option button
+                mOptionViewRecycler.getOptionButton(optionIndex).setEnabled(false);
             }
             //Iterating over the options to retrieve and disable the button: END
 
@@ -2834,6 +1608,9 @@ public class QuizActivity extends AppCompatActivity
      */
     @Override
     public void onQuitButtonClicked() {
+        //Clearing the Bitmap Cache as the images will not be required anymore
+        BitmapImageCache.clearCache();
+
         //Invoking finish on the activity to exit the activity
         finish();
     }
@@ -2856,7 +1633,7 @@ public class QuizActivity extends AppCompatActivity
     }
 
     /**
-     * Callback Method of {@link CountDownLatchFragment.CountDownLatchListener}
+     * Callback Method of {@link QuizSession.CountDownListener}
      * invoked when every second of the timer elapses
      *
      * @param millisUntilFinished is the remaining Millis of the timer
@@ -2872,16 +1649,13 @@ public class QuizActivity extends AppCompatActivity
      * @param millisUntilFinished is the remaining Millis of the timer
      */
     private void updateTimerText(long millisUntilFinished) {
-        //Retrieving the Minutes and seconds
-        long minutes = TimeUnit.MILLISECONDS.toMinutes(millisUntilFinished) % 60;
-        long seconds = TimeUnit.MILLISECONDS.toSeconds(millisUntilFinished) % 60;
-        //Updating the timer with the value
-        mCountDownTextView.setText(getString(R.string.timer_text, minutes, seconds));
+        //Updating the timer with the value on the next frame, only when the value shown changes
+        mCountDownTextDisplay.setMillisRemaining(millisUntilFinished);
     }
 
     /**
-     * Callback Method of {@link CountDownLatchFragment.CountDownLatchListener}
-     * invoked when the {@link android.os.CountDownTimer} finishes
+     * Callback Method of {@link QuizSession.CountDownListener}
+     * invoked when the countdown of the {@link QuizTimerEngine} finishes
      */
     @Override
     public void onTimerFinish() {
@@ -2892,8 +1666,8 @@ public class QuizActivity extends AppCompatActivity
     }
 
     /**
-     * Callback Method of {@link com.example.kaushiknsanji.birdquiz.CountDownLatchFragment.CountDownLatchListener}
-     * invoked when the {@link android.os.CountDownTimer} starts
+     * Callback Method of {@link QuizSession.CountDownListener}
+     * invoked when the countdown of the {@link QuizTimerEngine} starts
      */
     @Override
     public void onTimerStart() {
@@ -2902,8 +1676,8 @@ public class QuizActivity extends AppCompatActivity
     }
 
     /**
-     * Callback Method of {@link com.example.kaushiknsanji.birdquiz.CountDownLatchFragment.CountDownLatchListener}
-     * invoked when the {@link android.os.CountDownTimer} is paused/cancelled
+     * Callback Method of {@link QuizSession.CountDownListener}
+     * invoked when the countdown of the {@link QuizTimerEngine} is paused/cancelled
      */
     @Override
     public void onTimerCancel() {
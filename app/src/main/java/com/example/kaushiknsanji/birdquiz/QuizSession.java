@@ -0,0 +1,786 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.graphics.Bitmap;
+import android.os.Bundle;
+import android.support.annotation.MainThread;
+
+import java.util.Arrays;
+
+/**
+ * Class that holds the state of a quiz being taken, which is the question order, the current question
+ * and its answer, the score, the countdown and the downloads of the hint images. The session is retained
+ * across the config changes by {@link QuizActivity} as its non-configuration instance, hence the recreated
+ * Activity binds its views to the session without restoring the state from a Bundle or decoding
+ * the hint images again. The state is saved to a Bundle only for restoring after the process is killed.
+ * The state is read through the getters, and changed only through the methods that advance the question,
+ * select the options and submit the answer, on the main thread.
+ *
+ * @author Kaushik N Sanji
+ */
+public class QuizSession implements QuizTimerEngine.TimerListener {
+
+    //Bundle Key Constants for saving/restoring
+    private static final String SESSION_STATE_KEY = "SessionState";
+    private static final String TOTAL_QUESTIONS_INT_KEY = "TotalNumberOfQuestions";
+    private static final String QUESTIONS_TO_LOAD_INT_KEY = "NoOfQuestionsToLoad";
+    private static final String FIRST_TIME_LAUNCH_BOOL_KEY = "FirstTimeLaunch";
+    private static final String CURRENT_QUESTION_NO_INT_KEY = "CurrentQuestionNo";
+    private static final String CURRENT_USER_SCORE_INT_KEY = "CurrentUserScore";
+    private static final String HINT_BUTTON_STATE_BOOL_KEY = "HintButtonState";
+    private static final String HINT_BUTTON_PRESSED_BOOL_KEY = "HintButtonPressed";
+    private static final String QUESTION_ANSWERED_BOOL_KEY = "IsQuestionAnswered";
+    private static final String TEXTUAL_USER_INPUT_STR_KEY = "TextualUserInput";
+    private static final String MILLIS_IN_FUTURE_REMAINING_LONG_KEY = "MillisInFutureRemaining";
+    //Prefixes of the Bundle Keys of the download tasks
+    private static final String CURRENT_TASK_KEY_PREFIX = "CurrentTask_";
+    private static final String FUTURE_TASK_KEY_PREFIX = "FutureTask_";
+    //Stores the interval along the way to receive callbacks. Defaulted to every second
+    private static final long COUNT_DOWN_INTERVAL_MILLIS = 1000;
+
+    //Download Tasks of the hint images of the Current and the Next question
+    private final ImageDownloadTask mCurrentImageDownloadTask = new ImageDownloadTask();
+    private final ImageDownloadTask mFutureImageDownloadTask = new ImageDownloadTask();
+    //Prefetcher that keeps the hint images of the upcoming questions warm in the Bitmap Cache
+    private final HintImagePrefetcher mHintImagePrefetcher;
+    //Sampler that picks the random order of the options
+    private final RandomSampler mRandomSampler = new RandomSampler();
+    //Stores the Instance of the QuizTimerEngine that runs the countdown
+    private final QuizTimerEngine mTimerEngine = new QuizTimerEngine(COUNT_DOWN_INTERVAL_MILLIS, this);
+    //Stores the current Question being displayed
+    private Question mCurrentQuestion;
+    //Stores the order of the questions, the order of the options of the current question,
+    //the options that are its keys, and the options selected by the user
+    private QuizSessionState mSessionState;
+    //Matcher of the answer to a textual question, prepared with the correct Answers
+    private TextualAnswerMatcher mTextualAnswerMatcher;
+    //Stores total number of questions in the repository
+    private int mTotalNumberOfQuestions;
+    //Stores the number of questions to load
+    private int mNoOfQuestionsToLoad;
+    //Stores the state of whether the quiz is yet to be started
+    //Defaulting to FALSE
+    private boolean mFirstTimeLaunch = false;
+    //Stores the current question number being displayed. Defaulting to 0
+    private int mCurrentQuestionNo = 0;
+    //Stores the current question index from the list
+    private int mCurrentQuestionIndex;
+    //Stores the Next question index from the list. Defaulting to 0;
+    private int mFutureQuestionIndex = 0;
+    //Stores the current score of the User
+    private int mUserScore = 0;
+    //Stores whether the Hint button is enabled(True)/disabled(False)
+    private boolean mHintButtonState = false;
+    //Stores whether the Hint button was pressed
+    private boolean mHintButtonPressed = false;
+    //Stores whether the current question is done with, that is, answered correctly or after the hint
+    private boolean mIsQuestionAnswered = false;
+    //Stores the EditText view content for the textual question
+    private String mTextualUserInputStr;
+    //Stores the handle of the Hint image of the current question, set through setHintImage()
+    private HintImageHandle mHintImageHandle;
+    //Stores the handle of the Hint image downloaded for the next question in advance, set through setPrefetchedImage()
+    private HintImageHandle mPrefetchedImageHandle;
+    //Instance of the interface to deliver the countdown events
+    private CountDownListener mCountDownListener;
+
+    /**
+     * @param prefetchWindowSize is the Integer number of upcoming questions whose hint images are prefetched
+     */
+    public QuizSession(int prefetchWindowSize) {
+        mHintImagePrefetcher = new HintImagePrefetcher(prefetchWindowSize);
+    }
+
+    /**
+     * Method that attaches the Activity to receive the events of the downloads and the countdown.
+     * The results of the downloads that completed while detached are delivered right away.
+     *
+     * @param downloaderListener is the {@link ImageDownloadTask.ImageDownloaderListener} to receive the events of the downloads
+     * @param countDownListener  is the {@link CountDownListener} to receive the events of the countdown
+     */
+    @MainThread
+    public void attach(ImageDownloadTask.ImageDownloaderListener downloaderListener, CountDownListener countDownListener) {
+        mCountDownListener = countDownListener;
+        mCurrentImageDownloadTask.attachListener(downloaderListener);
+        mFutureImageDownloadTask.attachListener(downloaderListener);
+    }
+
+    /**
+     * Method that detaches the Activity when it is destroyed, to avoid leaking it
+     */
+    @MainThread
+    public void detach() {
+        mCountDownListener = null;
+        mCurrentImageDownloadTask.detachListener();
+        mFutureImageDownloadTask.detachListener();
+    }
+
+    /**
+     * Method that stops the countdown and the downloads when the quiz is being closed
+     */
+    @MainThread
+    public void release() {
+        mTimerEngine.pause();
+        mCurrentImageDownloadTask.release();
+        mFutureImageDownloadTask.release();
+        mHintImagePrefetcher.cancelAll();
+    }
+
+    /**
+     * Method that releases the Hint images held, when the quiz is closed and they are no longer shown
+     */
+    @MainThread
+    public void releaseHintImages() {
+        setHintImage(null);
+        setPrefetchedImage(null);
+    }
+
+    /**
+     * Method that updates the Hint image of the current question, retaining the handle passed
+     * and releasing the handle of the previous image
+     *
+     * @param imageHandle is the {@link HintImageHandle} of the Hint image; can be null
+     */
+    @MainThread
+    public void setHintImage(HintImageHandle imageHandle) {
+        mHintImageHandle = HintImageHandle.replace(mHintImageHandle, imageHandle);
+    }
+
+    /**
+     * Method that updates the Hint image of the next question, retaining the handle passed
+     * and releasing the handle of the previous image
+     *
+     * @param imageHandle is the {@link HintImageHandle} of the Hint image; can be null
+     */
+    @MainThread
+    public void setPrefetchedImage(HintImageHandle imageHandle) {
+        mPrefetchedImageHandle = HintImageHandle.replace(mPrefetchedImageHandle, imageHandle);
+    }
+
+    /**
+     * Method that returns the Hint image of the current question
+     *
+     * @return Bitmap of the Hint image; null when not available
+     */
+    public Bitmap getHintBitmap() {
+        return (mHintImageHandle != null) ? mHintImageHandle.getBitmap() : null;
+    }
+
+    /**
+     * Method that returns whether the Hint image of the current question is held
+     *
+     * @return True when the Hint image is available; false otherwise
+     */
+    public boolean hasHintImage() {
+        return mHintImageHandle != null;
+    }
+
+    /**
+     * Method that hands over the Hint image prefetched for the next question to the current question,
+     * along with its download task, when the session moves to the next question
+     *
+     * @return True when the Hint image was prefetched and handed over; false otherwise
+     */
+    @MainThread
+    public boolean takePrefetchedImage() {
+        if (mPrefetchedImageHandle == null) {
+            return false;
+        }
+        setHintImage(mPrefetchedImageHandle);
+        //Copying the Future Download Task to the Current Download Task, which shares the handle
+        mCurrentImageDownloadTask.copy(mFutureImageDownloadTask);
+        return true;
+    }
+
+    /**
+     * @return The {@link ImageDownloadTask} of the Hint image of the current question
+     */
+    public ImageDownloadTask getCurrentImageDownloadTask() {
+        return mCurrentImageDownloadTask;
+    }
+
+    /**
+     * @return The {@link ImageDownloadTask} of the Hint image of the next question
+     */
+    public ImageDownloadTask getFutureImageDownloadTask() {
+        return mFutureImageDownloadTask;
+    }
+
+    /**
+     * @return The {@link HintImagePrefetcher} of the Hint images of the upcoming questions
+     */
+    public HintImagePrefetcher getHintImagePrefetcher() {
+        return mHintImagePrefetcher;
+    }
+
+    /**
+     * Method that cancels the downloads of the Hint images of the current and the next question
+     * that are not yet completed, when moving to the next question
+     */
+    @MainThread
+    public void cancelDownloadsInProgress() {
+        mCurrentImageDownloadTask.cancelTaskInProgress(mCurrentQuestionIndex);
+        mFutureImageDownloadTask.cancelTaskInProgress(mFutureQuestionIndex);
+    }
+
+    /**
+     * Method that prepares the session for a new quiz, which is started on the launch
+     *
+     * @param noOfQuestionsToLoad is the Integer number of questions of the quiz
+     * @param millisInFuture      is the Millis for which the countdown of the quiz needs to run
+     */
+    public void startNewQuiz(int noOfQuestionsToLoad, long millisInFuture) {
+        mNoOfQuestionsToLoad = noOfQuestionsToLoad;
+        mTimerEngine.setMillisRemaining(millisInFuture);
+
+        //Loading the first question on start
+        mFirstTimeLaunch = true;
+    }
+
+    /**
+     * Method that sets the order of the questions of the quiz started afresh
+     *
+     * @param questionIndexOrder     is the Integer array of the identifiers of the Questions in the order of the quiz
+     * @param totalNumberOfQuestions is the Integer number of questions in the repository
+     */
+    public void setQuestionOrder(int[] questionIndexOrder, int totalNumberOfQuestions) {
+        mTotalNumberOfQuestions = totalNumberOfQuestions;
+        mUserScore = 0;
+        mSessionState = new QuizSessionState(questionIndexOrder);
+        mHintImagePrefetcher.setQuestionOrder(questionIndexOrder);
+    }
+
+    /**
+     * @return True when the order of the questions is set; false when the quiz is yet to be started afresh
+     */
+    public boolean hasQuestionOrder() {
+        return mSessionState != null;
+    }
+
+    /**
+     * @return Integer array of the identifiers of the Questions in the order of the quiz
+     */
+    public int[] getQuestionIndexOrder() {
+        return mSessionState.getQuestionIndexOrder();
+    }
+
+    /**
+     * @return Boolean that indicates whether the quiz is yet to load its first question on start
+     */
+    public boolean isFirstTimeLaunch() {
+        return mFirstTimeLaunch;
+    }
+
+    /**
+     * Method that marks the quiz as started, once its first question is loaded
+     */
+    public void markLaunched() {
+        mFirstTimeLaunch = false;
+    }
+
+    /**
+     * @return Integer identifier of the Question that follows the current question
+     */
+    public int getNextQuestionIndex() {
+        return mSessionState.getQuestionIndex(mCurrentQuestionNo);
+    }
+
+    /**
+     * @return True when there are more questions to follow the current question; false otherwise
+     */
+    public boolean hasNextQuestion() {
+        return mCurrentQuestionNo < mNoOfQuestionsToLoad;
+    }
+
+    /**
+     * Method that moves the session to the Question passed, which follows the current question.
+     * This picks the random order of its options, computes the options that are its keys,
+     * and resets the answer and the hint of the previous question.
+     *
+     * @param question is the {@link Question} retrieved for {@link #getNextQuestionIndex()}
+     */
+    @MainThread
+    public void moveToQuestion(Question question) {
+        mCurrentQuestionNo++;
+        bindQuestion(question);
+
+        if (!isTextualQuestion()) {
+            //Retrieving options in random order
+            int noOfOptions = question.getOptions().length;
+            mSessionState.setOptionIndexOrder(mRandomSampler.sample(noOfOptions, noOfOptions));
+        }
+
+        //Resetting the answer and the hint of the previous question
+        mSessionState.clearSelectedOptions();
+        mTextualUserInputStr = "";
+        mHintButtonState = false;
+        mHintButtonPressed = false;
+        mIsQuestionAnswered = false;
+    }
+
+    /**
+     * Method that binds the Question passed as the current question, preparing the grading of its answer
+     *
+     * @param question is the current {@link Question}
+     */
+    private void bindQuestion(Question question) {
+        mCurrentQuestion = question;
+        mCurrentQuestionIndex = question.getQuestionIndex();
+        //Setting to 0 when there is no Next question
+        mFutureQuestionIndex = hasNextQuestion() ? getNextQuestionIndex() : 0;
+
+        if (isTextualQuestion()) {
+            //Preparing the matcher of the textual answer with the Answer Keys
+            mTextualAnswerMatcher = new TextualAnswerMatcher(Arrays.asList(question.getKeys()));
+        } else {
+            //Computing the mask of the Options that are the Answer Keys once, for grading on every Submit
+            mTextualAnswerMatcher = null;
+            mSessionState.setKeyOptionIndexMask(
+                    AnswerGradingEngine.createKeyMask(question.getOptions(), Arrays.asList(question.getKeys()))
+            );
+        }
+    }
+
+    /**
+     * @return The current {@link Question} being displayed
+     */
+    public Question getCurrentQuestion() {
+        return mCurrentQuestion;
+    }
+
+    /**
+     * @return Integer number of the current question being displayed, starting from 1
+     */
+    public int getCurrentQuestionNo() {
+        return mCurrentQuestionNo;
+    }
+
+    /**
+     * @return Integer identifier of the current Question
+     */
+    public int getCurrentQuestionIndex() {
+        return mCurrentQuestionIndex;
+    }
+
+    /**
+     * @return Integer identifier of the Question that follows the current question; 0 when there is none
+     */
+    public int getFutureQuestionIndex() {
+        return mFutureQuestionIndex;
+    }
+
+    /**
+     * @return Integer number of questions of the quiz
+     */
+    public int getNoOfQuestionsToLoad() {
+        return mNoOfQuestionsToLoad;
+    }
+
+    /**
+     * @return Integer number of questions in the repository
+     */
+    public int getTotalNumberOfQuestions() {
+        return mTotalNumberOfQuestions;
+    }
+
+    /**
+     * @return Integer value of the current score of the User
+     */
+    public int getUserScore() {
+        return mUserScore;
+    }
+
+    /**
+     * @return True when the current question is text based, having a single option; false otherwise
+     */
+    public boolean isTextualQuestion() {
+        return mCurrentQuestion.getOptions().length <= 1;
+    }
+
+    /**
+     * @return Integer number of the Answer Keys of the current question
+     */
+    public int getNoOfKeys() {
+        return mCurrentQuestion.getKeys().length;
+    }
+
+    /**
+     * @return Integer array of the indices of the Options of the current Question in the order shown
+     */
+    public int[] getOptionIndexOrder() {
+        return mSessionState.getOptionIndexOrder();
+    }
+
+    /**
+     * Method that returns whether the Option at the index passed is an Answer Key of the current question
+     *
+     * @param optionIndex is the Integer index of the Option in the current Question
+     * @return True when the Option is an Answer Key; false otherwise
+     */
+    public boolean isKeyOption(int optionIndex) {
+        return (mSessionState.getKeyOptionIndexMask() & (1 << optionIndex)) != 0;
+    }
+
+    /**
+     * Method that marks the Option at the position passed as selected. The Option selected
+     * replaces the previous selection when the question has a single Answer Key.
+     *
+     * @param optionNo is the Integer position of the Option on the screen (1 to 4)
+     */
+    @MainThread
+    public void selectOption(int optionNo) {
+        if (getNoOfKeys() > 1) {
+            //When the question is CheckBox based
+            mSessionState.setOptionSelected(optionNo, true);
+        } else {
+            //When the question is RadioButton based
+            mSessionState.setOnlyOptionSelected(optionNo);
+        }
+    }
+
+    /**
+     * Method that marks the Option at the position passed as deselected. The selection of a question
+     * having a single Answer Key is only replaced, by selecting another Option.
+     *
+     * @param optionNo is the Integer position of the Option on the screen (1 to 4)
+     */
+    @MainThread
+    public void deselectOption(int optionNo) {
+        if (getNoOfKeys() > 1) {
+            //Updating only when the question is CheckBox based
+            mSessionState.setOptionSelected(optionNo, false);
+        }
+    }
+
+    /**
+     * Method that returns whether the Option at the position passed is selected
+     *
+     * @param optionNo is the Integer position of the Option on the screen (1 to 4)
+     * @return True when the Option is selected; false otherwise
+     */
+    public boolean isOptionSelected(int optionNo) {
+        return mSessionState.isOptionSelected(optionNo);
+    }
+
+    /**
+     * @return True when any of the Options of the current question is selected; false otherwise
+     */
+    public boolean hasSelectedOptions() {
+        return mSessionState.hasSelectedOptions();
+    }
+
+    /**
+     * @return String containing the answer entered for the textual question
+     */
+    public String getTextualUserInput() {
+        return mTextualUserInputStr;
+    }
+
+    /**
+     * @param textualUserInputStr is the String containing the answer entered for the textual question
+     */
+    public void setTextualUserInput(String textualUserInputStr) {
+        mTextualUserInputStr = textualUserInputStr;
+    }
+
+    /**
+     * Method that grades the answer of the current question, and updates the progress of the quiz
+     * with the grade. The score is advanced and the question is done with, when the answer is correct.
+     * An incorrect or a partially correct answer enables the hint on the first attempt,
+     * and is done with on the attempt after the hint.
+     *
+     * @return Double value of the grade between 0 and 1, where 0 is incorrect, 1 is correct,
+     * and in between is partially correct
+     */
+    @MainThread
+    public double submitAnswer() {
+        double grade;
+        if (isTextualQuestion()) {
+            grade = AnswerGradingEngine.gradeTextualAnswer(mTextualAnswerMatcher, mTextualUserInputStr);
+        } else {
+            grade = AnswerGradingEngine.gradeOptions(
+                    mSessionState.getKeyOptionIndexMask(),
+                    mSessionState.getSelectedOptionIndexMask()
+            );
+        }
+
+        if (grade == AnswerGradingEngine.GRADE_CORRECT) {
+            mUserScore++;
+            mIsQuestionAnswered = true;
+        } else if (mHintButtonState) {
+            //Done with the question, on the attempt after the hint
+            mIsQuestionAnswered = true;
+        } else {
+            //Enabling the hint on the first attempt
+            mHintButtonState = true;
+        }
+
+        return grade;
+    }
+
+    /**
+     * @return True when the current question is done with, that is, answered correctly or after the hint
+     */
+    public boolean isQuestionAnswered() {
+        return mIsQuestionAnswered;
+    }
+
+    /**
+     * @return True when the Hint of the current question is enabled; false otherwise
+     */
+    public boolean isHintEnabled() {
+        return mHintButtonState;
+    }
+
+    /**
+     * @return True when the Hint button was pressed for the current question; false otherwise
+     */
+    public boolean isHintButtonPressed() {
+        return mHintButtonPressed;
+    }
+
+    /**
+     * Method that marks the Hint button as pressed for the current question
+     *
+     * @return True when the Hint button is pressed for the first time for the current question; false otherwise
+     */
+    @MainThread
+    public boolean markHintButtonPressed() {
+        if (mHintButtonPressed) {
+            return false;
+        }
+        mHintButtonPressed = true;
+        return true;
+    }
+
+    /**
+     * Method to retrieve the time remaining in Millis, computed from the deadline of the countdown
+     *
+     * @return the value of Millis remaining to complete
+     */
+    public long getRemainingTimeInMillis() {
+        return mTimerEngine.getMillisRemaining();
+    }
+
+    /**
+     * @return Boolean that indicates whether the countdown is running
+     */
+    public boolean isTimerRunning() {
+        return mTimerEngine.isRunning();
+    }
+
+    /**
+     * Method that resumes the countdown
+     */
+    @MainThread
+    public void resumeTimer() {
+        if (mTimerEngine.resume() && mCountDownListener != null) {
+            //Sending the start event to the listener
+            mCountDownListener.onTimerStart();
+        }
+    }
+
+    /**
+     * Method that pauses/cancels the countdown, retaining the time remaining
+     */
+    @MainThread
+    public void pauseTimer() {
+        if (mTimerEngine.pause() && mCountDownListener != null) {
+            //Sending the cancel/pause event to the Listener
+            mCountDownListener.onTimerCancel();
+        }
+    }
+
+    /**
+     * Callback Method of {@link QuizTimerEngine.TimerListener} invoked on every tick of the countdown.
+     * Ticks are skipped while the Activity is being recreated, as it reads the time remaining on resume.
+     *
+     * @param millisRemaining is the remaining Millis of the countdown
+     */
+    @Override
+    public void onTimerTick(long millisRemaining) {
+        if (mCountDownListener != null) {
+            //Sending the event to the listener
+            mCountDownListener.updateMillisRemaining(millisRemaining);
+        }
+    }
+
+    /**
+     * Callback Method of {@link QuizTimerEngine.TimerListener} invoked when the countdown finishes.
+     * When the Activity is being recreated, it ends the quiz on resume on finding no time remaining.
+     */
+    @Override
+    public void onTimerFinish() {
+        if (mCountDownListener != null) {
+            //Sending the Finish event to the listener
+            mCountDownListener.onTimerFinish();
+        }
+    }
+
+    /**
+     * Method that saves the state of the session to the Bundle, for restoring after the process is killed.
+     * The current question is not saved, as it is retrieved again from the {@link QuestionRepository} on restore.
+     *
+     * @param outState is the Bundle of the Activity to save the state to
+     */
+    public void saveState(Bundle outState) {
+        outState.putParcelable(SESSION_STATE_KEY, mSessionState);
+        outState.putInt(TOTAL_QUESTIONS_INT_KEY, mTotalNumberOfQuestions);
+        outState.putInt(QUESTIONS_TO_LOAD_INT_KEY, mNoOfQuestionsToLoad);
+        outState.putBoolean(FIRST_TIME_LAUNCH_BOOL_KEY, mFirstTimeLaunch);
+        outState.putInt(CURRENT_QUESTION_NO_INT_KEY, mCurrentQuestionNo);
+        outState.putInt(CURRENT_USER_SCORE_INT_KEY, mUserScore);
+        outState.putBoolean(HINT_BUTTON_STATE_BOOL_KEY, mHintButtonState);
+        outState.putBoolean(HINT_BUTTON_PRESSED_BOOL_KEY, mHintButtonPressed);
+        outState.putBoolean(QUESTION_ANSWERED_BOOL_KEY, mIsQuestionAnswered);
+        outState.putString(TEXTUAL_USER_INPUT_STR_KEY, mTextualUserInputStr);
+        outState.putLong(MILLIS_IN_FUTURE_REMAINING_LONG_KEY, mTimerEngine.getMillisRemaining());
+        mCurrentImageDownloadTask.saveState(outState, CURRENT_TASK_KEY_PREFIX);
+        mFutureImageDownloadTask.saveState(outState, FUTURE_TASK_KEY_PREFIX);
+    }
+
+    /**
+     * Method that restores the state of the session from the Bundle, after the process was killed.
+     * The current question is loaded again by the Activity from the {@link QuestionRepository},
+     * and is bound through {@link #restoreQuestion(Question)}.
+     * The countdown restored is not running, and is resumed by the Activity.
+     *
+     * @param savedInstanceState is the Bundle of the Activity to restore the state from
+     */
+    public void restoreState(Bundle savedInstanceState) {
+        mSessionState = savedInstanceState.getParcelable(SESSION_STATE_KEY);
+        mTotalNumberOfQuestions = savedInstanceState.getInt(TOTAL_QUESTIONS_INT_KEY);
+        mNoOfQuestionsToLoad = savedInstanceState.getInt(QUESTIONS_TO_LOAD_INT_KEY);
+        mFirstTimeLaunch = savedInstanceState.getBoolean(FIRST_TIME_LAUNCH_BOOL_KEY);
+        mCurrentQuestionNo = savedInstanceState.getInt(CURRENT_QUESTION_NO_INT_KEY);
+        mUserScore = savedInstanceState.getInt(CURRENT_USER_SCORE_INT_KEY);
+        mHintButtonState = savedInstanceState.getBoolean(HINT_BUTTON_STATE_BOOL_KEY);
+        mHintButtonPressed = savedInstanceState.getBoolean(HINT_BUTTON_PRESSED_BOOL_KEY);
+        mIsQuestionAnswered = savedInstanceState.getBoolean(QUESTION_ANSWERED_BOOL_KEY);
+        mTextualUserInputStr = savedInstanceState.getString(TEXTUAL_USER_INPUT_STR_KEY);
+        mTimerEngine.setMillisRemaining(savedInstanceState.getLong(MILLIS_IN_FUTURE_REMAINING_LONG_KEY));
+        mCurrentImageDownloadTask.restoreState(savedInstanceState, CURRENT_TASK_KEY_PREFIX);
+        mFutureImageDownloadTask.restoreState(savedInstanceState, FUTURE_TASK_KEY_PREFIX);
+
+        if (mSessionState != null) {
+            mHintImagePrefetcher.setQuestionOrder(mSessionState.getQuestionIndexOrder());
+
+            if (!mFirstTimeLaunch && mCurrentQuestionNo > 0) {
+                //Restoring the identifiers of the current and the next question, for the downloads
+                //of their images delivered before the current question is loaded again
+                mCurrentQuestionIndex = mSessionState.getQuestionIndex(mCurrentQuestionNo - 1);
+                mFutureQuestionIndex = hasNextQuestion() ? getNextQuestionIndex() : 0;
+            }
+        }
+    }
+
+    /**
+     * @return True when the current question is yet to be loaded again after the process was killed;
+     * false otherwise
+     */
+    public boolean needsQuestionRestore() {
+        return mCurrentQuestion == null && mSessionState != null && !mFirstTimeLaunch && mCurrentQuestionNo > 0;
+    }
+
+    /**
+     * Method that binds the current question loaded again after the process was killed,
+     * whose options retain the order and the selection restored
+     *
+     * @param question is the {@link Question} retrieved for {@link #getCurrentQuestionIndex()}
+     */
+    @MainThread
+    public void restoreQuestion(Question question) {
+        bindQuestion(question);
+    }
+
+    /**
+     * Method that restores the progress of the quiz replayed from the {@link QuizSessionJournal},
+     * when the quiz is resumed on the launch after the app was killed. The quiz resumes from
+     * the question following the last question answered, which is loaded as on the first launch.
+     *
+     * @param snapshot is the {@link QuizSessionJournal.SessionSnapshot} replayed from the Journal
+     */
+    public void resumeFrom(QuizSessionJournal.SessionSnapshot snapshot) {
+        mTotalNumberOfQuestions = snapshot.mTotalNumberOfQuestions;
+        mNoOfQuestionsToLoad = snapshot.mQuestionIndexOrder.length;
+        mSessionState = new QuizSessionState(snapshot.mQuestionIndexOrder);
+        mHintImagePrefetcher.setQuestionOrder(snapshot.mQuestionIndexOrder);
+        mCurrentQuestionNo = snapshot.mAnsweredQuestionCount;
+        mUserScore = snapshot.mUserScore;
+        mTimerEngine.setMillisRemaining(snapshot.mMillisRemaining);
+
+        //Loading the next question on start, as on the first launch
+        mFirstTimeLaunch = true;
+    }
+
+    /**
+     * Method that returns the progress of the quiz restored from the Bundle, for reopening
+     * the {@link QuizSessionJournal} in the new process
+     *
+     * @return The {@link QuizSessionJournal.SessionSnapshot} of the progress; null when the quiz
+     * is yet to be started afresh or has nothing left to be resumed
+     */
+    public QuizSessionJournal.SessionSnapshot createJournalSnapshot() {
+        if (mSessionState == null) {
+            return null;
+        }
+
+        //Counting the current question only when it is done with, or when it is yet to be loaded on start
+        int answeredQuestionCount = (mFirstTimeLaunch || mIsQuestionAnswered) ? mCurrentQuestionNo : mCurrentQuestionNo - 1;
+        long millisRemaining = mTimerEngine.getMillisRemaining();
+        if (millisRemaining <= 0 || answeredQuestionCount >= mNoOfQuestionsToLoad) {
+            return null;
+        }
+
+        return new QuizSessionJournal.SessionSnapshot(mTotalNumberOfQuestions, mSessionState.getQuestionIndexOrder(),
+                answeredQuestionCount, mUserScore, millisRemaining);
+    }
+
+    /**
+     * Activity that attaches to this {@link QuizSession}
+     * needs to implement the interface to receive the countdown event callbacks
+     */
+    interface CountDownListener {
+        /**
+         * Callback Method of {@link CountDownListener}
+         * invoked when every second of the timer elapses
+         *
+         * @param millisUntilFinished is the remaining Millis of the timer
+         */
+        void updateMillisRemaining(long millisUntilFinished);
+
+        /**
+         * Callback Method of {@link CountDownListener}
+         * invoked when the countdown finishes
+         */
+        void onTimerFinish();
+
+        /**
+         * Callback Method of {@link CountDownListener}
+         * invoked when the countdown starts
+         */
+        void onTimerStart();
+
+        /**
+         * Callback Method of {@link CountDownListener}
+         * invoked when the countdown is paused/cancelled
+         */
+        void onTimerCancel();
+    }
+
+}
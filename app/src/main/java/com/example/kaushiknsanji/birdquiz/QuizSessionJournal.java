@@ -0,0 +1,468 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.support.annotation.MainThread;
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * Application level class that records the progress of the quiz being taken in a compact binary
+ * journal file, for resuming the quiz on the next launch after the app was killed.
+ * <p>
+ * The journal starts with a record of the question order and the time allotted, followed by a record
+ * of the score and the time remaining for every question answered. The records are appended on
+ * a background thread, and are synced to the disk in batches, or right away when flushed.
+ * When replayed, any record left partially written by a crash gets discarded. The quiz resumed
+ * in a new process reopens the journal for appending its further records.
+ * The journal is cleared when the quiz ends.
+ *
+ * @author Kaushik N Sanji
+ */
+public class QuizSessionJournal {
+
+    private static final String TAG = QuizSessionJournal.class.getSimpleName();
+    //Constants for the Journal file
+    private static final String JOURNAL_FILE_NAME = "quiz_session.journal";
+    private static final int JOURNAL_MAGIC = 0x42514A4C; //"BQJL"
+    private static final int JOURNAL_VERSION = 1;
+    //Records of the Journal
+    private static final byte RECORD_START = 1; //When the quiz is started
+    private static final byte RECORD_ANSWER = 2; //When a question is answered
+    //Sizes in bytes of the records, excluding the question order of the start record
+    private static final int START_RECORD_HEADER_SIZE = 14;
+    private static final int ANSWER_RECORD_SIZE = 9;
+    //Delay in millis within which the records appended are synced to the disk together
+    private static final long SYNC_BATCH_DELAY_MILLIS = 500;
+
+    //Singleton instance of the QuizSessionJournal
+    private static QuizSessionJournal mInstance;
+
+    //Stores the Journal file
+    private final File mJournalFile;
+    //Handler of the background thread that writes the Journal
+    private final Handler mWriterHandler;
+    //Stores the Stream of the Journal file being appended, accessed only on the background thread
+    private FileOutputStream mJournalOutputStream;
+    private DataOutputStream mJournalDataStream;
+
+    //Runnable that syncs the records appended to the disk
+    private final Runnable mSyncRunnable = new Runnable() {
+        @Override
+        public void run() {
+            syncJournal();
+        }
+    };
+
+    /**
+     * Private Constructor of the Singleton {@link QuizSessionJournal}
+     *
+     * @param context is the Context of the app
+     */
+    private QuizSessionJournal(Context context) {
+        mJournalFile = new File(context.getApplicationContext().getFilesDir(), JOURNAL_FILE_NAME);
+
+        //Starting the background thread for writing the Journal
+        HandlerThread writerThread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        writerThread.start();
+        mWriterHandler = new Handler(writerThread.getLooper());
+    }
+
+    /**
+     * Method that returns the Singleton instance of the {@link QuizSessionJournal}
+     *
+     * @param context is the Context of the app
+     * @return Instance of the {@link QuizSessionJournal}
+     */
+    public static synchronized QuizSessionJournal getInstance(Context context) {
+        if (mInstance == null) {
+            mInstance = new QuizSessionJournal(context);
+        }
+        return mInstance;
+    }
+
+    /**
+     * Method that returns whether the Journal holds a quiz that was not ended
+     *
+     * @return True when a quiz can be resumed from the Journal; false otherwise
+     */
+    public boolean hasUnfinishedSession() {
+        return mJournalFile.exists() && mJournalFile.length() > 0;
+    }
+
+    /**
+     * Method that starts a new Journal with the record of the quiz started,
+     * replacing the Journal of any previous quiz
+     *
+     * @param totalNumberOfQuestions is the Integer number of questions available
+     * @param questionIndexOrder     is the Integer array of the identifiers of the Questions in the order of the quiz
+     * @param millisRemaining        is the Long millis allotted for the quiz
+     */
+    @MainThread
+    public void recordStart(final int totalNumberOfQuestions, int[] questionIndexOrder, final long millisRemaining) {
+        final int[] questionIndices = questionIndexOrder.clone();
+        mWriterHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    closeJournal();
+                    openJournal(false);
+                    writeStartRecord(totalNumberOfQuestions, questionIndices, millisRemaining);
+                } catch (IOException e) {
+                    Log.e(TAG, "recordStart: Failed to start the Journal", e);
+                    closeJournal();
+                }
+            }
+        });
+        scheduleSync();
+    }
+
+    /**
+     * Method that appends the record of a question answered to the Journal
+     *
+     * @param questionNo      is the Integer number of the question answered, starting from 1
+     * @param userScore       is the Integer score of the User after the question was answered
+     * @param millisRemaining is the Long millis of the quiz remaining
+     */
+    @MainThread
+    public void recordAnswer(final int questionNo, final int userScore, final long millisRemaining) {
+        mWriterHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (mJournalDataStream == null) {
+                    //Ignoring when the Journal was not started
+                    return;
+                }
+                try {
+                    writeAnswerRecord(questionNo, userScore, millisRemaining);
+                } catch (IOException e) {
+                    Log.e(TAG, "recordAnswer: Failed to append to the Journal", e);
+                    closeJournal();
+                }
+            }
+        });
+        scheduleSync();
+    }
+
+    /**
+     * Method that reopens the Journal for appending the records of the quiz resumed in a new process,
+     * as the Journal is otherwise opened only when the quiz is started. A Journal already open
+     * in this process is left as is. When the snapshot was replayed from the Journal, the records
+     * replayed are kept and any record left partially written is discarded. Else, the Journal is
+     * rebuilt from the progress of the quiz in the snapshot.
+     *
+     * @param snapshot is the {@link SessionSnapshot} of the quiz resumed
+     */
+    @MainThread
+    public void resumeRecording(SessionSnapshot snapshot) {
+        final int totalNumberOfQuestions = snapshot.mTotalNumberOfQuestions;
+        final int[] questionIndices = snapshot.mQuestionIndexOrder.clone();
+        final int answeredQuestionCount = snapshot.mAnsweredQuestionCount;
+        final int userScore = snapshot.mUserScore;
+        final long millisRemaining = snapshot.mMillisRemaining;
+        final long journalLength = snapshot.mJournalLength;
+        mWriterHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (mJournalDataStream != null) {
+                    //Ignoring when the Journal is still open in this process
+                    return;
+                }
+                try {
+                    if (journalLength > 0 && mJournalFile.length() >= journalLength) {
+                        //Appending after the records replayed
+                        truncateJournal(journalLength);
+                        openJournal(true);
+                    } else {
+                        //Rebuilding the Journal from the progress of the quiz
+                        openJournal(false);
+                        writeStartRecord(totalNumberOfQuestions, questionIndices, millisRemaining);
+                        if (answeredQuestionCount > 0) {
+                            writeAnswerRecord(answeredQuestionCount, userScore, millisRemaining);
+                        }
+                    }
+                } catch (IOException e) {
+                    Log.e(TAG, "resumeRecording: Failed to reopen the Journal", e);
+                    closeJournal();
+                }
+            }
+        });
+        scheduleSync();
+    }
+
+    /**
+     * Method that syncs the records appended to the disk right away, without waiting for the batch
+     */
+    @MainThread
+    public void flush() {
+        mWriterHandler.removeCallbacks(mSyncRunnable);
+        mWriterHandler.post(mSyncRunnable);
+    }
+
+    /**
+     * Method that deletes the Journal when the quiz ends, as there is nothing to resume
+     */
+    @MainThread
+    public void clear() {
+        mWriterHandler.removeCallbacks(mSyncRunnable);
+        mWriterHandler.post(new Runnable() {
+            @Override
+            public void run() {
+                closeJournal();
+                if (mJournalFile.exists() && !mJournalFile.delete()) {
+                    Log.e(TAG, "clear: Failed to delete the Journal " + mJournalFile);
+                }
+            }
+        });
+    }
+
+    /**
+     * Method that replays the Journal to restore the progress of the quiz that was not ended.
+     * Reads the Journal file on the calling thread, which is a few bytes for each question.
+     *
+     * @return The {@link SessionSnapshot} of the last question answered; null when there is no quiz
+     * to be resumed or the Journal is not readable
+     */
+    public SessionSnapshot replay() {
+        if (!hasUnfinishedSession()) {
+            return null;
+        }
+
+        SessionSnapshot snapshot = null;
+        DataInputStream journalDataStream = null;
+        try {
+            journalDataStream = new DataInputStream(new BufferedInputStream(new FileInputStream(mJournalFile)));
+
+            //Validating the header
+            if (journalDataStream.readInt() != JOURNAL_MAGIC
+                    || journalDataStream.readByte() != JOURNAL_VERSION
+                    || journalDataStream.readByte() != RECORD_START) {
+                throw new IOException("Unexpected Journal header");
+            }
+
+            //Reading the record of the quiz started
+            int totalNumberOfQuestions = journalDataStream.readUnsignedShort();
+            long millisRemaining = journalDataStream.readInt();
+            int[] questionIndexOrder = new int[journalDataStream.readUnsignedShort()];
+            for (int questionNo = 0; questionNo < questionIndexOrder.length; questionNo++) {
+                questionIndexOrder[questionNo] = journalDataStream.readUnsignedShort();
+            }
+            snapshot = new SessionSnapshot(totalNumberOfQuestions, questionIndexOrder, millisRemaining);
+            snapshot.mJournalLength = START_RECORD_HEADER_SIZE + 2 * questionIndexOrder.length;
+
+            //Replaying the records of the questions answered
+            try {
+                while (journalDataStream.readByte() == RECORD_ANSWER) {
+                    int questionNo = journalDataStream.readUnsignedShort();
+                    int userScore = journalDataStream.readUnsignedShort();
+                    millisRemaining = journalDataStream.readInt();
+                    snapshot.mAnsweredQuestionCount = questionNo;
+                    snapshot.mUserScore = userScore;
+                    snapshot.mMillisRemaining = millisRemaining;
+                    snapshot.mJournalLength += ANSWER_RECORD_SIZE;
+                }
+            } catch (EOFException e) {
+                //Ignoring the last record when it was left incomplete by a crash
+            }
+
+        } catch (IOException e) {
+            Log.e(TAG, "replay: Journal is corrupt, discarding the quiz", e);
+            snapshot = null;
+        } finally {
+            if (journalDataStream != null) {
+                try {
+                    journalDataStream.close();
+                } catch (IOException e) {
+                    Log.e(TAG, "replay: Failed to close the Journal", e);
+                }
+            }
+        }
+
+        if (snapshot == null || snapshot.mMillisRemaining <= 0
+                || snapshot.mAnsweredQuestionCount >= snapshot.mQuestionIndexOrder.length) {
+            //Discarding the Journal when the quiz cannot be resumed
+            clear();
+            return null;
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Method that opens the Journal file for writing the records. Called on the background thread.
+     *
+     * @param append is a Boolean that indicates whether the records are appended to the Journal (True),
+     *               or written to a new Journal replacing the Journal file (False)
+     * @throws IOException when the Journal file could not be opened
+     */
+    private void openJournal(boolean append) throws IOException {
+        mJournalOutputStream = new FileOutputStream(mJournalFile, append);
+        mJournalDataStream = new DataOutputStream(new BufferedOutputStream(mJournalOutputStream));
+    }
+
+    /**
+     * Method that discards the bytes of the Journal file beyond the length passed,
+     * that is, a record left partially written. Called on the background thread.
+     *
+     * @param journalLength is the Long length in bytes of the records to be kept
+     * @throws IOException when the Journal file could not be truncated
+     */
+    private void truncateJournal(long journalLength) throws IOException {
+        RandomAccessFile journalFile = new RandomAccessFile(mJournalFile, "rw");
+        try {
+            journalFile.setLength(journalLength);
+        } finally {
+            journalFile.close();
+        }
+    }
+
+    /**
+     * Method that writes the header of the Journal with the record of the quiz started.
+     * Called on the background thread.
+     *
+     * @param totalNumberOfQuestions is the Integer number of questions available
+     * @param questionIndices        is the Integer array of the identifiers of the Questions in the order of the quiz
+     * @param millisRemaining        is the Long millis allotted for the quiz
+     * @throws IOException when the record could not be written
+     */
+    private void writeStartRecord(int totalNumberOfQuestions, int[] questionIndices, long millisRemaining) throws IOException {
+        mJournalDataStream.writeInt(JOURNAL_MAGIC);
+        mJournalDataStream.writeByte(JOURNAL_VERSION);
+        mJournalDataStream.writeByte(RECORD_START);
+        mJournalDataStream.writeShort(totalNumberOfQuestions);
+        mJournalDataStream.writeInt((int) millisRemaining);
+        mJournalDataStream.writeShort(questionIndices.length);
+        for (int questionIndex : questionIndices) {
+            mJournalDataStream.writeShort(questionIndex);
+        }
+    }
+
+    /**
+     * Method that writes the record of a question answered. Called on the background thread.
+     *
+     * @param questionNo      is the Integer number of the question answered, starting from 1
+     * @param userScore       is the Integer score of the User after the question was answered
+     * @param millisRemaining is the Long millis of the quiz remaining
+     * @throws IOException when the record could not be written
+     */
+    private void writeAnswerRecord(int questionNo, int userScore, long millisRemaining) throws IOException {
+        mJournalDataStream.writeByte(RECORD_ANSWER);
+        mJournalDataStream.writeShort(questionNo);
+        mJournalDataStream.writeShort(userScore);
+        mJournalDataStream.writeInt((int) millisRemaining);
+    }
+
+    /**
+     * Method that schedules the sync of the records appended, batching the records
+     * appended within the delay into a single sync
+     */
+    private void scheduleSync() {
+        mWriterHandler.removeCallbacks(mSyncRunnable);
+        mWriterHandler.postDelayed(mSyncRunnable, SYNC_BATCH_DELAY_MILLIS);
+    }
+
+    /**
+     * Method that writes the records buffered to the Journal file, and syncs the file to the disk.
+     * Called on the background thread.
+     */
+    private void syncJournal() {
+        if (mJournalDataStream == null) {
+            return;
+        }
+        try {
+            mJournalDataStream.flush();
+            mJournalOutputStream.getFD().sync();
+        } catch (IOException e) {
+            Log.e(TAG, "syncJournal: Failed to sync the Journal", e);
+        }
+    }
+
+    /**
+     * Method that closes the Journal file being appended if any. Called on the background thread.
+     */
+    private void closeJournal() {
+        if (mJournalDataStream != null) {
+            try {
+                mJournalDataStream.close();
+            } catch (IOException e) {
+                Log.e(TAG, "closeJournal: Failed to close the Journal", e);
+            }
+            mJournalDataStream = null;
+            mJournalOutputStream = null;
+        }
+    }
+
+    /**
+     * Class that holds the progress of the quiz replayed from the Journal
+     */
+    public static class SessionSnapshot {
+        //Stores total number of questions in the resources
+        final int mTotalNumberOfQuestions;
+        //Stores the identifiers of the Questions in the order of the quiz
+        final int[] mQuestionIndexOrder;
+        //Stores the number of questions answered
+        int mAnsweredQuestionCount;
+        //Stores the score of the User
+        int mUserScore;
+        //Stores the millis of the quiz remaining
+        long mMillisRemaining;
+        //Stores the length in bytes of the records replayed; 0 when not replayed from the Journal
+        long mJournalLength;
+
+        /**
+         * @param totalNumberOfQuestions is the Integer number of questions available
+         * @param questionIndexOrder     is the Integer array of the identifiers of the Questions in the order of the quiz
+         * @param millisRemaining        is the Long millis allotted for the quiz
+         */
+        SessionSnapshot(int totalNumberOfQuestions, int[] questionIndexOrder, long millisRemaining) {
+            mTotalNumberOfQuestions = totalNumberOfQuestions;
+            mQuestionIndexOrder = questionIndexOrder;
+            mMillisRemaining = millisRemaining;
+        }
+
+        /**
+         * Constructor of the snapshot of a quiz in progress, for rebuilding the Journal
+         *
+         * @param totalNumberOfQuestions is the Integer number of questions available
+         * @param questionIndexOrder     is the Integer array of the identifiers of the Questions in the order of the quiz
+         * @param answeredQuestionCount  is the Integer number of questions answered
+         * @param userScore              is the Integer score of the User
+         * @param millisRemaining        is the Long millis of the quiz remaining
+         */
+        SessionSnapshot(int totalNumberOfQuestions, int[] questionIndexOrder,
+                        int answeredQuestionCount, int userScore, long millisRemaining) {
+            this(totalNumberOfQuestions, questionIndexOrder, millisRemaining);
+            mAnsweredQuestionCount = answeredQuestionCount;
+            mUserScore = userScore;
+        }
+    }
+
+}
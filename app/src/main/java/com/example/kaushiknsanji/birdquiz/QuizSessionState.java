@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+
+/**
+ * Parcelable class that holds the order of the Questions of the quiz, the order of the Options
+ * of the current Question, the Options that are its Answer Keys, and the Options selected by the user,
+ * in their primitive form.
+ * The Options are identified by their position (1 to 4) on the screen, and the selection
+ * is stored as a bitmask of these positions.
+ *
+ * @author Kaushik N Sanji
+ */
+public class QuizSessionState implements Parcelable {
+
+    /**
+     * Implementation of {@link android.os.Parcelable.Creator} interface
+     * to generate instances of this Parcelable class {@link QuizSessionState} from a {@link Parcel}
+     */
+    public static final Creator<QuizSessionState> CREATOR = new Creator<QuizSessionState>() {
+        /**
+         * Creates an instance of this Parcelable class {@link QuizSessionState} from
+         * a given Parcel whose data had been previously written by #writeToParcel() method
+         *
+         * @param in The Parcel to read the object's data from.
+         * @return Returns a new instance of this Parcelable class {@link QuizSessionState}
+         */
+        @Override
+        public QuizSessionState createFromParcel(Parcel in) {
+            return new QuizSessionState(in);
+        }
+
+        /**
+         * Creates a new array of this Parcelable class {@link QuizSessionState}
+         *
+         * @param size Size of the array
+         * @return Returns an array of this Parcelable class {@link QuizSessionState}, with every entry
+         * initialized to null
+         */
+        @Override
+        public QuizSessionState[] newArray(int size) {
+            return new QuizSessionState[size];
+        }
+    };
+
+    //Stores the identifiers of the Questions in the order of the quiz
+    private final int[] mQuestionIndexOrder;
+    //Stores the indices of the Options of the current Question in the order shown
+    private int[] mOptionIndexOrder = new int[0];
+    //Stores the indices of the Options of the current Question that are the Answer Keys, as a bitmask
+    private int mKeyOptionIndexMask;
+    //Stores the positions of the Options selected by the user, as a bitmask
+    private int mSelectedOptionMask;
+
+    /**
+     * @param questionIndexOrder is the Integer array of the identifiers of the Questions in the order of the quiz
+     */
+    public QuizSessionState(int[] questionIndexOrder) {
+        mQuestionIndexOrder = questionIndexOrder;
+    }
+
+    /**
+     * Parcelable constructor that de-serializes the data from a Parcel passed
+     *
+     * @param in The Parcel to read the object's data from.
+     */
+    protected QuizSessionState(Parcel in) {
+        mQuestionIndexOrder = in.createIntArray();
+        mOptionIndexOrder = in.createIntArray();
+        mKeyOptionIndexMask = in.readInt();
+        mSelectedOptionMask = in.readInt();
+    }
+
+    /**
+     * @return Integer array of the identifiers of the Questions in the order of the quiz
+     */
+    public int[] getQuestionIndexOrder() {
+        return mQuestionIndexOrder;
+    }
+
+    /**
+     * Method that returns the identifier of the Question at the position passed
+     *
+     * @param questionNo is the Integer position of the Question in the order, starting from 0
+     * @return Integer identifier of the Question
+     */
+    public int getQuestionIndex(int questionNo) {
+        return mQuestionIndexOrder[questionNo];
+    }
+
+    /**
+     * @return Integer array of the indices of the Options of the current Question in the order shown
+     */
+    public int[] getOptionIndexOrder() {
+        return mOptionIndexOrder;
+    }
+
+    /**
+     * @param optionIndexOrder is the Integer array of the indices of the Options of the current Question
+     *                         in the order shown
+     */
+    public void setOptionIndexOrder(int[] optionIndexOrder) {
+        mOptionIndexOrder = optionIndexOrder;
+    }
+
+    /**
+     * @return Integer bitmask of the indices of the Options of the current Question that are the Answer Keys,
+     * for grading through the {@link AnswerGradingEngine}
+     */
+    public int getKeyOptionIndexMask() {
+        return mKeyOptionIndexMask;
+    }
+
+    /**
+     * @param keyOptionIndexMask is the Integer bitmask of the indices of the Options of the current Question
+     *                           that are the Answer Keys, computed once through the {@link AnswerGradingEngine}
+     */
+    public void setKeyOptionIndexMask(int keyOptionIndexMask) {
+        mKeyOptionIndexMask = keyOptionIndexMask;
+    }
+
+    /**
+     * Method that marks the Option at the position passed as selected or deselected
+     *
+     * @param optionNo is the Integer position of the Option on the screen (1 to 4)
+     * @param selected is a Boolean that indicates whether the Option was selected or deselected
+     */
+    public void setOptionSelected(int optionNo, boolean selected) {
+        if (selected) {
+            mSelectedOptionMask |= (1 << optionNo);
+        } else {
+            mSelectedOptionMask &= ~(1 << optionNo);
+        }
+    }
+
+    /**
+     * Method that marks the Option at the position passed as the only Option selected
+     *
+     * @param optionNo is the Integer position of the Option on the screen (1 to 4)
+     */
+    public void setOnlyOptionSelected(int optionNo) {
+        mSelectedOptionMask = (1 << optionNo);
+    }
+
+    /**
+     * Method that returns whether the Option at the position passed is selected
+     *
+     * @param optionNo is the Integer position of the Option on the screen (1 to 4)
+     * @return True when the Option is selected; false otherwise
+     */
+    public boolean isOptionSelected(int optionNo) {
+        return (mSelectedOptionMask & (1 << optionNo)) != 0;
+    }
+
+    /**
+     * @return True when any of the Options is selected; false otherwise
+     */
+    public boolean hasSelectedOptions() {
+        return mSelectedOptionMask != 0;
+    }
+
+    /**
+     * Method that returns the Options selected as a bitmask of their indices in the Question,
+     * for grading through the {@link AnswerGradingEngine}
+     *
+     * @return Integer bitmask where the bit of the index of an Option is set when the Option is selected
+     */
+    public int getSelectedOptionIndexMask() {
+        int selectedOptionIndexMask = 0;
+        for (int optionNo = 1; optionNo <= mOptionIndexOrder.length; optionNo++) {
+            if (isOptionSelected(optionNo)) {
+                selectedOptionIndexMask |= (1 << mOptionIndexOrder[optionNo - 1]);
+            }
+        }
+        return selectedOptionIndexMask;
+    }
+
+    /**
+     * Method that clears the Options selected
+     */
+    public void clearSelectedOptions() {
+        mSelectedOptionMask = 0;
+    }
+
+    /**
+     * Flattens/Serializes the object of {@link QuizSessionState} into a Parcel
+     *
+     * @param dest  The Parcel in which the object should be written
+     * @param flags Additional flags about how the object should be written.
+     */
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeIntArray(mQuestionIndexOrder);
+        dest.writeIntArray(mOptionIndexOrder);
+        dest.writeInt(mKeyOptionIndexMask);
+        dest.writeInt(mSelectedOptionMask);
+    }
+
+    /**
+     * Describes the kinds of special objects contained in this Parcelable instance's marshaled representation.
+     *
+     * @return a bitmask indicating the set of special object types marshaled by this Parcelable object instance.
+     */
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+}
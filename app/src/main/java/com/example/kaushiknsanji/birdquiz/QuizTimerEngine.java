@@ -0,0 +1,168 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.support.annotation.MainThread;
+
+/**
+ * Class that runs the countdown of the quiz against a deadline on the monotonic clock
+ * {@link SystemClock#elapsedRealtime()}. The time remaining is always computed from the deadline,
+ * and not accumulated from the ticks, hence the countdown does not drift across the pauses.
+ * The ticks are delivered on the main thread through a single {@link Handler} Runnable,
+ * aligned to the boundaries of the tick interval. Pausing and resuming do not allocate.
+ *
+ * @author Kaushik N Sanji
+ */
+public class QuizTimerEngine implements Runnable {
+
+    //Handler of the main thread that delivers the ticks
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    //Stores the interval in millis between the ticks
+    private final long mTickIntervalMillis;
+    //Listener of the ticks and the finish of the countdown
+    private final TimerListener mTimerListener;
+    //Stores the deadline of the countdown on the elapsedRealtime clock, while running
+    private long mDeadlineElapsedRealtime;
+    //Stores the millis remaining, while paused
+    private long mPausedMillisRemaining;
+    //Stores whether the countdown is running
+    private boolean mRunning;
+
+    /**
+     * @param tickIntervalMillis is the Long interval in millis between the ticks
+     * @param timerListener      is the {@link TimerListener} to receive the ticks and the finish of the countdown
+     */
+    public QuizTimerEngine(long tickIntervalMillis, TimerListener timerListener) {
+        mTickIntervalMillis = tickIntervalMillis;
+        mTimerListener = timerListener;
+    }
+
+    /**
+     * Method that sets the millis remaining of a countdown that is not running,
+     * which is started on {@link #resume()}
+     *
+     * @param millisRemaining is the Long millis for which the countdown needs to run
+     */
+    @MainThread
+    public void setMillisRemaining(long millisRemaining) {
+        if (!mRunning) {
+            mPausedMillisRemaining = millisRemaining;
+        }
+    }
+
+    /**
+     * Method that returns the millis remaining, computed from the deadline while running
+     *
+     * @return Long value of the millis remaining, never less than 0
+     */
+    public long getMillisRemaining() {
+        if (mRunning) {
+            return Math.max(0, mDeadlineElapsedRealtime - SystemClock.elapsedRealtime());
+        }
+        return mPausedMillisRemaining;
+    }
+
+    /**
+     * @return Boolean that indicates whether the countdown is running
+     */
+    public boolean isRunning() {
+        return mRunning;
+    }
+
+    /**
+     * Method that starts/resumes the countdown for the millis remaining,
+     * when it is not running already
+     *
+     * @return True when the countdown was started; false when it was already running
+     */
+    @MainThread
+    public boolean resume() {
+        if (mRunning) {
+            return false;
+        }
+        mDeadlineElapsedRealtime = SystemClock.elapsedRealtime() + mPausedMillisRemaining;
+        mRunning = true;
+        //Delivering the first tick right away
+        mHandler.removeCallbacks(this);
+        mHandler.post(this);
+        return true;
+    }
+
+    /**
+     * Method that pauses the countdown, retaining the millis remaining
+     *
+     * @return True when the countdown was paused; false when it was not running
+     */
+    @MainThread
+    public boolean pause() {
+        if (!mRunning) {
+            return false;
+        }
+        mPausedMillisRemaining = getMillisRemaining();
+        mRunning = false;
+        mHandler.removeCallbacks(this);
+        return true;
+    }
+
+    /**
+     * Delivers a tick, and schedules the next tick at the next boundary of the interval
+     * in the time remaining, or finishes the countdown when no time remains.
+     */
+    @Override
+    public void run() {
+        if (!mRunning) {
+            return;
+        }
+
+        long millisRemaining = getMillisRemaining();
+        if (millisRemaining == 0) {
+            //Finishing the countdown
+            mRunning = false;
+            mPausedMillisRemaining = 0;
+            mTimerListener.onTimerTick(0);
+            mTimerListener.onTimerFinish();
+            return;
+        }
+
+        mTimerListener.onTimerTick(millisRemaining);
+
+        //Scheduling the next tick when the remaining time crosses the next interval boundary
+        long delayMillis = millisRemaining % mTickIntervalMillis;
+        mHandler.postDelayed(this, (delayMillis == 0) ? mTickIntervalMillis : delayMillis);
+    }
+
+    /**
+     * Listener interface to receive the ticks and the finish of the countdown, on the main thread
+     */
+    public interface TimerListener {
+        /**
+         * Callback Method of {@link TimerListener} invoked on every tick of the countdown
+         *
+         * @param millisRemaining is the remaining Millis of the countdown
+         */
+        void onTimerTick(long millisRemaining);
+
+        /**
+         * Callback Method of {@link TimerListener} invoked when the countdown finishes
+         */
+        void onTimerFinish();
+    }
+
+}
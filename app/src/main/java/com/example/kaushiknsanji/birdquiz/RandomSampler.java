@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Class that picks a random order of distinct indices through a partial Fisher-Yates shuffle,
+ * in time linear to the number of indices and without retrying on the indices already picked.
+ * A sampler created with a seed generates the same orders, for reproducing a quiz.
+ *
+ * @author Kaushik N Sanji
+ */
+public class RandomSampler {
+
+    //Random number generator of the sampler
+    private final Random mRandom;
+
+    /**
+     * Constructor of a {@link RandomSampler} that generates a different order on every run
+     */
+    public RandomSampler() {
+        mRandom = new Random();
+    }
+
+    /**
+     * Constructor of a {@link RandomSampler} that generates the same orders for the same seed
+     *
+     * @param seed is the Long value of the seed of the random number generator
+     */
+    public RandomSampler(long seed) {
+        mRandom = new Random(seed);
+    }
+
+    /**
+     * Method that picks the number of distinct indices requested, in a random order
+     *
+     * @param length    is the Integer number of indices to pick from, which are 0 to length - 1
+     * @param sublength is the Integer number of indices to be picked, not more than the length
+     * @return Integer array of the indices picked
+     */
+    public int[] sample(int length, int sublength) {
+        if (sublength < 0 || sublength > length) {
+            throw new IllegalArgumentException("Cannot pick " + sublength + " indices out of " + length);
+        }
+
+        int[] indices = new int[length];
+        for (int index = 0; index < length; index++) {
+            indices[index] = index;
+        }
+
+        //Shuffling only the leading part of the array that is picked
+        for (int index = 0; index < sublength; index++) {
+            int swapIndex = index + mRandom.nextInt(length - index);
+            int value = indices[swapIndex];
+            indices[swapIndex] = indices[index];
+            indices[index] = value;
+        }
+
+        return sublength == length ? indices : Arrays.copyOf(indices, sublength);
+    }
+
+}
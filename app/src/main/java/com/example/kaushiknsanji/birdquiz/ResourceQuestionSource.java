@@ -0,0 +1,133 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.content.Context;
+import android.content.res.Resources;
+
+/**
+ * {@link QuestionSource} that loads the Questions from the string-arrays of "quiz_strings.xml",
+ * looking up the "option_N_array", "key_N_array" and "hint_N_array" of a Question by their name.
+ * Slower than the {@link QuestionBankLoader}, but reflects the resources of the current configuration.
+ *
+ * @author Kaushik N Sanji
+ */
+public class ResourceQuestionSource implements QuestionSource {
+
+    //Resources of the app
+    private final Resources mResources;
+    //Package name of the app for looking up the resources by name
+    private final String mPackageName;
+    //Stores the list of questions, read on first access
+    private String[] mQuestionArray;
+    //Sampler that picks the Questions at random
+    private final RandomSampler mRandomSampler = new RandomSampler();
+
+    /**
+     * @param context is the Context of the app
+     */
+    public ResourceQuestionSource(Context context) {
+        mResources = context.getResources();
+        mPackageName = context.getPackageName();
+    }
+
+    /**
+     * Method that returns the number of Questions available
+     *
+     * @return Integer number of Questions
+     */
+    @Override
+    public int getQuestionCount() {
+        return getQuestionArray().length;
+    }
+
+    /**
+     * Method that loads the Question from the string-arrays
+     *
+     * @param questionIndex is the Integer identifier of the Question, from 0 to the number of Questions - 1
+     * @return The {@link Question} loaded
+     */
+    @Override
+    public Question loadQuestion(int questionIndex) {
+        return new Question(questionIndex,
+                getQuestionArray()[questionIndex],
+                getStringArrayResourceByName("option", questionIndex),
+                getStringArrayResourceByName("key", questionIndex),
+                getStringArrayResourceByName("hint", questionIndex)
+        );
+    }
+
+    /**
+     * Method that loads the Questions passed one after the other from the string-arrays
+     *
+     * @param questionIndices is the Integer array of the identifiers of the Questions
+     * @return Array of the {@link Question}s loaded, in the order of their identifiers passed
+     */
+    @Override
+    public Question[] loadQuestions(int[] questionIndices) {
+        Question[] questions = new Question[questionIndices.length];
+        for (int index = 0; index < questionIndices.length; index++) {
+            questions[index] = loadQuestion(questionIndices[index]);
+        }
+        return questions;
+    }
+
+    /**
+     * Method that picks the number of Questions requested at random
+     *
+     * @param count is the Integer number of Questions required, not more than the number of Questions available
+     * @return Integer array of the identifiers of the Questions picked, in a random order
+     */
+    @Override
+    public int[] loadRandomQuestionIndices(int count) {
+        int questionCount = getQuestionCount();
+        return mRandomSampler.sample(questionCount, Math.min(count, questionCount));
+    }
+
+    /**
+     * Method that returns the list of questions from the Array resource "question_array"
+     *
+     * @return String array of the questions
+     */
+    private synchronized String[] getQuestionArray() {
+        if (mQuestionArray == null) {
+            mQuestionArray = mResources.getStringArray(R.array.question_array);
+        }
+        return mQuestionArray;
+    }
+
+    /**
+     * Method that returns the String array retrieved from the array resource
+     * through the identifier name generated using the lookup string
+     * and the question index passed
+     *
+     * @param lookupStr     is the String that identifies the kind of the array.
+     *                      Possible values are "option", "key", "hint"
+     * @param questionIndex is the question index to be looked up in the list of questions loaded
+     * @return String array of the identified resource
+     */
+    private String[] getStringArrayResourceByName(String lookupStr, int questionIndex) {
+
+        //Preparing the identifier string to lookup
+        String identifierStr = lookupStr + "_" + (questionIndex + 1) + "_array";
+        //Retrieving the resource id
+        int identifier = mResources.getIdentifier(identifierStr, "array", mPackageName);
+
+        return mResources.getStringArray(identifier); //Returning the array retrieved
+    }
+
+}
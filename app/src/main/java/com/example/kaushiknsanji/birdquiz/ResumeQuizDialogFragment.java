@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import android.app.Activity;
+import android.app.AlertDialog;
+import android.app.Dialog;
+import android.app.DialogFragment;
+import android.content.Context;
+import android.content.DialogInterface;
+import android.os.Bundle;
+
+/**
+ * DialogFragment class for prompting the user to resume or discard the quiz that was not ended
+ * as the app was killed, which is recorded in the {@link QuizSessionJournal}
+ *
+ * @author Kaushik N Sanji
+ */
+public class ResumeQuizDialogFragment extends DialogFragment {
+
+    //Tag of the DialogFragment
+    public static final String TAG_RESUME_QUIZ_DIALOG = "ResumeQuizDialogFragment";
+    //Bundle Key constants
+    private static final String ANSWERED_QUESTION_COUNT_INT_KEY = "AnsweredQuestionCount";
+    private static final String NUMBER_OF_QUESTIONS_INT_KEY = "NoOfQuestions";
+    private static final String SCORE_INT_KEY = "Score";
+    //Instance of the interface to deliver action events
+    private ResumeQuizDialogListener mListener;
+
+    //Creating a static instance of the DialogFragment
+    static ResumeQuizDialogFragment newInstance(int answeredQuestionCount, int noOfQuestions, int score) {
+        ResumeQuizDialogFragment resumeQuizDialogFragment = new ResumeQuizDialogFragment();
+        //Storing Argument values: START
+        Bundle args = new Bundle();
+        args.putInt(ANSWERED_QUESTION_COUNT_INT_KEY, answeredQuestionCount);
+        args.putInt(NUMBER_OF_QUESTIONS_INT_KEY, noOfQuestions);
+        args.putInt(SCORE_INT_KEY, score);
+        resumeQuizDialogFragment.setArguments(args);
+        //Storing Argument values: END
+        return resumeQuizDialogFragment; //Returning the instance
+    }
+
+    @Override
+    public void onAttach(Context context) {
+        super.onAttach(context);
+        try {
+            mListener = (ResumeQuizDialogListener) context;
+        } catch (ClassCastException e) {
+            throw new ClassCastException(context.toString() + " must implement ResumeQuizDialogListener");
+        }
+    }
+
+    //Attaching the Activity to the fragment
+    @Override
+    public void onAttach(Activity activity) {
+        super.onAttach(activity);
+        try {
+            mListener = (ResumeQuizDialogListener) activity;
+        } catch (ClassCastException e) {
+            throw new ClassCastException(activity.toString() + " must implement ResumeQuizDialogListener");
+        }
+    }
+
+    //Creating the Dialog to be shown
+    @Override
+    public Dialog onCreateDialog(Bundle savedInstanceState) {
+        //Retrieving the arguments passed
+        Bundle args = getArguments();
+        int answeredQuestionCount = args.getInt(ANSWERED_QUESTION_COUNT_INT_KEY);
+        int noOfQuestions = args.getInt(NUMBER_OF_QUESTIONS_INT_KEY);
+        int score = args.getInt(SCORE_INT_KEY);
+
+        //Building the Alert Dialog with the progress of the quiz
+        AlertDialog.Builder dialogBuilder = new AlertDialog.Builder(getActivity());
+        dialogBuilder.setTitle(R.string.resume_quiz_title_text);
+        dialogBuilder.setMessage(getString(R.string.resume_quiz_message_text, answeredQuestionCount, noOfQuestions, score));
+
+        //Setting Positive Button and its Listener
+        dialogBuilder.setPositiveButton(R.string.resume_quiz_button_text, new DialogInterface.OnClickListener() {
+            @Override
+            public void onClick(DialogInterface dialog, int which) {
+                mListener.onResumeQuizButtonClicked();
+            }
+        });
+
+        //Setting Negative Button and its Listener
+        dialogBuilder.setNegativeButton(R.string.discard_quiz_button_text, new DialogInterface.OnClickListener() {
+            @Override
+            public void onClick(DialogInterface dialog, int which) {
+                mListener.onDiscardQuizButtonClicked();
+            }
+        });
+
+        return dialogBuilder.create(); //Returning the dialog created
+    }
+
+    //Called after the Dialog has been created/displayed
+    @Override
+    public void onActivityCreated(Bundle savedInstanceState) {
+        super.onActivityCreated(savedInstanceState);
+        //Preventing cancellation through back button or on touch of the screen, as a choice is required
+        getDialog().setCancelable(false);
+    }
+
+    /**
+     * Activity that creates instance of this {@link DialogFragment}
+     * needs to implement the interface to receive event callbacks
+     */
+    interface ResumeQuizDialogListener {
+        /**
+         * Callback Method of {@link ResumeQuizDialogListener}
+         * invoked when the user clicks on the Resume Button to continue the quiz that was not ended
+         */
+        void onResumeQuizButtonClicked();
+
+        /**
+         * Callback Method of {@link ResumeQuizDialogListener}
+         * invoked when the user clicks on the Discard Button to drop the quiz that was not ended
+         */
+        void onDiscardQuizButtonClicked();
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import java.util.List;
+
+/**
+ * Class that matches the answer of a Textual Question with its Keys, tolerating the differences
+ * in case, spacing, punctuation and small typos. The first Key is the answer of the Question,
+ * and the rest are its accepted synonyms. The Keys are normalized once when the matcher is created,
+ * and an answer is matched through an edit distance bounded by the length of the Key,
+ * reusing the buffers of the matcher. Hence not thread-safe; to be used from the main thread.
+ *
+ * @author Kaushik N Sanji
+ */
+public class TextualAnswerMatcher {
+
+    //Lengths of the Keys up to which no typo, and one typo is tolerated; two typos beyond that
+    private static final int EXACT_MATCH_MAX_LENGTH = 3;
+    private static final int SINGLE_TYPO_MAX_LENGTH = 7;
+
+    //Stores the normalized Keys
+    private final char[][] mNormalizedKeys;
+    //Buffer of the normalized answer being matched
+    private char[] mAnswerBuffer = new char[32];
+    //Rows of the edit distance being computed
+    private int[] mPreviousRow = new int[33];
+    private int[] mCurrentRow = new int[33];
+
+    /**
+     * @param keys is the List of the Keys, the answer followed by its accepted synonyms
+     */
+    public TextualAnswerMatcher(List<String> keys) {
+        mNormalizedKeys = new char[keys.size()][];
+        for (int index = 0; index < mNormalizedKeys.length; index++) {
+            String key = keys.get(index);
+            char[] buffer = new char[key.length()];
+            int length = normalize(key, buffer);
+            mNormalizedKeys[index] = new char[length];
+            System.arraycopy(buffer, 0, mNormalizedKeys[index], 0, length);
+        }
+    }
+
+    /**
+     * Method that writes the normalized form of the text into the buffer passed.
+     * Only the letters and digits are retained, in lower case.
+     *
+     * @param text   is the CharSequence to be normalized
+     * @param buffer is the char array to write into, at least as long as the text
+     * @return Integer length of the normalized form
+     */
+    private static int normalize(CharSequence text, char[] buffer) {
+        int length = 0;
+        for (int index = 0, textLength = text.length(); index < textLength; index++) {
+            char c = text.charAt(index);
+            if (Character.isLetterOrDigit(c)) {
+                buffer[length++] = Character.toLowerCase(c);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Method that returns the number of typos tolerated for a Key of the length passed
+     *
+     * @param keyLength is the Integer length of the normalized Key
+     * @return Integer value of the max edit distance
+     */
+    private static int getMaxDistance(int keyLength) {
+        if (keyLength <= EXACT_MATCH_MAX_LENGTH) {
+            return 0;
+        } else if (keyLength <= SINGLE_TYPO_MAX_LENGTH) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * Method that returns whether the answer matches any of the Keys
+     *
+     * @param answer is the CharSequence containing the answer submitted
+     * @return True when the answer matches a Key; false otherwise
+     */
+    public boolean matches(CharSequence answer) {
+        if (answer.length() > mAnswerBuffer.length) {
+            //Growing the buffers only for an unusually long answer
+            mAnswerBuffer = new char[answer.length()];
+            mPreviousRow = new int[answer.length() + 1];
+            mCurrentRow = new int[answer.length() + 1];
+        }
+        int answerLength = normalize(answer, mAnswerBuffer);
+        if (answerLength == 0) {
+            return false;
+        }
+
+        for (char[] normalizedKey : mNormalizedKeys) {
+            if (isWithinDistance(normalizedKey, answerLength, getMaxDistance(normalizedKey.length))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Method that returns whether the edit distance between the Key and the normalized answer
+     * is within the max distance passed, exiting as soon as the distance exceeds it
+     *
+     * @param key          is the char array of the normalized Key
+     * @param answerLength is the Integer length of the normalized answer in the buffer
+     * @param maxDistance  is the Integer value of the max edit distance
+     * @return True when the answer is within the max distance of the Key; false otherwise
+     */
+    private boolean isWithinDistance(char[] key, int answerLength, int maxDistance) {
+        if (Math.abs(key.length - answerLength) > maxDistance) {
+            //Distance is at least the difference of the lengths
+            return false;
+        }
+
+        int[] previousRow = mPreviousRow;
+        int[] currentRow = mCurrentRow;
+        for (int answerIndex = 0; answerIndex <= answerLength; answerIndex++) {
+            previousRow[answerIndex] = answerIndex;
+        }
+
+        for (int keyIndex = 1; keyIndex <= key.length; keyIndex++) {
+            currentRow[0] = keyIndex;
+            int rowMinDistance = currentRow[0];
+            for (int answerIndex = 1; answerIndex <= answerLength; answerIndex++) {
+                int substitutionCost = (key[keyIndex - 1] == mAnswerBuffer[answerIndex - 1]) ? 0 : 1;
+                currentRow[answerIndex] = Math.min(
+                        Math.min(currentRow[answerIndex - 1], previousRow[answerIndex]) + 1,
+                        previousRow[answerIndex - 1] + substitutionCost
+                );
+                rowMinDistance = Math.min(rowMinDistance, currentRow[answerIndex]);
+            }
+
+            if (rowMinDistance > maxDistance) {
+                //Exiting early as the distance can only grow from here
+                return false;
+            }
+
+            //Swapping the rows for the next character of the Key
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+
+        return previousRow[answerLength] <= maxDistance;
+    }
+
+}
@@ -37,7 +37,9 @@ import android.widget.Toast;
  */
 public class WelcomeActivity extends AppCompatActivity
         implements View.OnClickListener,
-        QuestionNumberPickerDialogFragment.QuestionNumberPickedListener {
+        QuestionNumberPickerDialogFragment.QuestionNumberPickedListener,
+        ResumeQuizDialogFragment.ResumeQuizDialogListener,
+        QuestionRepository.OnPreparedListener {
 
     private static final String TAG = WelcomeActivity.class.getSimpleName();
     //Bundle Key Constant for saving/restoring
@@ -47,31 +49,21 @@ public class WelcomeActivity extends AppCompatActivity
     //Stores the Views that would be accessed frequently
     private TextView mInfoTextView;
     private TextView mTitleTextView;
+    private Button mBeginQuizButton;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        setContentView(R.layout.activity_welcome);
 
         Log.i(TAG, "onCreate: Started");
 
+        setContentView(R.layout.activity_welcome);
+
         //Retrieving the Views that will be accessed frequently: START
         mInfoTextView = findViewById(R.id.info_text_id);
         mTitleTextView = findViewById(R.id.title_text_id);
         //Retrieving the Views that will be accessed frequently: END
 
-        if (savedInstanceState == null) {
-
-            //Retrieving the list of questions from Array resource "question_array"
-            String[] questionArray = getResources().getStringArray(R.array.question_array);
-            mTotalNumberOfQuestions = questionArray.length;
-
-            //Setting the Info Text
-            setInfoTextView();
-
-            Log.i(TAG, "onCreate: Total Number of Questions found: " + mTotalNumberOfQuestions);
-        }
-
         //Retrieving the current orientation
         int screenOrientation = getResources().getConfiguration().orientation;
 
@@ -79,9 +71,66 @@ public class WelcomeActivity extends AppCompatActivity
         setTitleTextView(screenOrientation);
 
         //Setting the listener on the "Begin Quiz" Button (R.id.begin_quiz_button_id)
-        Button beginQuizButton = findViewById(R.id.begin_quiz_button_id);
-        beginQuizButton.setOnClickListener(this);
+        mBeginQuizButton = findViewById(R.id.begin_quiz_button_id);
+        mBeginQuizButton.setOnClickListener(this);
+
+        //Disabling the "Begin Quiz" Button till the questions are prepared in the background,
+        //as the question database is opened and imported on its first launch
+        mBeginQuizButton.setEnabled(false);
+        QuestionRepository.getInstance(this).prepare(this);
+
+        if (savedInstanceState == null) {
+            //Prompting to resume or discard the quiz that was not ended as the app was killed, if any.
+            //The dialog shown is restored by the FragmentManager on the config changes
+            promptUnfinishedQuiz();
+        }
+
+    }
+
+    /**
+     * Method that replays the {@link QuizSessionJournal} to find the quiz that was not ended
+     * as the app was killed, and prompts the user to resume or discard it. The Journal is
+     * discarded by the replay when it cannot be resumed.
+     */
+    private void promptUnfinishedQuiz() {
+        QuizSessionJournal.SessionSnapshot snapshot = QuizSessionJournal.getInstance(this).replay();
+        if (snapshot != null) {
+            //Initializing the Resume Quiz Dialog with the progress of the quiz
+            ResumeQuizDialogFragment resumeQuizDialogFragment = ResumeQuizDialogFragment.newInstance(
+                    snapshot.mAnsweredQuestionCount, snapshot.mQuestionIndexOrder.length, snapshot.mUserScore
+            );
+            //Displaying the dialog to capture the choice
+            resumeQuizDialogFragment.show(getFragmentManager(), ResumeQuizDialogFragment.TAG_RESUME_QUIZ_DIALOG);
+        }
+    }
+
+    //Called by the Activity when it is being destroyed
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+
+        //Not waiting for the questions to be prepared anymore
+        QuestionRepository.getInstance(this).removeOnPreparedListener(this);
+    }
+
+    /**
+     * Callback Method of {@link QuestionRepository.OnPreparedListener}
+     * invoked when the questions are prepared in the background
+     *
+     * @param questionCount is the Integer number of Questions available
+     */
+    @Override
+    public void onQuestionsPrepared(int questionCount) {
+        Log.i(TAG, "onQuestionsPrepared: Total Number of Questions found: " + questionCount);
+
+        //Updating the number of questions available
+        mTotalNumberOfQuestions = questionCount;
+
+        //Setting the Info Text
+        setInfoTextView();
 
+        //Enabling the "Begin Quiz" Button
+        mBeginQuizButton.setEnabled(true);
     }
 
     //Called by the Activity before Stop, to save the activity's state in the Bundle
@@ -170,6 +219,44 @@ public class WelcomeActivity extends AppCompatActivity
         questionNumberPickerDialogFragment.show(getFragmentManager(), "QuestionNumberPicker");
     }
 
+    /**
+     * Method that launches the {@link QuizActivity} for resuming the quiz recorded in the {@link QuizSessionJournal}
+     */
+    private void resumeQuiz() {
+        Log.i(TAG, "resumeQuiz: Resuming the quiz from the Journal");
+
+        //Preparing the Intent call for {@link .QuizActivity}
+        Intent quizActivityIntent = new Intent(this, QuizActivity.class);
+        quizActivityIntent.putExtra(getString(R.string.resume_session_opt_value), true);
+
+        //Starting the {@link .QuizActivity}
+        startActivity(quizActivityIntent);
+
+        //Exiting the current activity once done
+        finish();
+    }
+
+    /**
+     * Callback Method of {@link ResumeQuizDialogFragment.ResumeQuizDialogListener}
+     * invoked when the user clicks on the Resume Button
+     */
+    @Override
+    public void onResumeQuizButtonClicked() {
+        resumeQuiz();
+    }
+
+    /**
+     * Callback Method of {@link ResumeQuizDialogFragment.ResumeQuizDialogListener}
+     * invoked when the user clicks on the Discard Button
+     */
+    @Override
+    public void onDiscardQuizButtonClicked() {
+        Log.i(TAG, "onDiscardQuizButtonClicked: Discarding the quiz recorded in the Journal");
+
+        //Deleting the Journal, as the quiz will not be resumed
+        QuizSessionJournal.getInstance(this).clear();
+    }
+
     /**
      * Callback Method of {@link QuestionNumberPickerDialogFragment.QuestionNumberPickedListener}
      * invoked when the user clicks on the SET Button
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Local unit tests of the {@link AnswerGradingEngine}
+ *
+ * @author Kaushik N Sanji
+ */
+public class AnswerGradingEngineTest {
+
+    //Tolerance of the comparison of the grades
+    private static final double DELTA = 1e-9;
+
+    //Options of a CheckBox based Question, with the Keys at the indices 1 and 3
+    private static final String[] OPTIONS = {"Sparrow", "Robin", "Crow", "Wren"};
+    private static final int KEY_MASK = (1 << 1) | (1 << 3);
+
+    @Test
+    public void createKeyMask_setsBitsOfKeyIndices() throws Exception {
+        assertEquals(KEY_MASK, AnswerGradingEngine.createKeyMask(OPTIONS, Arrays.asList("Wren", "Robin")));
+    }
+
+    @Test
+    public void createKeyMask_singleKey_setsSingleBit() throws Exception {
+        assertEquals(1 << 2, AnswerGradingEngine.createKeyMask(OPTIONS, Collections.singletonList("Crow")));
+    }
+
+    @Test
+    public void createKeyMask_noKeyInOptions_returnsZero() throws Exception {
+        assertEquals(0, AnswerGradingEngine.createKeyMask(OPTIONS, Collections.singletonList("Eagle")));
+    }
+
+    @Test
+    public void gradeOptions_exactSelection_isCorrect() throws Exception {
+        assertEquals(AnswerGradingEngine.GRADE_CORRECT, AnswerGradingEngine.gradeOptions(KEY_MASK, KEY_MASK), DELTA);
+    }
+
+    @Test
+    public void gradeOptions_partialSelection_isNormalizedByKeys() throws Exception {
+        assertEquals(0.5, AnswerGradingEngine.gradeOptions(KEY_MASK, 1 << 3), DELTA);
+    }
+
+    @Test
+    public void gradeOptions_supersetSelection_isNormalizedBySelection() throws Exception {
+        //Both Keys selected along with one wrong Option
+        assertEquals(2.0 / 3.0, AnswerGradingEngine.gradeOptions(KEY_MASK, KEY_MASK | 1), DELTA);
+        //Every Option selected
+        assertEquals(0.5, AnswerGradingEngine.gradeOptions(KEY_MASK, 0xF), DELTA);
+    }
+
+    @Test
+    public void gradeOptions_wrongSelection_isIncorrect() throws Exception {
+        assertEquals(AnswerGradingEngine.GRADE_INCORRECT, AnswerGradingEngine.gradeOptions(KEY_MASK, 1 | (1 << 2)), DELTA);
+    }
+
+    @Test
+    public void gradeOptions_emptySelection_isIncorrect() throws Exception {
+        assertEquals(AnswerGradingEngine.GRADE_INCORRECT, AnswerGradingEngine.gradeOptions(KEY_MASK, 0), DELTA);
+        assertEquals(AnswerGradingEngine.GRADE_INCORRECT, AnswerGradingEngine.gradeOptions(0, 0), DELTA);
+    }
+
+    @Test
+    public void gradeTextualAnswer_matchingAnswer_isCorrect() throws Exception {
+        TextualAnswerMatcher answerMatcher = new TextualAnswerMatcher(Arrays.asList("Kingfisher", "Halcyon"));
+
+        assertEquals(AnswerGradingEngine.GRADE_CORRECT,
+                AnswerGradingEngine.gradeTextualAnswer(answerMatcher, "kingfisher"), DELTA);
+        assertEquals(AnswerGradingEngine.GRADE_CORRECT,
+                AnswerGradingEngine.gradeTextualAnswer(answerMatcher, "Halcyon"), DELTA);
+    }
+
+    @Test
+    public void gradeTextualAnswer_otherAnswer_isIncorrect() throws Exception {
+        TextualAnswerMatcher answerMatcher = new TextualAnswerMatcher(Collections.singletonList("Kingfisher"));
+
+        assertEquals(AnswerGradingEngine.GRADE_INCORRECT,
+                AnswerGradingEngine.gradeTextualAnswer(answerMatcher, "Woodpecker"), DELTA);
+        assertEquals(AnswerGradingEngine.GRADE_INCORRECT,
+                AnswerGradingEngine.gradeTextualAnswer(answerMatcher, ""), DELTA);
+    }
+
+}
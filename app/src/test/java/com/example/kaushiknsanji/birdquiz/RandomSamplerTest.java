@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit tests of the {@link RandomSampler}
+ *
+ * @author Kaushik N Sanji
+ */
+public class RandomSamplerTest {
+
+    @Test
+    public void sample_picksDistinctIndicesInRange() throws Exception {
+        RandomSampler randomSampler = new RandomSampler(42L);
+        for (int run = 0; run < 100; run++) {
+            int[] indices = randomSampler.sample(20, 7);
+
+            assertEquals(7, indices.length);
+            boolean[] picked = new boolean[20];
+            for (int index : indices) {
+                assertTrue("Index out of range: " + index, index >= 0 && index < 20);
+                assertFalse("Index picked twice: " + index, picked[index]);
+                picked[index] = true;
+            }
+        }
+    }
+
+    @Test
+    public void sample_allIndices_returnsPermutation() throws Exception {
+        int[] indices = new RandomSampler(7L).sample(10, 10);
+
+        int[] sortedIndices = indices.clone();
+        Arrays.sort(sortedIndices);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, sortedIndices);
+    }
+
+    @Test
+    public void sample_noIndices_returnsEmpty() throws Exception {
+        assertEquals(0, new RandomSampler().sample(10, 0).length);
+        assertEquals(0, new RandomSampler().sample(0, 0).length);
+    }
+
+    @Test
+    public void sample_sameSeed_returnsSameOrder() throws Exception {
+        RandomSampler firstSampler = new RandomSampler(2017L);
+        RandomSampler secondSampler = new RandomSampler(2017L);
+
+        for (int run = 0; run < 10; run++) {
+            assertArrayEquals(firstSampler.sample(50, 12), secondSampler.sample(50, 12));
+        }
+    }
+
+    @Test
+    public void sample_everyIndexCanBePicked() throws Exception {
+        RandomSampler randomSampler = new RandomSampler(1L);
+        boolean[] picked = new boolean[8];
+        for (int run = 0; run < 200; run++) {
+            picked[randomSampler.sample(8, 1)[0]] = true;
+        }
+
+        for (int index = 0; index < picked.length; index++) {
+            assertTrue("Index never picked: " + index, picked[index]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sample_moreThanLength_throws() throws Exception {
+        new RandomSampler().sample(3, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sample_negativeSublength_throws() throws Exception {
+        new RandomSampler().sample(3, -1);
+    }
+
+}
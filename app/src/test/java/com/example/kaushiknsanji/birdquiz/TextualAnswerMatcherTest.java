@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 Kaushik N. Sanji
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.example.kaushiknsanji.birdquiz;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Local unit tests of the {@link TextualAnswerMatcher}
+ *
+ * @author Kaushik N Sanji
+ */
+public class TextualAnswerMatcherTest {
+
+    /**
+     * Method that creates the matcher of the single Key passed
+     *
+     * @param key is the String of the Key
+     * @return Instance of {@link TextualAnswerMatcher} prepared with the Key
+     */
+    private static TextualAnswerMatcher matcherOf(String key) {
+        return new TextualAnswerMatcher(Collections.singletonList(key));
+    }
+
+    @Test
+    public void matches_ignoresCase() throws Exception {
+        TextualAnswerMatcher answerMatcher = matcherOf("Blue Jay");
+
+        assertTrue(answerMatcher.matches("blue jay"));
+        assertTrue(answerMatcher.matches("BLUE JAY"));
+        assertTrue(answerMatcher.matches("bLuE jAy"));
+    }
+
+    @Test
+    public void matches_ignoresSpacingAndPunctuation() throws Exception {
+        TextualAnswerMatcher answerMatcher = matcherOf("Black-capped Chickadee");
+
+        assertTrue(answerMatcher.matches("blackcapped chickadee"));
+        assertTrue(answerMatcher.matches("  Black capped, Chickadee!  "));
+        assertTrue(answerMatcher.matches("black-capped-chickadee"));
+    }
+
+    @Test
+    public void matches_emptyOrPunctuationOnlyAnswer_fails() throws Exception {
+        TextualAnswerMatcher answerMatcher = matcherOf("Jay");
+
+        assertFalse(answerMatcher.matches(""));
+        assertFalse(answerMatcher.matches("   "));
+        assertFalse(answerMatcher.matches("?!-"));
+    }
+
+    @Test
+    public void matches_keyUpToThreeChars_toleratesNoTypo() throws Exception {
+        //At the limit of 3 chars
+        TextualAnswerMatcher answerMatcher = matcherOf("Jay");
+
+        assertTrue(answerMatcher.matches("jay"));
+        assertFalse(answerMatcher.matches("jax"));
+        assertFalse(answerMatcher.matches("ja"));
+        assertFalse(answerMatcher.matches("jays"));
+    }
+
+    @Test
+    public void matches_keyAboveThreeChars_toleratesOneTypo() throws Exception {
+        //Across the limit of 3 chars, at 4 chars
+        TextualAnswerMatcher answerMatcher = matcherOf("Wren");
+
+        assertTrue(answerMatcher.matches("wran"));
+        assertTrue(answerMatcher.matches("wen"));
+        assertTrue(answerMatcher.matches("wrens"));
+        assertFalse(answerMatcher.matches("wxxn"));
+        assertFalse(answerMatcher.matches("we"));
+    }
+
+    @Test
+    public void matches_keyUpToSevenChars_toleratesOneTypo() throws Exception {
+        //At the limit of 7 chars
+        TextualAnswerMatcher answerMatcher = matcherOf("Sparrow");
+
+        assertTrue(answerMatcher.matches("sparow"));
+        assertTrue(answerMatcher.matches("sparrew"));
+        assertFalse(answerMatcher.matches("sprow"));
+        assertFalse(answerMatcher.matches("spirrew"));
+    }
+
+    @Test
+    public void matches_keyAboveSevenChars_toleratesTwoTypos() throws Exception {
+        //Across the limit of 7 chars, at 8 chars
+        TextualAnswerMatcher answerMatcher = matcherOf("Starling");
+
+        assertTrue(answerMatcher.matches("starlng"));
+        assertTrue(answerMatcher.matches("stalng"));
+        assertTrue(answerMatcher.matches("sterlinx"));
+        assertFalse(answerMatcher.matches("stlng"));
+        assertFalse(answerMatcher.matches("sxerlinx x"));
+    }
+
+    @Test
+    public void matches_lengthDifferenceBeyondDistance_fails() throws Exception {
+        //Rejected on the lengths alone, before computing the distance
+        TextualAnswerMatcher answerMatcher = matcherOf("Albatross");
+
+        assertFalse(answerMatcher.matches("alb"));
+        assertFalse(answerMatcher.matches("albatross albatross"));
+    }
+
+    @Test
+    public void matches_distantAnswerOfSameLength_exitsEarlyAndFails() throws Exception {
+        //Every row of the distance exceeds the bound from the first few chars
+        TextualAnswerMatcher answerMatcher = matcherOf("Albatross");
+
+        assertFalse(answerMatcher.matches("zzzzzzzzz"));
+        assertFalse(answerMatcher.matches("xyatross1"));
+        //Matcher is still usable after an early exit
+        assertTrue(answerMatcher.matches("albatros"));
+    }
+
+    @Test
+    public void matches_answerLongerThanBuffer_isMatched() throws Exception {
+        String longKey = "Greater Yellow-headed Vulture of the Amazon Basin";
+        TextualAnswerMatcher answerMatcher = matcherOf(longKey);
+
+        assertTrue(answerMatcher.matches(longKey));
+        assertTrue(answerMatcher.matches("greater yellow headed vulture of the amazon basn"));
+        assertFalse(answerMatcher.matches("lesser yellow headed vulture of the amazon basin"));
+    }
+
+    @Test
+    public void matches_synonymKeys_matchAnyKey() throws Exception {
+        TextualAnswerMatcher answerMatcher = new TextualAnswerMatcher(
+                Arrays.asList("Common Loon", "Great Northern Diver", "Great Northern Loon")
+        );
+
+        assertTrue(answerMatcher.matches("common loon"));
+        assertTrue(answerMatcher.matches("Great Northern Diver"));
+        assertTrue(answerMatcher.matches("great northern lon"));
+        assertFalse(answerMatcher.matches("northern diver"));
+    }
+
+    @Test
+    public void matches_synonymKeys_boundedByOwnLength() throws Exception {
+        //The short synonym tolerates no typo, while the longer answer tolerates one
+        TextualAnswerMatcher answerMatcher = new TextualAnswerMatcher(Arrays.asList("Peafowl", "Pea"));
+
+        assertTrue(answerMatcher.matches("pea"));
+        assertTrue(answerMatcher.matches("peafowel"));
+        assertFalse(answerMatcher.matches("pes"));
+    }
+
+}